@@ -0,0 +1,40 @@
+package com.spring.boilerplate.domain.benchmark.controller;
+
+import com.spring.boilerplate.domain.TestDTO;
+import com.spring.boilerplate.global.api.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * [Benchmark]
+ * LoggingAspect pointcut (@RestController) 에 해당하는 TestController 형태의 측정용 Controller
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/benchmark")
+public class BenchmarkController {
+
+    @GetMapping("/success")
+    public ResponseEntity<ApiResponse<TestDTO>> success(@RequestParam String name, @RequestParam int age) {
+        return ResponseEntity.ok(ApiResponse.success(TestDTO.builder().name(name).age(age).build()));
+    }
+
+    @GetMapping("/blocking")
+    public ResponseEntity<ApiResponse<?>> blocking(@RequestParam(defaultValue = "20") long delayMs) throws InterruptedException {
+        // 외부 I/O 대기를 흉내내는 blocking 구간
+        Thread.sleep(delayMs);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    @PostMapping("/echo")
+    public ResponseEntity<ApiResponse<TestDTO>> echo(@RequestBody TestDTO testDTO) {
+        return ResponseEntity.ok(ApiResponse.success(testDTO));
+    }
+}
@@ -0,0 +1,112 @@
+package com.spring.boilerplate.global.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.domain.TestDTO;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.api.converter.ApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.converter.ResponseBodyProperties;
+import com.spring.boilerplate.global.api.converter.ResponseBodyWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * ApiResponse<TestDTO>, ApiResponse<ErrorData> Jackson 직렬화 비용 측정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponseHttpMessageConverter converter;
+    private final BufferedOutputMessage outputMessage = new BufferedOutputMessage();
+
+    @Setup
+    public void setUp() throws IOException {
+        // Spring MVC 와 동일한 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        converter = new ApiResponseHttpMessageConverter(objectMapper, new ApiResponseBodyCache(objectMapper),
+                new ResponseBodyWriter(new ResponseBodyProperties()));
+    }
+
+    @Benchmark
+    public byte[] success() throws JsonProcessingException {
+        TestDTO testDTO = TestDTO.builder().name("testA").age(30).build();
+        return objectMapper.writeValueAsBytes(ApiResponse.success(testDTO));
+    }
+
+    @Benchmark
+    public byte[] fail() throws JsonProcessingException {
+        ErrorData errorData = ErrorData.builder()
+                .errorCode(ErrorConstant.BAD_REQUEST.getErrorCode())
+                .errorMessage(ErrorConstant.BAD_REQUEST.getErrorMessage())
+                .build();
+        return objectMapper.writeValueAsBytes(ApiResponse.fail(ErrorConstant.BAD_REQUEST.getStatusCode(), errorData));
+    }
+
+    @Benchmark
+    public int converterSuccess() throws IOException {
+        TestDTO testDTO = TestDTO.builder().name("testA").age(30).build();
+        return write(ApiResponse.success(testDTO));
+    }
+
+    @Benchmark
+    public int converterConstantFail() throws IOException {
+        return write(ApiResponse.fail(ErrorConstant.BAD_REQUEST));
+    }
+
+    private int write(ApiResponse<?> response) throws IOException {
+        outputMessage.reset();
+        converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    /**
+     * 재사용 가능한 메모리 버퍼 HttpOutputMessage
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        private HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers = new HttpHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.spring.boilerplate.global.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.spring.boilerplate.domain.TestDTO;
+import com.spring.boilerplate.global.api.protobuf.ProtobufApiResponseCodec;
+import com.spring.boilerplate.global.api.protobuf.ProtobufPayloadMapper;
+import com.spring.boilerplate.global.api.serializer.ApiResponseModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * ApiResponse Envelope 형식 별 (JSON / CBOR / Smile / Protobuf) 인코딩, 디코딩 비용과 크기 비교
+ * 크기는 Trial 시작 시 표준 출력으로 남긴다. ([format/payload] bytes)
+ * Protobuf payload 는 서비스에서 ProtobufPayloadMapper 를 등록한 경우와 같이 Schema (DynamicMessage) 로 변환한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+    private static final int LIST_SIZE = 50;
+
+    public enum Format {
+        JSON, CBOR, SMILE, PROTOBUF
+    }
+
+    public enum Payload {
+        DTO,    // 단건 DTO
+        LIST,   // DTO 목록 (50건)
+        ERROR   // 가변 ErrorData (상수 응답 캐시 미사용)
+    }
+
+    @Param
+    private Format format;
+
+    @Param
+    private Payload payload;
+
+    private ObjectMapper objectMapper;
+    private ProtobufApiResponseCodec codec;
+    private ApiResponse<?> response;
+    private byte[] encoded;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = createObjectMapper(switch (format) {
+            case CBOR -> new CBORFactory();
+            case SMILE -> new SmileFactory();
+            default -> new JsonFactory();
+        });
+        codec = new ProtobufApiResponseCodec(createObjectMapper(new JsonFactory()), TestDTOSchema.mappers());
+        response = switch (payload) {
+            case DTO -> ApiResponse.success(testDTO(0));
+            case LIST -> {
+                List<TestDTO> items = new ArrayList<>(LIST_SIZE);
+                for (int i = 0; i < LIST_SIZE; i++) {
+                    items.add(testDTO(i));
+                }
+                yield ApiResponse.success(items);
+            }
+            case ERROR -> ApiResponse.fail(400, ErrorData.builder()
+                    .errorCode("E400").errorMessage("잘못된 요청 입니다. (name)").build());
+        };
+        encode();
+        encoded = buffer.toByteArray();
+        System.out.printf("[%s/%s] %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        buffer.reset();
+        if (format == Format.PROTOBUF) {
+            codec.encode(response, buffer);
+        } else {
+            objectMapper.writeValue(buffer, response);
+        }
+        return buffer.size();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return format == Format.PROTOBUF ? codec.decode(encoded) : objectMapper.readTree(encoded);
+    }
+
+    private static ObjectMapper createObjectMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json().factory(factory).modules(new ApiResponseModule()).build();
+    }
+
+    private static TestDTO testDTO(int index) {
+        return TestDTO.builder().name("test-user-" + index).age(20 + index % 50).build();
+    }
+
+    /**
+     * TestDTO Protobuf Schema (message TestDTO { string name = 1; int32 age = 2; }, message TestDTOList { repeated TestDTO items = 1; })
+     */
+    private static final class TestDTOSchema {
+        private static final Descriptor TEST_DTO;
+        private static final Descriptor TEST_DTO_LIST;
+
+        static {
+            FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                    .setName("benchmark/test_dto.proto")
+                    .setPackage("boilerplate.benchmark")
+                    .setSyntax("proto3")
+                    .addMessageType(DescriptorProto.newBuilder().setName("TestDTO")
+                            .addField(field("name", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                            .addField(field("age", 2, FieldDescriptorProto.Type.TYPE_INT32)))
+                    .addMessageType(DescriptorProto.newBuilder().setName("TestDTOList")
+                            .addField(field("items", 1, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                    .setLabel(FieldDescriptorProto.Label.LABEL_REPEATED)
+                                    .setTypeName(".boilerplate.benchmark.TestDTO")))
+                    .build();
+            try {
+                FileDescriptor descriptor = FileDescriptor.buildFrom(file, new FileDescriptor[0]);
+                TEST_DTO = descriptor.findMessageTypeByName("TestDTO");
+                TEST_DTO_LIST = descriptor.findMessageTypeByName("TestDTOList");
+            } catch (Exception e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        static List<ProtobufPayloadMapper<?>> mappers() {
+            return List.of(new ProtobufPayloadMapper<TestDTO>() {
+                @Override
+                public Class<TestDTO> getPayloadType() {
+                    return TestDTO.class;
+                }
+
+                @Override
+                public Message toMessage(TestDTO payload) {
+                    return toDynamicMessage(payload);
+                }
+            }, new ProtobufPayloadMapper<List<?>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Class<List<?>> getPayloadType() {
+                    return (Class<List<?>>) (Class<?>) List.class;
+                }
+
+                @Override
+                public Message toMessage(List<?> payload) {
+                    DynamicMessage.Builder builder = DynamicMessage.newBuilder(TEST_DTO_LIST);
+                    for (Object item : payload) {
+                        builder.addRepeatedField(TEST_DTO_LIST.findFieldByNumber(1), toDynamicMessage((TestDTO) item));
+                    }
+                    return builder.build();
+                }
+            });
+        }
+
+        private static DynamicMessage toDynamicMessage(TestDTO testDTO) {
+            return DynamicMessage.newBuilder(TEST_DTO)
+                    .setField(TEST_DTO.findFieldByNumber(1), testDTO.getName())
+                    .setField(TEST_DTO.findFieldByNumber(2), testDTO.getAge())
+                    .build();
+        }
+
+        private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+            return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                    .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.spring.boilerplate.global.common.aop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.domain.TestDTO;
+import com.spring.boilerplate.domain.benchmark.controller.BenchmarkController;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.common.audit.AuditPipeline;
+import com.spring.boilerplate.global.common.audit.AuditProperties;
+import com.spring.boilerplate.global.common.route.RouteRegistry;
+import com.spring.boilerplate.global.monitor.latency.LatencyProperties;
+import com.spring.boilerplate.global.monitor.latency.RouteLatencyHistograms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * 실제 Spring AOP Proxy 를 통한 LoggingAspect.doLogging 비용 측정
+ * direct : Proxy 없이 Controller 직접 호출 (기준값)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Param({"true", "false"})
+    private boolean auditEnabled;
+
+    private BenchmarkController direct;
+    private BenchmarkController proxied;
+    private AuditPipeline auditPipeline;
+    private final TestDTO testDTO = TestDTO.builder().name("testA").age(30).build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(auditEnabled);
+        auditPipeline = new AuditPipeline(properties, objectMapper);
+        auditPipeline.start();
+
+        RouteRegistry routeRegistry = new RouteRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+        LoggingAspect loggingAspect = new LoggingAspect(routeRegistry, auditPipeline,
+                new RouteLatencyHistograms(new LatencyProperties()));
+
+        direct = new BenchmarkController();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new BenchmarkController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(loggingAspect);
+        proxied = proxyFactory.getProxy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        auditPipeline.stop();
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<TestDTO>> direct() {
+        return direct.echo(testDTO);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<TestDTO>> proxiedWithParams() {
+        return proxied.success("testA", 30);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<TestDTO>> proxiedWithDto() {
+        return proxied.echo(testDTO);
+    }
+}
@@ -0,0 +1,168 @@
+package com.spring.boilerplate.global.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Benchmark]
+ * 로그 설정 별 처리량 (events/sec) 과 요청 1건의 로깅 지연 (SampleTime p99)
+ * - PATTERN_SYNC : 현재 CONSOLE 설정 (%method / %line Caller Data, 동기 출력)
+ * - JSON_SYNC    : JsonLogEncoder, 동기 출력
+ * - JSON_ASYNC   : throughput 프로필 (AsyncAppender neverBlock + JsonLogEncoder)
+ * 출력은 버리고 건수만 센다. JSON_ASYNC 는 Queue 가 가득 차면 이벤트를 버리므로 종료 시 출력 / 폐기 건수를 함께 확인한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingThroughputBenchmark {
+    private static final String CURRENT_PATTERN =
+            "[%d{yyyy-MM-dd HH:mm:ss.SSS}][%highlight(%-5level)] %cyan([%logger.%method:line%line]) - %msg%n";
+
+    @Param({"PATTERN_SYNC", "JSON_SYNC", "JSON_ASYNC"})
+    private String configuration;
+
+    private final LongAdder attempted = new LongAdder();
+    private final CountingOutputStream output = new CountingOutputStream();
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+
+    @State(Scope.Thread)
+    public static class RequestContext {
+        @Setup
+        public void setUp() {
+            MDC.put("correlationId", UUID.randomUUID().toString());
+        }
+
+        @TearDown
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        OutputStreamAppender<ILoggingEvent> outputAppender = new OutputStreamAppender<>();
+        outputAppender.setContext(context);
+        outputAppender.setName("BENCHMARK_OUTPUT");
+        outputAppender.setEncoder(encoder(context));
+        outputAppender.setOutputStream(output);
+        outputAppender.start();
+        appender = outputAppender;
+
+        if ("JSON_ASYNC".equals(configuration)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("BENCHMARK_ASYNC");
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.setMaxFlushTime(1000);
+            asyncAppender.addAppender(outputAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        logger = context.getLogger("benchmark.logging." + configuration);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();    // AsyncAppender : 남은 Queue 를 maxFlushTime 까지 출력
+        long total = attempted.sum();
+        long written = output.events.sum();
+        System.out.printf("%n[%s] written %d / %d events (dropped %.2f%%)%n",
+                configuration, written, total, total == 0 ? 0 : (total - written) * 100.0 / total);
+    }
+
+    /**
+     * 처리량 : 호출 스레드 기준 초당 로그 이벤트 수
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void events(RequestContext requestContext) {
+        logger.info("Response : {} {} ({} ms)", "GET", "/response/success", 3);
+        attempted.increment();
+    }
+
+    /**
+     * 요청 1건 (요청 / 응답 로그 2건) 의 로깅 지연 분포
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void request(RequestContext requestContext) {
+        logger.info("Request : {} {}", "GET", "/response/success");
+        logger.info("Response : {} {} ({} ms)", "GET", "/response/success", 3);
+        attempted.add(2);
+    }
+
+    private Encoder<ILoggingEvent> encoder(LoggerContext context) {
+        if ("PATTERN_SYNC".equals(configuration)) {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(CURRENT_PATTERN);
+            encoder.start();
+            return encoder;
+        }
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    /**
+     * 출력 내용은 버리고 write 호출 수 (= 이벤트 수) 만 집계
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final LongAdder events = new LongAdder();
+
+        @Override
+        public void write(int b) {
+            // OutputStreamAppender 는 이벤트 당 write(byte[], int, int) 1회만 호출
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            events.increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.boilerplate.global.common.util;
+
+import com.spring.boilerplate.domain.TestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * ConvertUtil.convertObjectToMap : 기존 Reflection 방식 vs 캐싱 된 MethodHandle 방식 비교
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertUtilBenchmark {
+
+    private final TestDTO testDTO = TestDTO.builder().name("testA").age(30).build();
+
+    @Benchmark
+    public HashMap<String, Object> reflective() throws IllegalAccessException {
+        // 변경 전 구현 (호출 시 마다 getDeclaredFields + setAccessible)
+        Field[] fields = testDTO.getClass().getDeclaredFields();
+        HashMap<String, Object> resultMap = new HashMap<>();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            resultMap.put(field.getName(), field.get(testDTO));
+        }
+        return resultMap;
+    }
+
+    @Benchmark
+    public HashMap<String, Object> accessorPlan() {
+        return ConvertUtil.convertObjectToMap(testDTO);
+    }
+
+    @Benchmark
+    public void accessorPlanSink(Blackhole blackhole) {
+        ConvertUtil.forEachField(testDTO, (name, value) -> {
+            blackhole.consume(name);
+            blackhole.consume(value);
+        });
+    }
+}
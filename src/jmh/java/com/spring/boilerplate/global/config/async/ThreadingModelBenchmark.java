@@ -0,0 +1,108 @@
+package com.spring.boilerplate.global.config.async;
+
+import com.spring.boilerplate.BoilerplateApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * Blocking Endpoint 에 대한 Platform Thread Pool vs Virtual Thread 부하 비교
+ * concurrency 건의 동시 요청이 모두 완료 되는 시간을 측정한다.
+ * virtual 은 Java 21 이상에서만 실행 가능 : ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=ThreadingModel
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadingModelBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"1000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long delayMs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual Thread 비교는 Java 21 이상에서 실행해야 합니다. (-PjavaVersion=21)");
+        }
+        context = new SpringApplicationBuilder(BoilerplateApplication.class)
+                .properties("server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "server.tomcat.max-connections=" + (concurrency * 2),
+                        "server.tomcat.accept-count=" + concurrency,
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "boilerplate.audit.enabled=false",
+                        "boilerplate.admission.enabled=false",
+                        "boilerplate.auth.enabled=false")
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/benchmark/blocking?delayMs=" + delayMs))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int blockingBurst() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<HttpResponse<Void>>[] responses = new CompletableFuture[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(responses).join();
+        // 거부 (401 / 429 / 503 등) 된 응답이 섞이면 처리 시간이 아닌 거부 속도를 측정하게 되므로 실패 처리
+        int failed = 0;
+        int lastStatus = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                failed++;
+                lastStatus = status;
+            }
+        }
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " / " + concurrency + " requests failed (last status " + lastStatus + ")");
+        }
+        return responses.length;
+    }
+}
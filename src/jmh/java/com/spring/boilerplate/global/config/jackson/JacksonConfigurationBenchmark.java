@@ -0,0 +1,96 @@
+package com.spring.boilerplate.global.config.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.spring.boilerplate.domain.TestDTO;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.serializer.ApiResponseModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * Spring Boot 기본 ObjectMapper (boot) vs 공용 설정 ObjectMapper (shared) 처리량 비교
+ * shared = ApiResponse / ErrorData Serializer + Blackbird + 공유 RecyclerPool (JacksonConfig 와 동일)
+ * ./gradlew jmh -PjmhIncludes=JacksonConfiguration
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonConfigurationBenchmark {
+
+    @Param({"boot", "shared"})
+    private String configuration;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<TestDTO> single;
+    private ApiResponse<List<TestDTO>> list;
+    private ApiResponse<ErrorData> fail;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("shared".equals(configuration)) {
+            JacksonConfig config = new JacksonConfig();
+            builder.modulesToInstall(config.apiResponseModule(), new BlackbirdModule());
+            config.recyclerPoolCustomizer(new SerializationProperties()).customize(builder);
+        }
+        objectMapper = builder.build();
+
+        List<TestDTO> items = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            items.add(TestDTO.builder().name("test" + i).age(i).build());
+        }
+        single = ApiResponse.success(TestDTO.builder().name("testA").age(30).build());
+        list = ApiResponse.success(items);
+        fail = ApiResponse.fail(ErrorConstant.BAD_REQUEST.getStatusCode(), ErrorData.builder()
+                .errorCode(ErrorConstant.BAD_REQUEST.getErrorCode())
+                .errorMessage(ErrorConstant.BAD_REQUEST.getErrorMessage())
+                .build());
+    }
+
+    @Benchmark
+    public byte[] single() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] list() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] fail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fail);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public byte[] singleContended() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+}
@@ -0,0 +1,73 @@
+package com.spring.boilerplate.global.exception.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.BusinessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * Exception 발생 -> GlobalApiExceptionHandler 처리 (로그 포함) -> 응답 직렬화 까지의 비용 측정
+ * businessException : stack trace 없는 BusinessException 경로
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalApiExceptionHandlerBenchmark {
+
+    private GlobalApiExceptionHandler handler;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalApiExceptionHandler(new ErrorLogPolicy(new ErrorLogProperties()), new ErrorMetrics());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public byte[] illegalArgument() throws JsonProcessingException {
+        try {
+            throw new IllegalArgumentException("benchmark");
+        } catch (IllegalArgumentException e) {
+            return objectMapper.writeValueAsBytes(handler.handleIllegalArgumentException(e));
+        }
+    }
+
+    @Benchmark
+    public byte[] missingParameter() throws JsonProcessingException {
+        try {
+            throw new MissingServletRequestParameterException("name", "String");
+        } catch (MissingServletRequestParameterException e) {
+            return objectMapper.writeValueAsBytes(handler.handleMissingRequestHeaderExceptionException(e));
+        }
+    }
+
+    @Benchmark
+    public byte[] businessException() throws JsonProcessingException {
+        try {
+            throw new BusinessException(ErrorConstant.BAD_REQUEST_PARAMETER);
+        } catch (BusinessException e) {
+            return objectMapper.writeValueAsBytes(handler.handleBusinessException(e).getBody());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.spring.boilerplate.global.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Benchmark]
+ * 요청 당 Access Token 검증 비용 : 검증 결과 Cache 사용 (cached=true) vs 매 요청 서명 검증 / Claim 해석 (cached=false)
+ * ./gradlew jmh -PjmhIncludes=AccessTokenVerifier
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessTokenVerifierBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private AccessTokenVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        AuthProperties properties = new AuthProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString("benchmark-secret-key-0123456789-abcdefghij".getBytes()));
+        properties.getVerifiedCache().setEnabled(cached);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(properties);
+        verifier = new AccessTokenVerifier(tokenProvider, properties.getVerifiedCache());
+        token = tokenProvider.createToken(TokenType.ACCESS, "benchmark-user", "benchmark-session",
+                List.of("USER"), Instant.now());
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VerifiedToken verifyContended() {
+        return verifier.verify(token);
+    }
+}
@@ -0,0 +1,128 @@
+package com.spring.boilerplate.global.websocket;
+
+import com.spring.boilerplate.BoilerplateApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [Benchmark]
+ * WebSocket Broadcast 부하 측정
+ * 애플리케이션을 임의 포트로 기동 후 clients 개의 in-process WebSocket Client 를 연결하고,
+ * Broadcast 1건이 전체 Client 에 도달하는 처리량을 측정한다. (score = 전체 Client 수신 완료 기준 broadcast/s)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512k"})
+public class WebSocketBroadcastBenchmark {
+    private static final int MESSAGES_PER_INVOCATION = 100;
+
+    @Param({"1000"})
+    private int clients;
+
+    private ConfigurableApplicationContext context;
+    private BroadcastEngine broadcastEngine;
+    private final List<WebSocketSession> sessions = new ArrayList<>();
+    private final AtomicLong received = new AtomicLong();
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(BoilerplateApplication.class)
+                .properties("server.port=0",
+                        "server.tomcat.max-connections=" + (clients * 2),
+                        "boilerplate.audit.enabled=false",
+                        "boilerplate.admission.enabled=false",
+                        "boilerplate.websocket.broadcast.queue-capacity=100000",
+                        "boilerplate.websocket.broadcast.lag-threshold=100000",
+                        "boilerplate.websocket.broadcast.max-lag-millis=60000")
+                .run();
+        broadcastEngine = context.getBean(BroadcastEngine.class);
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String endpoint = context.getBean(BroadcastProperties.class).getEndpoint();
+
+        StandardWebSocketClient client = new StandardWebSocketClient();
+        CountingHandler handler = new CountingHandler(received);
+        for (int i = 0; i < clients; i++) {
+            sessions.add(client.execute(handler, "ws://localhost:" + port + endpoint).get(10, TimeUnit.SECONDS));
+        }
+        while (broadcastEngine.getSessionCount() < clients) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        for (WebSocketSession session : sessions) {
+            session.close();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public long broadcast() {
+        long expected = received.get() + (long) MESSAGES_PER_INVOCATION * clients;
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            broadcastEngine.broadcast(Map.of("seq", sequence++));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.get() < expected - broadcastEngine.getDroppedFrames() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(100_000);
+        }
+        return received.get();
+    }
+
+    /**
+     * 수신 한 메시지 수 집계 (batch 배열은 원소 수 만큼 집계)
+     */
+    private static final class CountingHandler extends TextWebSocketHandler {
+        private final AtomicLong received;
+
+        CountingHandler(AtomicLong received) {
+            this.received = received;
+        }
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            String payload = message.getPayload();
+            long count = 0;
+            for (int i = 0; i < payload.length(); i++) {
+                if (payload.charAt(i) == '{') {
+                    count++;
+                }
+            }
+            received.addAndGet(count);
+        }
+    }
+}
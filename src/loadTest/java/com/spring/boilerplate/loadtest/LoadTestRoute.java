@@ -0,0 +1,33 @@
+package com.spring.boilerplate.loadtest;
+
+/**
+ * [LoadTest]
+ * 부하 대상 요청 1개 (ex. "GET /response/load/success?name=testA&age=30", "POST /response/load/echo {json}")
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+record LoadTestRoute(String method, String pathAndQuery, String body) {
+
+    /**
+     * "METHOD PATH [BODY]" 형식 파싱
+     * @param spec 요청 정의
+     * @return LoadTestRoute
+     */
+    static LoadTestRoute parse(String spec) {
+        String[] parts = spec.trim().split("\\s+", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Route must be 'METHOD PATH [BODY]' : " + spec);
+        }
+        return new LoadTestRoute(parts[0].toUpperCase(), parts[1], parts.length == 3 ? parts[2] : null);
+    }
+
+    /**
+     * 리포트 Key (Query 제외)
+     * @return String
+     */
+    String name() {
+        int query = pathAndQuery.indexOf('?');
+        return method + " " + (query < 0 ? pathAndQuery : pathAndQuery.substring(0, query));
+    }
+}
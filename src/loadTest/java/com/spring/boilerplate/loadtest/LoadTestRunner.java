@@ -0,0 +1,102 @@
+package com.spring.boilerplate.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.boilerplate.BoilerplateApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [LoadTest]
+ * 애플리케이션을 임의 포트로 기동하고 Open Model 부하를 걸어 Route 별 처리량 / 응답 시간 분포를 JSON 으로 저장
+ * ./gradlew loadTest 로 실행하며, 설정은 System Property (loadtest.*) 로 전달 받는다.
+ * - loadtest.rate : 초당 요청 수 (전체 Route 합)
+ * - loadtest.warmup-seconds / loadtest.duration-seconds : Warmup (결과 제외) / 측정 구간
+ * - loadtest.routes : "METHOD PATH [BODY]" 목록 (';' 구분)
+ * - loadtest.timeout-millis / loadtest.max-in-flight : 요청 timeout / 동시 요청 상한
+ * - loadtest.report : 결과 파일
+ * 프로그램 인자는 그대로 애플리케이션 인자로 전달된다. (ex. --spring.profiles.active=throughput)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class LoadTestRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final String DEFAULT_ROUTES = "GET /response/load/success?name=testA&age=30;"
+            + "GET /response/load/blocking?delayMs=20;"
+            + "POST /response/load/echo {\"name\":\"testA\",\"age\":30}";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "300"));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+        Duration timeout = Duration.ofMillis(Long.getLong("loadtest.timeout-millis", 10_000));
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 10_000);
+        File reportFile = new File(System.getProperty("loadtest.report", "build/reports/loadtest/loadtest.json"));
+        List<LoadTestRoute> routes = Arrays.stream(System.getProperty("loadtest.routes", DEFAULT_ROUTES).split(";"))
+                .filter(spec -> !spec.isBlank())
+                .map(LoadTestRoute::parse)
+                .toList();
+
+        // 처리량 측정이 목적이므로 클라이언트 별 Rate Limit 은 끈다 (동시 요청 제한은 유지)
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BoilerplateApplication.class)
+                .properties("server.port=0", "boilerplate.admission.rate-limit.enabled=false")
+                .run(args);
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            OpenModelLoadGenerator generator =
+                    new OpenModelLoadGenerator("http://localhost:" + port, routes, maxInFlight, timeout);
+            if (!warmup.isZero()) {
+                generator.run(rate, warmup);
+            }
+            Map<String, RouteStatistic> statistics = generator.run(rate, duration);
+            writeReport(reportFile, rate, warmup, duration, statistics);
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void writeReport(File reportFile, double rate, Duration warmup, Duration duration,
+                                    Map<String, RouteStatistic> statistics) throws Exception {
+        double seconds = duration.toMillis() / 1000d;
+        RouteStatistic total = new RouteStatistic();
+        Map<String, Object> routeReports = new LinkedHashMap<>();
+        statistics.forEach((name, statistic) -> {
+            statistic.addTo(total);
+            routeReports.put(name, statistic.toReport(seconds));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetRate", rate);
+        report.put("warmupSeconds", warmup.toSeconds());
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("total", total.toReport(seconds));
+        report.put("routes", routeReports);
+
+        File directory = reportFile.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+    }
+}
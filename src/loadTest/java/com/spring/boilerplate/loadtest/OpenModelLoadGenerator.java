@@ -0,0 +1,121 @@
+package com.spring.boilerplate.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [LoadTest]
+ * Open Model (고정 도착률) 부하 생성기
+ * i 번째 요청의 예정 시각 = 시작 + i / rate 로 고정하고, 응답을 기다리지 않고 비동기로 전송한다.
+ * 서버가 느려져도 전송 간격이 늘어나지 않으며, 응답 시간은 예정 시각부터 측정한다. (coordinated omission 보정)
+ * 생성기가 늦어진 경우에도 예정 시각을 기준으로 측정하므로 지연이 결과에서 사라지지 않는다.
+ * 요청은 Route 목록을 순서대로 돌아가며 선택한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class OpenModelLoadGenerator {
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final HttpClient client;
+    private final List<LoadTestRoute> routes;
+    private final List<HttpRequest> requests;
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelLoadGenerator(String baseUrl, List<LoadTestRoute> routes, int maxInFlight, Duration timeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        this.routes = List.copyOf(routes);
+        this.requests = routes.stream().map(route -> toRequest(baseUrl, route, timeout)).toList();
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 고정 도착률로 부하를 생성하고 남은 응답을 기다린 후 Route 별 결과 반환
+     * @param ratePerSecond 초당 요청 수
+     * @param duration 전송 구간 길이
+     * @return Map<Route 이름, RouteStatistic>
+     */
+    Map<String, RouteStatistic> run(double ratePerSecond, Duration duration) throws InterruptedException {
+        Map<String, RouteStatistic> statistics = new LinkedHashMap<>();
+        RouteStatistic[] byIndex = new RouteStatistic[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            byIndex[i] = statistics.computeIfAbsent(routes.get(i).name(), name -> new RouteStatistic());
+        }
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended - end >= 0) {
+                break;
+            }
+            waitUntil(intended);
+            int index = (int) (i % routes.size());
+            send(requests.get(index), byIndex[index], intended);
+        }
+
+        // 남은 응답 대기 (요청 timeout 이후에는 모두 완료 / 실패 처리 됨)
+        long drainDeadline = System.nanoTime() + timeout.toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+            Thread.sleep(10);
+        }
+        return statistics;
+    }
+
+    private void send(HttpRequest request, RouteStatistic statistic, long intended) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            statistic.recordSaturated();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    statistic.record(System.nanoTime() - intended,
+                            error == null && response.statusCode() >= 200 && response.statusCode() < 300);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    /**
+     * parkNanos 는 수십 µs 단위로 늦게 깨어나므로 마지막 구간은 spin
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static HttpRequest toRequest(String baseUrl, LoadTestRoute route, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + route.pathAndQuery()))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (route.body() == null) {
+            builder.method(route.method(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(route.method(), HttpRequest.BodyPublishers.ofString(route.body()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.spring.boilerplate.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [LoadTest]
+ * Route 별 응답 시간 분포 (µs) 와 성공 / 실패 건수
+ * 응답 시간은 실제 전송 시각이 아닌 예정 시각 (intended start) 부터 측정하여 coordinated omission 을 보정한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class RouteStatistic {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder saturated = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        (success ? succeeded : failed).increment();
+    }
+
+    /**
+     * 동시 요청 상한 초과로 전송하지 못한 요청 (실패로 집계)
+     */
+    void recordSaturated() {
+        saturated.increment();
+    }
+
+    long errors() {
+        return failed.sum() + saturated.sum();
+    }
+
+    long requests() {
+        return succeeded.sum() + errors();
+    }
+
+    /**
+     * 리포트 항목 (시간 단위 ms)
+     * @param seconds 측정 구간 길이
+     * @return Map
+     */
+    Map<String, Object> toReport(double seconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests());
+        report.put("errors", errors());
+        report.put("saturated", saturated.sum());
+        report.put("errorRate", requests() == 0 ? 0d : (double) errors() / requests());
+        report.put("throughput", succeeded.sum() / seconds);
+        report.put("p50Ms", percentile(50));
+        report.put("p90Ms", percentile(90));
+        report.put("p99Ms", percentile(99));
+        report.put("p999Ms", percentile(99.9));
+        report.put("maxMs", latency.getMaxValue() / 1000d);
+        return report;
+    }
+
+    void addTo(RouteStatistic total) {
+        total.latency.add(latency);
+        total.succeeded.add(succeeded.sum());
+        total.failed.add(failed.sum());
+        total.saturated.add(saturated.sum());
+    }
+
+    private double percentile(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000d;
+    }
+}
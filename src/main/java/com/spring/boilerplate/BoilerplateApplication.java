@@ -2,8 +2,10 @@ package com.spring.boilerplate;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class BoilerplateApplication {
     public static void main(String[] args) {
         SpringApplication.run(BoilerplateApplication.class, args);
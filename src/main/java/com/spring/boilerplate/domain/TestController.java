@@ -2,15 +2,23 @@ package com.spring.boilerplate.domain;
 
 import com.spring.boilerplate.global.api.ApiResponse;
 import com.spring.boilerplate.global.api.ErrorData;
+import com.spring.boilerplate.global.api.StreamingApiResponse;
 import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.common.aop.SingleFlight;
+import com.spring.boilerplate.global.exception.BusinessException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.stream.IntStream;
+
 @RestController
 @RequestMapping("/response")
 public class TestController {
+    private static final int MAX_STREAM_SIZE = 10_000;  // 인증 없이 호출 가능한 경로이므로 응답 크기 제한
 
     @GetMapping("/success")
     public ResponseEntity<ApiResponse<TestDTO>> success() {
@@ -18,14 +26,25 @@ public class TestController {
         return ResponseEntity.ok(ApiResponse.success(testDTO));
     }
 
+    @SingleFlight(reuseMillis = 100)
+    @GetMapping("/single-flight")
+    public ResponseEntity<ApiResponse<TestDTO>> singleFlight() {
+        TestDTO testDTO = TestDTO.builder().name("testA").age(30).build();
+        return ResponseEntity.ok(ApiResponse.success(testDTO));
+    }
+
     @GetMapping("/fail")
     public ResponseEntity<ApiResponse<ErrorData>> fail() {
-        ErrorData errorData =
-                ErrorData.builder()
-                        .errorCode(ErrorConstant.BAD_REQUEST.getErrorCode())
-                        .errorMessage(ErrorConstant.BAD_REQUEST.getErrorMessage())
-                        .build();
-        return ResponseEntity.status(ErrorConstant.BAD_REQUEST.getStatusCode()).body(ApiResponse.fail(ErrorConstant.BAD_REQUEST.getStatusCode(), errorData));
+        return ResponseEntity.status(ErrorConstant.BAD_REQUEST.getStatusCode()).body(ApiResponse.fail(ErrorConstant.BAD_REQUEST));
+    }
+
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public StreamingApiResponse<TestDTO> stream(@RequestParam(defaultValue = "1000") int size) {
+        if (size < 0 || size > MAX_STREAM_SIZE) {
+            throw new BusinessException(ErrorConstant.BAD_REQUEST);
+        }
+        return StreamingApiResponse.success(IntStream.range(0, size)
+                .mapToObj(i -> TestDTO.builder().name("test" + i).age(i % 100).build()));
     }
 
 }
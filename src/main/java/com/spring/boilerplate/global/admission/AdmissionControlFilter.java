@@ -0,0 +1,257 @@
+package com.spring.boilerplate.global.admission;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Admission]
+ * 클라이언트 별 Rate limit (429) 및 전체 동시 처리 한도 (503) 를 DispatcherServlet 이전에 적용하는 Filter
+ * 거부 응답은 ApiResponseBodyCache 에 미리 생성 된 ApiResponse.fail 바이트를 그대로 출력하며 예외를 만들지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter implements MetricsExporter {
+
+    private final List<PathPattern> excludedPaths = new ArrayList<>();
+    private final List<RouteLimiter> routeLimiters = new ArrayList<>();
+    private final GcraRateLimiter defaultLimiter;
+    private final ClientKeyResolver keyResolver;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final boolean websocketUpgradeExempt;
+    private final Map<ErrorConstant, byte[]> rejectBodies = new EnumMap<>(ErrorConstant.class);
+    private final ErrorMetrics errorMetrics;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public AdmissionControlFilter(AdmissionProperties properties, ApiResponseBodyCache bodyCache,
+                                  ErrorMetrics errorMetrics) {
+        AdmissionProperties.RateLimit rateLimit = properties.getRateLimit();
+        for (String pattern : properties.getExcludedPaths()) {
+            excludedPaths.add(PathPatternParser.defaultInstance.parse(pattern));
+        }
+        if (rateLimit.isEnabled()) {
+            rateLimit.getRoutes().forEach((pattern, limit) -> routeLimiters.add(
+                    new RouteLimiter(PathPatternParser.defaultInstance.parse(pattern), createLimiter(rateLimit, limit))));
+            this.defaultLimiter = createLimiter(rateLimit, rateLimit.getDefaults());
+            this.keyResolver = new ClientKeyResolver(rateLimit);
+        } else {
+            this.defaultLimiter = null;
+            this.keyResolver = null;
+        }
+        this.websocketUpgradeExempt = rateLimit.isWebsocketUpgradeExempt();
+        AdmissionProperties.Concurrency concurrency = properties.getConcurrency();
+        this.concurrencyLimiter = concurrency.isEnabled() && concurrency.getMaxConcurrentRequests() > 0
+                ? new ConcurrencyLimiter(concurrency.getMaxConcurrentRequests())
+                : null;
+        this.errorMetrics = errorMetrics;
+        rejectBodies.put(ErrorConstant.TOO_MANY_REQUESTS, bodyCache.getBody(ErrorConstant.TOO_MANY_REQUESTS));
+        rejectBodies.put(ErrorConstant.SERVICE_UNAVAILABLE, bodyCache.getBody(ErrorConstant.SERVICE_UNAVAILABLE));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !excludedPaths.isEmpty() && isExcluded(path(request));
+    }
+
+    /**
+     * Rate limit 클라이언트 Key (Rate limit 미사용 시 null)
+     * Filter 를 거치지 않는 하위 요청 (/batch) 의 Permit 을 원 요청과 같은 Key 로 소모하기 위해 사용한다.
+     * @param request 원 요청
+     * @return String
+     */
+    public String resolveClientKey(HttpServletRequest request) {
+        return keyResolver != null ? keyResolver.resolve(request) : null;
+    }
+
+    /**
+     * Filter 를 거치지 않는 하위 요청 (/batch) 에 하위 요청 경로 기준 Rate limit 적용
+     * @param path 하위 요청 경로 (Context Path, Query 제외)
+     * @param clientKey resolveClientKey 결과
+     * @return 다음 Permit 까지 대기 시간 (ns), 허용 시 0
+     */
+    public long tryAcquire(String path, String clientKey) {
+        if (keyResolver == null || clientKey == null) {
+            return 0;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        if (isExcluded(container)) {
+            return 0;
+        }
+        long wait = limiter(container).tryAcquire(clientKey, System.nanoTime());
+        if (wait > 0) {
+            rateLimited.increment();
+        }
+        return wait;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (keyResolver != null && !(websocketUpgradeExempt && isWebSocketUpgrade(request))) {
+            long wait = limiter(routeLimiters.isEmpty() ? null : path(request)).tryAcquire(keyResolver.resolve(request), System.nanoTime());
+            if (wait > 0) {
+                rateLimited.increment();
+                reject(response, ErrorConstant.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+                return;
+            }
+        }
+        if (concurrencyLimiter == null) {
+            admitted.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            reject(response, ErrorConstant.SERVICE_UNAVAILABLE, 1);
+            return;
+        }
+        admitted.increment();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // 비동기 처리 (Streaming 등) 는 완료 시점에 반환
+                request.getAsyncContext().addListener(new ReleaseListener(concurrencyLimiter));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_admission_requests_total Requests by admission decision\n");
+        out.append("# TYPE boilerplate_admission_requests_total counter\n");
+        out.append("boilerplate_admission_requests_total{result=\"admitted\"} ").append(admitted.sum()).append('\n');
+        out.append("boilerplate_admission_requests_total{result=\"rate_limited\"} ").append(rateLimited.sum()).append('\n');
+        out.append("boilerplate_admission_requests_total{result=\"shed\"} ").append(shed.sum()).append('\n');
+        if (concurrencyLimiter != null) {
+            out.append("# HELP boilerplate_admission_in_flight Requests currently admitted\n");
+            out.append("# TYPE boilerplate_admission_in_flight gauge\n");
+            out.append("boilerplate_admission_in_flight ").append(concurrencyLimiter.inFlight()).append('\n');
+        }
+        if (defaultLimiter != null) {
+            int keys = defaultLimiter.size();
+            for (RouteLimiter routeLimiter : routeLimiters) {
+                keys += routeLimiter.limiter().size();
+            }
+            out.append("# HELP boilerplate_admission_rate_limit_keys Client keys tracked by the rate limiter\n");
+            out.append("# TYPE boilerplate_admission_rate_limit_keys gauge\n");
+            out.append("boilerplate_admission_rate_limit_keys ").append(keys).append('\n');
+        }
+    }
+
+    private boolean isExcluded(PathContainer path) {
+        for (PathPattern pattern : excludedPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private GcraRateLimiter limiter(PathContainer path) {
+        if (path != null) {
+            for (RouteLimiter routeLimiter : routeLimiters) {
+                if (routeLimiter.pattern().matches(path)) {
+                    return routeLimiter.limiter();
+                }
+            }
+        }
+        return defaultLimiter;
+    }
+
+    private void reject(HttpServletResponse response, ErrorConstant errorConstant, long retryAfterSeconds) throws IOException {
+        errorMetrics.increment(errorConstant);
+        byte[] body = rejectBodies.get(errorConstant);
+        response.setStatus(errorConstant.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean isWebSocketUpgrade(HttpServletRequest request) {
+        return "websocket".equalsIgnoreCase(request.getHeader(HttpHeaders.UPGRADE));
+    }
+
+    private static PathContainer path(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int contextLength = request.getContextPath().length();
+        return PathContainer.parsePath(contextLength > 0 ? uri.substring(contextLength) : uri);
+    }
+
+    private static GcraRateLimiter createLimiter(AdmissionProperties.RateLimit rateLimit, AdmissionProperties.Limit limit) {
+        return new GcraRateLimiter(limit.getPermitsPerSecond(), limit.getBurst(),
+                rateLimit.getMaxKeys(), rateLimit.getSweepIntervalMillis());
+    }
+
+    private record RouteLimiter(PathPattern pattern, GcraRateLimiter limiter) {
+    }
+
+    /**
+     * 비동기 요청 종료 시 동시 처리 한도 반환 (complete / error / timeout 중 1번만)
+     */
+    private static final class ReleaseListener implements AsyncListener {
+        private final ConcurrencyLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseListener(ConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+}
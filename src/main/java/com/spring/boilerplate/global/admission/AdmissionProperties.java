@@ -0,0 +1,55 @@
+package com.spring.boilerplate.global.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Admission]
+ * 클라이언트 별 Rate limit 및 동시 처리 한도 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private List<String> excludedPaths = new ArrayList<>(List.of("/internal/**"));  // 제한 제외 경로 (지표 수집 등)
+    private RateLimit rateLimit = new RateLimit();
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private ClientKeyType key = ClientKeyType.IP;           // 클라이언트 식별 기준
+        private String keyHeader = "X-Client-Id";               // key=HEADER 인 경우 사용 할 Header
+        private boolean trustForwardedFor = false;              // Proxy 뒤에서 X-Forwarded-For 를 신뢰할지 여부
+        private Limit defaults = new Limit();                   // Route 별 설정이 없는 경로에 적용
+        private Map<String, Limit> routes = new LinkedHashMap<>();  // Path 패턴 별 설정 (먼저 선언 된 패턴 우선)
+        private int maxKeys = 100_000;                          // Route 별 보관 할 클라이언트 최대 수 (초과 시 공용 bucket 사용)
+        private long sweepIntervalMillis = 10_000;              // 가득 찬 (idle) bucket 정리 주기
+        private boolean websocketUpgradeExempt = true;          // WebSocket Upgrade 요청은 Rate limit 제외 (연결 1건 = 장기 세션, 동시 처리 한도는 적용)
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private double permitsPerSecond = 50;   // 초당 허용 요청 수 (평균)
+        private int burst = 100;                // 순간 최대 허용 요청 수
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int maxConcurrentRequests = 200;    // 동시 처리 최대 요청 수 (Tomcat max-threads 보다 작게 설정 시 Pool 포화 전에 503)
+    }
+}
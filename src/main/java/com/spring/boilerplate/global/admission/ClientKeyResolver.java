@@ -0,0 +1,53 @@
+package com.spring.boilerplate.global.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * [Admission]
+ * 요청에서 Rate limit 클라이언트 Key 추출
+ * Key 종류 별로 prefix 를 붙여 IP 와 Header 값이 같은 bucket 을 공유하지 않도록 한다.
+ * 인증 이전 단계에서 실행되므로 검증되지 않은 토큰 Claim (sub 등) 은 Key 로 사용하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class ClientKeyResolver {
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final ClientKeyType type;
+    private final String header;
+    private final boolean trustForwardedFor;
+
+    ClientKeyResolver(AdmissionProperties.RateLimit properties) {
+        this.type = properties.getKey();
+        this.header = properties.getKeyHeader();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+    }
+
+    String resolve(HttpServletRequest request) {
+        String key = switch (type) {
+            case HEADER -> prefixed("h:", request.getHeader(header));
+            case IP -> null;
+        };
+        return key != null ? key : "ip:" + clientIp(request);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static String prefixed(String prefix, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        // 임의 길이 Header 로 Key 저장소 메모리를 늘리지 못하도록 길이 제한
+        return prefix + (value.length() > MAX_KEY_LENGTH ? value.substring(0, MAX_KEY_LENGTH) : value);
+    }
+}
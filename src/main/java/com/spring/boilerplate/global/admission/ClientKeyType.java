@@ -0,0 +1,13 @@
+package com.spring.boilerplate.global.admission;
+
+/**
+ * [Admission]
+ * Rate limit 클라이언트 식별 기준
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public enum ClientKeyType {
+    IP,             // 클라이언트 IP (trust-forwarded-for 설정 시 X-Forwarded-For 첫 번째 값)
+    HEADER,         // 지정 Header 값 (없으면 IP)
+}
@@ -0,0 +1,35 @@
+package com.spring.boilerplate.global.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [Admission]
+ * 동시 처리 요청 수 제한 (대기열 없이 즉시 거부)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class ConcurrencyLimiter {
+    private final int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    ConcurrencyLimiter(int limit) {
+        this.limit = limit;
+    }
+
+    boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,92 @@
+package com.spring.boilerplate.global.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Admission]
+ * GCRA (Generic Cell Rate Algorithm) 기반 Token bucket Rate limiter
+ * 클라이언트 별 상태는 다음 요청 허용 시각 (TAT) 하나뿐이며 AtomicLong CAS 로만 갱신한다. (lock 없음)
+ * Key 저장소는 lock-striped ConcurrentHashMap 을 사용하고, 메모리는 다음과 같이 제한한다.
+ * 1. bucket 이 가득 찬 (TAT 가 현재 시각 이전) Key 는 정리 주기마다 제거 (제거해도 상태 손실 없음)
+ * 2. Key 수가 상한에 도달하면 즉시 정리하고, 그래도 가득 찬 경우 신규 Key 는 공용 bucket 을 함께 사용
+ * 정리는 별도 스레드 없이 주기가 지난 뒤 처음 들어온 요청 1건이 수행한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class GcraRateLimiter {
+    private final long emissionIntervalNanos;   // 요청 1건 당 소비 시간
+    private final long burstNanos;              // 허용 가능한 최대 선행 시간 (burst * emissionInterval)
+    private final int maxKeys;
+    private final long sweepIntervalNanos;
+    private final ConcurrentHashMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicLong nextSweepNanos;
+
+    public GcraRateLimiter(double permitsPerSecond, int burst, int maxKeys, long sweepIntervalMillis) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be > 0 and burst >= 1");
+        }
+        long now = System.nanoTime();
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+        this.overflow = new AtomicLong(now);
+        this.nextSweepNanos = new AtomicLong(now + sweepIntervalNanos);
+    }
+
+    /**
+     * 요청 1건 허용 시도
+     * @param key 클라이언트 Key
+     * @param now System.nanoTime()
+     * @return 허용 시 0, 거부 시 다음 요청이 허용되기까지 남은 시간 (ns)
+     */
+    public long tryAcquire(String key, long now) {
+        long nextSweep = nextSweepNanos.get();
+        if (now - nextSweep >= 0 && nextSweepNanos.compareAndSet(nextSweep, now + sweepIntervalNanos)) {
+            sweep(now);
+        }
+        AtomicLong state = state(key, now);
+        while (true) {
+            long tat = state.get();
+            long next = (tat - now > 0 ? tat : now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 클라이언트 Key 수
+     * @return int
+     */
+    public int size() {
+        return states.size();
+    }
+
+    private AtomicLong state(String key, long now) {
+        AtomicLong state = states.get(key);
+        if (state != null) {
+            return state;
+        }
+        if (states.size() >= maxKeys) {
+            sweep(now);
+            if (states.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return states.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void sweep(long now) {
+        // 제거와 동시에 갱신 된 요청 1건은 기록되지 않을 수 있으나 (느슨한 방향) lock 없이 정리하기 위해 허용
+        states.values().removeIf(state -> state.get() - now <= 0);
+    }
+}
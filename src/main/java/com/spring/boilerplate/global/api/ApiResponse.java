@@ -1,10 +1,16 @@
 package com.spring.boilerplate.global.api;
 
-import lombok.AccessLevel;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * [API Response]
  * API 응답 공통 포맷 정의
@@ -18,9 +24,21 @@ public class ApiResponse<T> {
     private static final String FAIL_STATUS = "fail";
     private static int SUCCESS_STATUS_CODE = 200;
     private static int FAIL_STATUS_CODE = 400;
-    private String status;	// 응답 성공, 실패 여부
-    private int statusCode;	// HttpStatus Code
-    private T data;		// 응답 데이터
+    private static final ApiResponse<?> SUCCESS_EMPTY = new ApiResponse<>(SUCCESS_STATUS, SUCCESS_STATUS_CODE, null);
+    private static final Map<ErrorConstant, ApiResponse<ErrorData>> FAIL_RESPONSES = new EnumMap<>(ErrorConstant.class);
+    private static final Map<FailKey, ApiResponse<ErrorData>> FAIL_RESPONSES_BY_CODE = new HashMap<>();
+
+    static {
+        for (ErrorConstant errorConstant : ErrorConstant.values()) {
+            ApiResponse<ErrorData> response = new ApiResponse<>(FAIL_STATUS, errorConstant.getStatusCode(), ErrorData.of(errorConstant));
+            FAIL_RESPONSES.put(errorConstant, response);
+            FAIL_RESPONSES_BY_CODE.put(new FailKey(errorConstant.getStatusCode(), errorConstant.getErrorCode()), response);
+        }
+    }
+
+    private final String status;	// 응답 성공, 실패 여부
+    private final int statusCode;	// HttpStatus Code
+    private final T data;		// 응답 데이터
 
     private ApiResponse(String status, int statusCode, T data) {
         this.status = status;
@@ -64,7 +82,7 @@ public class ApiResponse<T> {
      * @return ApiResponse<T>
      */
     public static ApiResponse<?> success() {
-        return new ApiResponse<>(SUCCESS_STATUS, SUCCESS_STATUS_CODE, null);
+        return SUCCESS_EMPTY;
     }
 
     /**
@@ -74,7 +92,18 @@ public class ApiResponse<T> {
      * @return ApiResponse<errorData>
      */
     public static ApiResponse<ErrorData> fail(int statusCode, ErrorData errorData) {
-        return new ApiResponse<>(FAIL_STATUS, statusCode, errorData);
+        ApiResponse<ErrorData> constant = findConstant(statusCode, errorData);
+        return constant != null ? constant : new ApiResponse<>(FAIL_STATUS, statusCode, errorData);
+    }
+
+    /**
+     * [Fail Response]
+     * ErrorConstant 에 해당하는 공유 응답 (매 요청 생성하지 않음)
+     * @param errorConstant ErrorConstant
+     * @return ApiResponse<errorData>
+     */
+    public static ApiResponse<ErrorData> fail(ErrorConstant errorConstant) {
+        return FAIL_RESPONSES.get(errorConstant);
     }
 
 
@@ -85,8 +114,34 @@ public class ApiResponse<T> {
      * @return ApiResponse<errorData>
      */
     public static ApiResponse<ErrorData> fail(HttpStatus httpStatus, ErrorData errorData) {
-        return new ApiResponse<>(FAIL_STATUS, httpStatus.value(), errorData);
+        return fail(httpStatus.value(), errorData);
     }
 
+    /**
+     * 공유 되는 상수 응답 전체 (success() + ErrorConstant 별 fail)
+     * 기동 시 JSON 바이트를 미리 생성하는 용도
+     * @return List<ApiResponse<?>>
+     */
+    public static List<ApiResponse<?>> constantResponses() {
+        List<ApiResponse<?>> responses = new ArrayList<>(FAIL_RESPONSES.size() + 1);
+        responses.add(SUCCESS_EMPTY);
+        responses.addAll(FAIL_RESPONSES.values());
+        return Collections.unmodifiableList(responses);
+    }
+
+    private static ApiResponse<ErrorData> findConstant(int statusCode, ErrorData errorData) {
+        if (errorData == null) {
+            return null;
+        }
+        ApiResponse<ErrorData> constant = FAIL_RESPONSES_BY_CODE.get(new FailKey(statusCode, errorData.getErrorCode()));
+        // 같은 errorCode 라도 직접 생성한 ErrorData (메시지가 다를 수 있음) 는 공유 응답으로 대체하지 않음
+        return constant != null && constant.data == errorData ? constant : null;
+    }
+
+    /**
+     * 공유 실패 응답 조회 Key (statusCode, errorCode)
+     */
+    private record FailKey(int statusCode, String errorCode) {
+    }
 
 }
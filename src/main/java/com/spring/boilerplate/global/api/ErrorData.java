@@ -1,8 +1,12 @@
 package com.spring.boilerplate.global.api;
 
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * [API Response]
  * API 응답 실패에 대한 공통 포맷 정의
@@ -12,12 +16,29 @@ import lombok.Getter;
  */
 @Getter
 public class ErrorData {
-    private String errorCode;
-    private String errorMessage;
+    private static final Map<ErrorConstant, ErrorData> CONSTANTS = new EnumMap<>(ErrorConstant.class);
+
+    static {
+        for (ErrorConstant errorConstant : ErrorConstant.values()) {
+            CONSTANTS.put(errorConstant, new ErrorData(errorConstant.getErrorCode(), errorConstant.getErrorMessage()));
+        }
+    }
+
+    private final String errorCode;
+    private final String errorMessage;
 
     @Builder
     public ErrorData(String errorCode, String errorMessage) {
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
     }
+
+    /**
+     * ErrorConstant 별 공유 인스턴스 (불변 객체이므로 매 요청 생성하지 않음)
+     * @param errorConstant ErrorConstant
+     * @return ErrorData
+     */
+    public static ErrorData of(ErrorConstant errorConstant) {
+        return CONSTANTS.get(errorConstant);
+    }
 }
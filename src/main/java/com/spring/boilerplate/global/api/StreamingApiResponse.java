@@ -0,0 +1,128 @@
+package com.spring.boilerplate.global.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * [API Response]
+ * 대용량 목록 응답을 위한 Streaming 응답 포맷
+ * data 를 메모리에 모두 올리지 않고 Stream / Iterator / Cursor 에서 요소를 하나씩 꺼내어 바로 출력한다.
+ * 응답 형식은 Accept 헤더에 따라 결정 된다. (StreamingApiResponseHttpMessageConverter 참고)
+ * - application/json       : {"status":"success","statusCode":200,"data":[...]}
+ * - application/x-ndjson   : 첫 줄 {"status":"success","statusCode":200}, 이후 요소 마다 {"data":...} 1줄
+ * 출력 도중 오류가 발생하면 ApiResponse.fail 과 동일한 형식의 Trailer 를 덧붙인다.
+ * - application/json       : {"status":"success","statusCode":200,"data":[...],"error":{"status":"fail",...}}
+ * - application/x-ndjson   : 마지막 줄 {"status":"fail","statusCode":500,"data":{"errorCode":...}}
+ * 1회만 출력 할 수 있으며, 출력이 끝나면 원본 (Stream, Cursor 등) 을 close 한다.
+ * 요청 처리 중 생성 된 경우 요청 종료 시점에도 close 를 등록하므로, 406 / 예외 등으로 Converter 가 실행되지 않아도 원본이 남지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Getter
+public final class StreamingApiResponse<T> implements AutoCloseable {
+    private static final String SUCCESS_STATUS = "success";
+
+    private final String status;                // 응답 성공, 실패 여부
+    private final int statusCode;               // HttpStatus Code
+    @Getter(AccessLevel.NONE)
+    private final Iterator<? extends T> data;   // 응답 데이터 (1회 순회)
+    @Getter(AccessLevel.NONE)
+    private final AutoCloseable source;         // 출력 완료 후 닫을 원본 (없으면 null)
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private StreamingApiResponse(int statusCode, Iterator<? extends T> data, AutoCloseable source) {
+        this.status = SUCCESS_STATUS;
+        this.statusCode = statusCode;
+        this.data = data;
+        this.source = source;
+        registerRequestCleanup();
+    }
+
+    /**
+     * [Success Response]
+     * Stream 요소를 순서대로 출력 (출력 완료 후 Stream close)
+     * @param stream Stream
+     * @return StreamingApiResponse<T>
+     */
+    public static <T> StreamingApiResponse<T> success(Stream<? extends T> stream) {
+        return new StreamingApiResponse<>(HttpStatus.OK.value(), stream.iterator(), stream::close);
+    }
+
+    /**
+     * [Success Response]
+     * Iterable (ex. DB Cursor) 요소를 순서대로 출력 (AutoCloseable 인 경우 출력 완료 후 close)
+     * @param iterable Iterable
+     * @return StreamingApiResponse<T>
+     */
+    public static <T> StreamingApiResponse<T> success(Iterable<? extends T> iterable) {
+        return new StreamingApiResponse<>(HttpStatus.OK.value(), iterable.iterator(),
+                iterable instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * [Success Response]
+     * Iterator 요소를 순서대로 출력 (AutoCloseable 인 경우 출력 완료 후 close)
+     * @param iterator Iterator
+     * @return StreamingApiResponse<T>
+     */
+    public static <T> StreamingApiResponse<T> success(Iterator<? extends T> iterator) {
+        return new StreamingApiResponse<>(HttpStatus.OK.value(), iterator,
+                iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * 응답 데이터 (Audit 로그 등 다른 곳에서 Jackson 으로 직렬화 되어 소비되지 않도록 제외)
+     * @return Iterator<? extends T>
+     */
+    @JsonIgnore
+    public Iterator<? extends T> getData() {
+        return data;
+    }
+
+    /**
+     * 원본 close (여러 번 호출 되어도 1회만 close)
+     */
+    @Override
+    public void close() {
+        if (source == null || !closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Streaming source close failed", e);
+        }
+    }
+
+    /**
+     * 요청 종료 시 (DispatcherServlet 의 requestCompleted) 미소비 원본 close
+     * 요청 Thread 밖에서 생성 된 경우에는 등록하지 않는다.
+     */
+    private void registerRequestCleanup() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (source == null || attributes == null) {
+            return;
+        }
+        attributes.registerDestructionCallback(StreamingApiResponse.class.getName() + "@" + System.identityHashCode(this), () -> {
+            try {
+                close();
+            } catch (RuntimeException e) {
+                log.warn("Streaming source close failed on request completion", e);
+            }
+        }, RequestAttributes.SCOPE_REQUEST);
+    }
+}
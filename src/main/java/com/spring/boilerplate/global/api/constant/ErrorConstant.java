@@ -22,6 +22,7 @@ public enum ErrorConstant {
     BAD_REQUEST_PARAMETER(400, "ERR_CLIENT_007", "No request parameter"),           // 파라미터가 존재하지 않는 경우
     ILLEGAL_ARGUMENT(400, "ERR_CLIENT_008", "Illegal or inappropriate argument"),   // 메소드에 잘못된 인자가 넘어가는 경우
     JSON_PARSE(400, "ERR_CLIENT_009", "Json parsing Exception"),                    // Json 파싱 에러가 발생하는 경우
+    TOO_MANY_REQUESTS(429, "ERR_CLIENT_010", "Too Many Requests"),                  // 클라이언트 요청 수 제한 초과
     OTHER_ERROR(400, "ERR_CLIENT_099", "Other Error"),                              // 그 외 모든 에러
 
     //************************************************ Auth Error ************************************************//
@@ -40,6 +41,7 @@ public enum ErrorConstant {
 
     //************************************************ Server Error ************************************************//
     INTERNAL_SERVER(500, "ERR_SERVER_001", "Internal Server Error"),                     // 서버 내부 에러
+    SERVICE_UNAVAILABLE(503, "ERR_SERVER_002", "Service Unavailable"),                   // 동시 처리 한도 초과 (부하 차단)
     ;
 
     private int statusCode;         // 에러 상태 코드
@@ -0,0 +1,102 @@
+package com.spring.boilerplate.global.api.converter;
+
+/**
+ * [API Response]
+ * Accept-Encoding Header 해석 (RFC 9110 §12.5.3)
+ * coding 별 q 값을 비교하며, q=0 은 명시적 거부로 처리한다. 요청 마다 호출되므로 문자열을 분할하지 않고 위치로 해석한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class AcceptEncoding {
+    private static final float DEFAULT_QUALITY = 1f;
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * coding 의 q 값 (명시 되지 않은 경우 '*' 의 q 값, 둘 다 없으면 0)
+     * @param acceptEncoding Accept-Encoding Header 값 (null 허용)
+     * @param coding Content Coding (ex. gzip)
+     * @return 0 ~ 1
+     */
+    public static float quality(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return 0f;
+        }
+        float wildcard = 0f;
+        int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int semicolon = acceptEncoding.indexOf(';', start);
+            int nameEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            int nameStart = start;
+            while (nameStart < nameEnd && Character.isWhitespace(acceptEncoding.charAt(nameStart))) {
+                nameStart++;
+            }
+            while (nameEnd > nameStart && Character.isWhitespace(acceptEncoding.charAt(nameEnd - 1))) {
+                nameEnd--;
+            }
+            int nameLength = nameEnd - nameStart;
+            float quality = semicolon >= 0 && semicolon < end ? parseQuality(acceptEncoding, semicolon + 1, end) : DEFAULT_QUALITY;
+            if (nameLength == coding.length() && acceptEncoding.regionMatches(true, nameStart, coding, 0, nameLength)) {
+                return quality;
+            }
+            if (nameLength == 1 && acceptEncoding.charAt(nameStart) == '*') {
+                wildcard = quality;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    /**
+     * coding 허용 여부 (q > 0)
+     * @param acceptEncoding Accept-Encoding Header 값 (null 허용)
+     * @param coding Content Coding
+     * @return boolean
+     */
+    public static boolean accepts(String acceptEncoding, String coding) {
+        return quality(acceptEncoding, coding) > 0f;
+    }
+
+    /**
+     * 파라미터 영역 (;q=0.5 등) 에서 q 값 해석 (형식 오류 시 기본 값 1)
+     */
+    private static float parseQuality(String value, int start, int end) {
+        int index = start;
+        while (index < end) {
+            while (index < end && (value.charAt(index) == ' ' || value.charAt(index) == '\t' || value.charAt(index) == ';')) {
+                index++;
+            }
+            if (index + 1 < end && (value.charAt(index) == 'q' || value.charAt(index) == 'Q') && value.charAt(index + 1) == '=') {
+                return parseQualityValue(value, index + 2, end);
+            }
+            int next = value.indexOf(';', index);
+            index = next < 0 || next >= end ? end : next;
+        }
+        return DEFAULT_QUALITY;
+    }
+
+    private static float parseQualityValue(String value, int start, int end) {
+        int index = start;
+        if (index >= end || (value.charAt(index) != '0' && value.charAt(index) != '1')) {
+            return DEFAULT_QUALITY;
+        }
+        int integer = value.charAt(index++) - '0';
+        int fraction = 0;
+        int scale = 1;
+        if (index < end && value.charAt(index) == '.') {
+            index++;
+            while (index < end && scale < 1000 && Character.isDigit(value.charAt(index))) {
+                fraction = fraction * 10 + (value.charAt(index++) - '0');
+                scale *= 10;
+            }
+        }
+        return Math.min(DEFAULT_QUALITY, integer + (float) fraction / scale);
+    }
+}
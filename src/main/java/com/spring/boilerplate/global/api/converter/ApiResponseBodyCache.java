@@ -0,0 +1,88 @@
+package com.spring.boilerplate.global.api.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * [API Response]
+ * 상수 ApiResponse (success(), ErrorConstant 별 fail) 의 UTF-8 JSON 바이트를 기동 시 미리 생성하여 보관
+ * 가변 응답은 status / statusCode 까지의 prefix 바이트만 미리 생성해 둔다.
+ * 상수 응답의 ETag 도 함께 계산하여 조건부 요청 시 재직렬화 없이 비교한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+public class ApiResponseBodyCache {
+    private static final int MAX_STATUS_CODE = 600;
+
+    private final Map<ApiResponse<?>, CachedBody> constantBodies;
+    private final byte[][] successPrefixes = new byte[MAX_STATUS_CODE][];
+    private final byte[][] failPrefixes = new byte[MAX_STATUS_CODE][];
+
+    public ApiResponseBodyCache(ObjectMapper objectMapper) throws JsonProcessingException {
+        Map<ApiResponse<?>, CachedBody> bodies = new IdentityHashMap<>();
+        for (ApiResponse<?> response : ApiResponse.constantResponses()) {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            bodies.put(response, new CachedBody(json, ResponseBodyWriter.etag(json, json.length)));
+        }
+        this.constantBodies = bodies;
+        for (int statusCode = 100; statusCode < MAX_STATUS_CODE; statusCode++) {
+            successPrefixes[statusCode] = createPrefix("success", statusCode);
+            failPrefixes[statusCode] = createPrefix("fail", statusCode);
+        }
+    }
+
+    /**
+     * 상수 응답의 JSON 바이트 (상수가 아니면 null)
+     * @param response ApiResponse
+     * @return byte[]
+     */
+    public byte[] getBody(ApiResponse<?> response) {
+        CachedBody body = constantBodies.get(response);
+        return body != null ? body.getJson() : null;
+    }
+
+    /**
+     * 상수 응답의 JSON 바이트, ETag, 압축 결과 (상수가 아니면 null)
+     * @param response ApiResponse
+     * @return CachedBody
+     */
+    public CachedBody getCachedBody(ApiResponse<?> response) {
+        return constantBodies.get(response);
+    }
+
+    /**
+     * ErrorConstant 에 해당하는 fail 응답 JSON 바이트
+     * @param errorConstant ErrorConstant
+     * @return byte[]
+     */
+    public byte[] getBody(ErrorConstant errorConstant) {
+        return getBody(ApiResponse.fail(errorConstant));
+    }
+
+    /**
+     * {"status":"...","statusCode":...,"data": 까지의 prefix 바이트
+     * @param status 응답 성공, 실패 여부
+     * @param statusCode HttpStatus Code
+     * @return byte[]
+     */
+    public byte[] getPrefix(String status, int statusCode) {
+        boolean success = "success".equals(status);
+        if (statusCode >= 100 && statusCode < MAX_STATUS_CODE && (success || "fail".equals(status))) {
+            return success ? successPrefixes[statusCode] : failPrefixes[statusCode];
+        }
+        return createPrefix(status, statusCode);
+    }
+
+    private static byte[] createPrefix(String status, int statusCode) {
+        return ("{\"status\":\"" + status + "\",\"statusCode\":" + statusCode + ",\"data\":").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package com.spring.boilerplate.global.api.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.monitor.timing.RequestPhase;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * [API Response]
+ * ApiResponse 전용 HttpMessageConverter (쓰기 전용)
+ * 상수 응답은 미리 생성한 바이트를 그대로 출력하고,
+ * 가변 응답은 미리 인코딩 된 status/statusCode prefix 출력 후 data 만 Jackson 으로 직렬화 한다.
+ * ResponseBodyWriter 가 활성화 된 경우 Pool 버퍼에 직렬화 후 ETag / 압축 처리를 위임한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final ApiResponseBodyCache bodyCache;
+    private final ResponseBodyWriter bodyWriter;
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper, ApiResponseBodyCache bodyCache, ResponseBodyWriter bodyWriter) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.bodyCache = bodyCache;
+        this.bodyWriter = bodyWriter;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ApiResponse<?> response, MediaType contentType) {
+        // ETag / 압축 처리 시에는 ResponseBodyWriter 가 최종 길이를 설정
+        if (bodyWriter.isEnabled()) {
+            return null;
+        }
+        byte[] body = bodyCache.getBody(response);
+        return body != null ? (long) body.length : null;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimer.enter(RequestPhase.SERIALIZE);
+        HttpServletRequest request = bodyWriter.isEnabled() ? currentRequest() : null;
+        if (request == null) {
+            // 응답 Stream 으로 바로 직렬화하므로 Header 는 출력 전에 추가 (직렬화 시간은 write 구간에 포함)
+            RequestTimer.beforeWrite(outputMessage);
+            byte[] body = bodyCache.getBody(response);
+            if (body != null) {
+                outputMessage.getBody().write(body);
+                return;
+            }
+            writeJson(response, outputMessage.getBody());
+            return;
+        }
+
+        CachedBody cachedBody = bodyCache.getCachedBody(response);
+        if (cachedBody != null) {
+            RequestTimer.beforeWrite(outputMessage);
+            bodyWriter.writeConstant(request, outputMessage, cachedBody);
+            return;
+        }
+        PooledByteArrayOutputStream buffer = bodyWriter.acquireBuffer();
+        try {
+            writeJson(response, buffer);
+            RequestTimer.beforeWrite(outputMessage);
+            bodyWriter.write(request, outputMessage, buffer.array(), buffer.size());
+        } finally {
+            bodyWriter.releaseBuffer(buffer);
+        }
+    }
+
+    private void writeJson(ApiResponse<?> response, OutputStream outputStream) throws IOException {
+        outputStream.write(bodyCache.getPrefix(response.getStatus(), response.getStatusCode()));
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, response.getData());
+            generator.writeRaw('}');
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+}
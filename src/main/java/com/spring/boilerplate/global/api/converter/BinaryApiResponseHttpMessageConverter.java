@@ -0,0 +1,86 @@
+package com.spring.boilerplate.global.api.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.monitor.timing.RequestPhase;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * [API Response]
+ * Jackson Binary 형식 (CBOR, Smile) ApiResponse 전용 HttpMessageConverter (쓰기 전용)
+ * JSON 과 같은 ApiResponseModule Serializer 를 사용하므로 Envelope 구조는 동일하고 인코딩만 다르다.
+ * 상수 응답은 기동 시 미리 인코딩 한 바이트를 그대로 출력한다.
+ * Accept 에 해당 형식이 명시 된 경우에만 선택 되며 (JSON Converter 가 앞 순서), ETag / 압축은 적용하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class BinaryApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ObjectMapper objectMapper;
+    private final Map<ApiResponse<?>, byte[]> constantBodies = new IdentityHashMap<>();
+
+    /**
+     * @param objectMapper CBORFactory / SmileFactory 로 생성 한 ObjectMapper
+     * @param mediaType 지원 Media Type
+     */
+    public BinaryApiResponseHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType) {
+        super(mediaType);
+        this.objectMapper = objectMapper;
+        try {
+            for (ApiResponse<?> response : ApiResponse.constantResponses()) {
+                constantBodies.put(response, objectMapper.writeValueAsBytes(response));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ApiResponse<?> response, MediaType contentType) {
+        byte[] body = constantBodies.get(response);
+        return body != null ? (long) body.length : null;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimer.enter(RequestPhase.SERIALIZE);
+        RequestTimer.beforeWrite(outputMessage);
+        byte[] body = constantBodies.get(response);
+        if (body != null) {
+            outputMessage.getBody().write(body);
+            return;
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody())) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, response);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.spring.boilerplate.global.api.converter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * [API Response]
+ * 상수 응답의 미리 생성 된 JSON 바이트, ETag 및 압축 결과
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public final class CachedBody {
+    private final byte[] json;          // UTF-8 JSON
+    private final String etag;          // 강한 ETag (비압축)
+    @Getter(AccessLevel.NONE)
+    private final String gzipEtag;      // gzip 응답의 강한 ETag
+    @Getter(AccessLevel.NONE)
+    private final String deflateEtag;   // deflate 응답의 강한 ETag
+    private volatile byte[] gzip;       // 최초 요청 시 생성 되는 gzip 압축 결과
+    private volatile byte[] deflate;    // 최초 요청 시 생성 되는 deflate 압축 결과
+
+    CachedBody(byte[] json, String etag) {
+        this.json = json;
+        this.etag = etag;
+        this.gzipEtag = ResponseBodyWriter.codedEtag(etag, ContentCoding.GZIP);
+        this.deflateEtag = ResponseBodyWriter.codedEtag(etag, ContentCoding.DEFLATE);
+    }
+
+    /**
+     * Content Coding 별 강한 ETag
+     * @param coding 압축 방식 (null 이면 비압축)
+     * @return String
+     */
+    String getEtag(ContentCoding coding) {
+        if (coding == null) {
+            return etag;
+        }
+        return coding == ContentCoding.GZIP ? gzipEtag : deflateEtag;
+    }
+
+    byte[] getCompressed(ContentCoding coding) {
+        return coding == ContentCoding.GZIP ? gzip : deflate;
+    }
+
+    void setCompressed(ContentCoding coding, byte[] compressed) {
+        if (coding == ContentCoding.GZIP) {
+            this.gzip = compressed;
+        } else {
+            this.deflate = compressed;
+        }
+    }
+}
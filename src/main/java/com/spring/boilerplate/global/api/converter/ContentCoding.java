@@ -0,0 +1,24 @@
+package com.spring.boilerplate.global.api.converter;
+
+/**
+ * [API Response]
+ * 지원하는 응답 압축 방식 (Content-Encoding)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+enum ContentCoding {
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    ;
+
+    private final String value;
+
+    ContentCoding(String value) {
+        this.value = value;
+    }
+
+    String value() {
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.spring.boilerplate.global.api.converter;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * [API Response]
+ * 내부 배열에 복사 없이 접근 가능한 재사용 버퍼
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+
+    PooledByteArrayOutputStream(int size) {
+        super(size);
+    }
+
+    byte[] array() {
+        return buf;
+    }
+
+    int capacity() {
+        return buf.length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.spring.boilerplate.global.api.converter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * [API Response]
+ * 크기가 제한 된 lock-free 객체 Pool (Buffer, Deflater 재사용)
+ * Virtual Thread 환경에서도 동작하도록 ThreadLocal 대신 공유 Queue 를 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class ResourcePool<T> {
+
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Predicate<T> reusable;
+    private final Consumer<T> dispose;
+
+    ResourcePool(int maxSize, Supplier<T> factory, Consumer<T> reset, Predicate<T> reusable, Consumer<T> dispose) {
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.reset = reset;
+        this.reusable = reusable;
+        this.dispose = dispose;
+    }
+
+    T acquire() {
+        T resource = pool.poll();
+        if (resource == null) {
+            return factory.get();
+        }
+        size.decrementAndGet();
+        return resource;
+    }
+
+    void release(T resource) {
+        if (reusable.test(resource)) {
+            if (size.incrementAndGet() <= maxSize) {
+                reset.accept(resource);
+                pool.offer(resource);
+                return;
+            }
+            size.decrementAndGet();
+        }
+        dispose.accept(resource);
+    }
+}
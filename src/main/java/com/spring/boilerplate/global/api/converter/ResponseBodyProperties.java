@@ -0,0 +1,28 @@
+package com.spring.boilerplate.global.api.converter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [API Response]
+ * ApiResponse 응답 본문 처리 (ETag / 압축 / Binary 형식) 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.response")
+public class ResponseBodyProperties {
+    private boolean etagEnabled = true;             // 강한 ETag 생성 및 If-None-Match 304 응답
+    private boolean compressionEnabled = true;      // gzip / deflate 압축
+    private int compressionMinBytes = 1024;         // 압축 최소 크기
+    private int compressionLevel = 6;               // 압축 레벨 (1 ~ 9)
+    private boolean cacheConstantCompressed = true; // 상수 응답의 압축 결과 캐싱
+    private int poolSize = 64;                      // Buffer / Deflater Pool 최대 보관 수
+    private int streamFlushBytes = 16 * 1024;       // Streaming 응답 flush 단위
+    private boolean cborEnabled = true;             // Accept: application/cbor 응답
+    private boolean smileEnabled = true;            // Accept: application/x-jackson-smile 응답
+    private boolean protobufEnabled = false;        // Accept: application/x-protobuf 응답 (proto/api_response.proto)
+}
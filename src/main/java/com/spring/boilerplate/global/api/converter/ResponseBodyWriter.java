@@ -0,0 +1,259 @@
+package com.spring.boilerplate.global.api.converter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * [API Response]
+ * 직렬화 된 ApiResponse 바이트의 최종 출력 처리
+ * 1. 직렬화 결과 바이트로 강한 ETag 를 계산하고 If-None-Match 가 일치하면 304 (본문 없음) 응답
+ *    - 강한 ETag 는 표현 (Content Coding) 마다 달라야 하므로 압축 응답은 "<md5>-gzip" 형태로 구분 (RFC 9110 §8.8.3)
+ *    - If-None-Match 는 비압축 / 압축 ETag 어느 쪽이든 일치로 인정
+ * 2. Accept-Encoding 의 q 값에 따라 크기 임계치 이상의 본문을 Pool 에서 꺼낸 Deflater 로 gzip / deflate 압축
+ * 3. 상수 응답은 ETag 와 압축 결과를 캐싱하여 재사용
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+public class ResponseBodyWriter {
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final ResponseBodyProperties properties;
+    private final ResourcePool<PooledByteArrayOutputStream> bufferPool;
+    private final ResourcePool<Deflater> gzipDeflaters;
+    private final ResourcePool<Deflater> zlibDeflaters;
+
+    public ResponseBodyWriter(ResponseBodyProperties properties) {
+        this.properties = properties;
+        int poolSize = properties.getPoolSize();
+        this.bufferPool = new ResourcePool<>(poolSize, () -> new PooledByteArrayOutputStream(4096),
+                PooledByteArrayOutputStream::reset, buffer -> buffer.capacity() <= 1024 * 1024, buffer -> { });
+        this.gzipDeflaters = new ResourcePool<>(poolSize, () -> new Deflater(properties.getCompressionLevel(), true),
+                Deflater::reset, deflater -> true, Deflater::end);
+        this.zlibDeflaters = new ResourcePool<>(poolSize, () -> new Deflater(properties.getCompressionLevel(), false),
+                Deflater::reset, deflater -> true, Deflater::end);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEtagEnabled() || properties.isCompressionEnabled();
+    }
+
+    /**
+     * 직렬화 용 버퍼 대여
+     * @return PooledByteArrayOutputStream
+     */
+    PooledByteArrayOutputStream acquireBuffer() {
+        return bufferPool.acquire();
+    }
+
+    void releaseBuffer(PooledByteArrayOutputStream buffer) {
+        bufferPool.release(buffer);
+    }
+
+    /**
+     * 상수 응답 출력
+     */
+    void writeConstant(HttpServletRequest request, HttpOutputMessage outputMessage, CachedBody body) throws IOException {
+        byte[] json = body.getJson();
+        ContentCoding coding = negotiate(request, outputMessage, json.length);
+        if (properties.isEtagEnabled()
+                && handleConditional(request, outputMessage, body.getEtag(), body.getEtag(coding))) {
+            return;
+        }
+        if (coding == null) {
+            writeBody(outputMessage, json, json.length);
+            return;
+        }
+        byte[] compressed = body.getCompressed(coding);
+        if (compressed == null) {
+            compressed = compress(coding, json, json.length);
+            if (properties.isCacheConstantCompressed()) {
+                body.setCompressed(coding, compressed);
+            }
+        }
+        outputMessage.getHeaders().set(HttpHeaders.CONTENT_ENCODING, coding.value());
+        writeBody(outputMessage, compressed, compressed.length);
+    }
+
+    /**
+     * 가변 응답 출력
+     */
+    void write(HttpServletRequest request, HttpOutputMessage outputMessage, byte[] json, int length) throws IOException {
+        ContentCoding coding = negotiate(request, outputMessage, length);
+        if (properties.isEtagEnabled() && isCacheable(request, outputMessage)) {
+            String etag = etag(json, length);
+            if (handleConditional(request, outputMessage, etag, codedEtag(etag, coding))) {
+                return;
+            }
+        }
+        if (coding == null) {
+            writeBody(outputMessage, json, length);
+            return;
+        }
+        PooledByteArrayOutputStream compressed = bufferPool.acquire();
+        try {
+            compressInto(coding, json, length, compressed);
+            outputMessage.getHeaders().set(HttpHeaders.CONTENT_ENCODING, coding.value());
+            writeBody(outputMessage, compressed.array(), compressed.size());
+        } finally {
+            bufferPool.release(compressed);
+        }
+    }
+
+    private boolean isCacheable(HttpServletRequest request, HttpOutputMessage outputMessage) {
+        String method = request.getMethod();
+        return ("GET".equals(method) || "HEAD".equals(method)) && status(outputMessage) == HttpStatus.OK.value();
+    }
+
+    /**
+     * ETag 설정 및 If-None-Match 비교
+     * @param etag 비압축 표현의 ETag
+     * @param codedEtag 실제 응답 할 표현의 ETag (비압축이면 etag 와 동일)
+     * @return 304 응답을 보낸 경우 true
+     */
+    private boolean handleConditional(HttpServletRequest request, HttpOutputMessage outputMessage,
+                                      String etag, String codedEtag) {
+        if (!isCacheable(request, outputMessage)) {
+            return false;
+        }
+        outputMessage.getHeaders().setETag(codedEtag);
+        Enumeration<String> ifNoneMatch = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (ifNoneMatch.hasMoreElements()) {
+            for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals(etag) || value.equals(codedEtag) || value.equals("*")) {
+                    if (outputMessage instanceof ServletServerHttpResponse servletResponse) {
+                        servletResponse.getServletResponse().setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    }
+                    outputMessage.getHeaders().setContentLength(0);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private ContentCoding negotiate(HttpServletRequest request, HttpOutputMessage outputMessage, int length) {
+        if (!properties.isCompressionEnabled()) {
+            return null;
+        }
+        outputMessage.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (length < properties.getCompressionMinBytes()
+                || outputMessage.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return null;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        float gzip = AcceptEncoding.quality(acceptEncoding, ContentCoding.GZIP.value());
+        float deflate = AcceptEncoding.quality(acceptEncoding, ContentCoding.DEFLATE.value());
+        if (gzip > 0f && gzip >= deflate) {
+            return ContentCoding.GZIP;
+        }
+        return deflate > 0f ? ContentCoding.DEFLATE : null;
+    }
+
+    private byte[] compress(ContentCoding coding, byte[] json, int length) {
+        PooledByteArrayOutputStream compressed = bufferPool.acquire();
+        try {
+            compressInto(coding, json, length, compressed);
+            return compressed.toByteArray();
+        } finally {
+            bufferPool.release(compressed);
+        }
+    }
+
+    private void compressInto(ContentCoding coding, byte[] input, int length, PooledByteArrayOutputStream out) {
+        boolean gzip = coding == ContentCoding.GZIP;
+        ResourcePool<Deflater> pool = gzip ? gzipDeflaters : zlibDeflaters;
+        Deflater deflater = pool.acquire();
+        try {
+            if (gzip) {
+                out.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+            }
+            deflater.setInput(input, 0, length);
+            deflater.finish();
+            byte[] chunk = new byte[Math.min(8192, Math.max(512, length))];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            if (gzip) {
+                CRC32 crc = new CRC32();
+                crc.update(input, 0, length);
+                writeIntLittleEndian(out, (int) crc.getValue());
+                writeIntLittleEndian(out, length);
+            }
+        } finally {
+            pool.release(deflater);
+        }
+    }
+
+    private static void writeIntLittleEndian(PooledByteArrayOutputStream out, int value) {
+        byte[] bytes = new byte[GZIP_TRAILER_SIZE / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (value >>> (8 * i));
+        }
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 직렬화 결과 바이트의 MD5 기반 강한 ETag
+     * @param json JSON 바이트
+     * @param length 유효 길이
+     * @return String
+     */
+    static String etag(byte[] json, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+        digest.update(json, 0, length);
+        return "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+    }
+
+    /**
+     * Content Coding 별 강한 ETag ("<md5>" -> "<md5>-gzip")
+     * @param etag 비압축 표현의 ETag
+     * @param coding 압축 방식 (null 이면 etag 그대로)
+     * @return String
+     */
+    static String codedEtag(String etag, ContentCoding coding) {
+        if (coding == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding.value() + "\"";
+    }
+
+    private static int status(HttpOutputMessage outputMessage) {
+        return outputMessage instanceof ServletServerHttpResponse servletResponse
+                ? servletResponse.getServletResponse().getStatus()
+                : HttpStatus.OK.value();
+    }
+
+    private static void writeBody(HttpOutputMessage outputMessage, byte[] body, int length) throws IOException {
+        outputMessage.getHeaders().setContentLength(length);
+        outputMessage.getBody().write(body, 0, length);
+    }
+}
@@ -0,0 +1,158 @@
+package com.spring.boilerplate.global.api.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.StreamingApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.BusinessException;
+import com.spring.boilerplate.global.exception.handler.ErrorLogPolicy;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * [API Response]
+ * StreamingApiResponse 전용 HttpMessageConverter (쓰기 전용)
+ * 요소를 하나씩 Jackson 으로 직렬화하여 바로 출력하고 일정 크기마다 flush 하므로
+ * 결과 건수와 관계 없이 요소 1개 크기의 버퍼만 사용한다.
+ * 요소 단위로 직렬화를 마친 뒤 출력하므로 도중에 오류가 나도 반쯤 쓰인 요소 없이 Trailer 를 붙일 수 있다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+public class StreamingApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<StreamingApiResponse<?>> {
+    private static final byte[] NDJSON_DATA_PREFIX = "{\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NDJSON_DATA_SUFFIX = "}\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ERROR_PREFIX = "],\"error\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final ApiResponseBodyCache bodyCache;
+    private final ResponseBodyProperties properties;
+    private final ErrorLogPolicy errorLogPolicy;
+    private final ErrorMetrics errorMetrics;
+
+    public StreamingApiResponseHttpMessageConverter(ObjectMapper objectMapper, ApiResponseBodyCache bodyCache,
+                                                    ResponseBodyProperties properties, ErrorLogPolicy errorLogPolicy,
+                                                    ErrorMetrics errorMetrics) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.bodyCache = bodyCache;
+        this.properties = properties;
+        this.errorLogPolicy = errorLogPolicy;
+        this.errorMetrics = errorMetrics;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected StreamingApiResponse<?> readInternal(Class<? extends StreamingApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("StreamingApiResponse is write only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(StreamingApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        boolean ndjson = contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        // 요소 직렬화와 출력이 섞여 있으므로 Stream 전체를 write 구간으로 측정
+        RequestTimer.beforeWrite(outputMessage);
+        OutputStream body = outputMessage.getBody();
+        ByteArrayOutputStream element = new ByteArrayOutputStream(512);
+        int flushBytes = properties.getStreamFlushBytes();
+
+        try (response) {
+            writeHeader(body, response, ndjson);
+            Iterator<?> data = response.getData();
+            long pending = 0;
+            boolean first = true;
+            while (true) {
+                element.reset();
+                try {
+                    if (!data.hasNext()) {
+                        break;
+                    }
+                    objectMapper.writeValue(element, data.next());
+                } catch (RuntimeException | JsonProcessingException e) {
+                    writeErrorTrailer(body, e, ndjson);
+                    return;
+                }
+                if (ndjson) {
+                    body.write(NDJSON_DATA_PREFIX);
+                    element.writeTo(body);
+                    body.write(NDJSON_DATA_SUFFIX);
+                } else {
+                    if (!first) {
+                        body.write(',');
+                    }
+                    element.writeTo(body);
+                }
+                pending += element.size();
+                // 첫 요소는 바로 flush 하여 응답 시작 시간을 줄이고, 이후에는 일정 크기 단위로 flush
+                if (first || pending >= flushBytes) {
+                    body.flush();
+                    pending = 0;
+                }
+                first = false;
+            }
+            if (!ndjson) {
+                body.write(JSON_SUFFIX);
+            }
+        }
+    }
+
+    private void writeHeader(OutputStream body, StreamingApiResponse<?> response, boolean ndjson) throws IOException {
+        if (ndjson) {
+            String header = "{\"status\":\"" + response.getStatus() + "\",\"statusCode\":" + response.getStatusCode() + "}\n";
+            body.write(header.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        body.write(bodyCache.getPrefix(response.getStatus(), response.getStatusCode()));
+        body.write('[');
+    }
+
+    /**
+     * 출력 도중 오류 발생 시 ApiResponse.fail 과 동일한 형식의 Trailer 출력
+     * (HTTP Status 는 이미 전송 되었으므로 본문으로만 오류를 전달)
+     */
+    private void writeErrorTrailer(OutputStream body, Exception exception, boolean ndjson) throws IOException {
+        ErrorConstant errorConstant = exception instanceof BusinessException businessException
+                ? businessException.getErrorConstant()
+                : ErrorConstant.INTERNAL_SERVER;
+        errorMetrics.increment(errorConstant);
+        if (!(exception instanceof BusinessException)) {
+            long suppressed = errorLogPolicy.acquire(exception);
+            if (suppressed != ErrorLogPolicy.SUPPRESS) {
+                log.error("Streaming response aborted {} [{}] (suppressed {} in last window)",
+                        exception.getClass().getSimpleName(), errorConstant.getErrorCode(), suppressed, exception);
+            }
+        }
+        if (ndjson) {
+            body.write(bodyCache.getBody(errorConstant));
+            body.write('\n');
+        } else {
+            body.write(JSON_ERROR_PREFIX);
+            body.write(bodyCache.getBody(errorConstant));
+            body.write('}');
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.spring.boilerplate.global.api.protobuf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [API Response]
+ * ApiResponse <-> Protobuf 바이트 변환 (src/main/resources/proto/api_response.proto)
+ * 생성 된 Message 클래스 없이 Field 번호로 직접 인코딩하여 ApiResponse 객체를 Message 로 복사하지 않는다.
+ * data 는 타입에 따라 ErrorData (error), Protobuf Message (payload, Any), JSON 바이트 (json) 중 하나로 출력한다.
+ * 상수 응답은 기동 시 미리 인코딩 한 바이트를 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ProtobufApiResponseCodec {
+    private static final String FAIL_STATUS = "fail";
+    private static final int STATUS = 1;
+    private static final int STATUS_CODE = 2;
+    private static final int ERROR = 3;
+    private static final int PAYLOAD = 4;
+    private static final int JSON = 5;
+    private static final int ERROR_CODE = 1;
+    private static final int ERROR_MESSAGE = 2;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final List<ProtobufPayloadMapper<?>> mappers;
+    private final Map<Class<?>, Optional<ProtobufPayloadMapper<?>>> resolvedMappers = new ConcurrentHashMap<>();
+    private final Map<ApiResponse<?>, byte[]> constantBodies = new IdentityHashMap<>();
+
+    public ProtobufApiResponseCodec(ObjectMapper objectMapper, List<ProtobufPayloadMapper<?>> mappers) {
+        this.objectMapper = objectMapper;
+        this.mappers = List.copyOf(mappers);
+        for (ApiResponse<?> response : ApiResponse.constantResponses()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+            try {
+                encode(response, body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            constantBodies.put(response, body.toByteArray());
+        }
+    }
+
+    /**
+     * 상수 응답의 Protobuf 바이트 (상수가 아니면 null)
+     * @param response ApiResponse
+     * @return byte[]
+     */
+    public byte[] getConstantBody(ApiResponse<?> response) {
+        return constantBodies.get(response);
+    }
+
+    /**
+     * ApiResponse -> Protobuf 바이트 출력
+     * @param response ApiResponse
+     * @param outputStream 출력 대상 (close 하지 않음)
+     * @throws IOException 출력 실패
+     */
+    public void encode(ApiResponse<?> response, OutputStream outputStream) throws IOException {
+        byte[] constant = constantBodies.get(response);
+        if (constant != null) {
+            outputStream.write(constant);
+            return;
+        }
+        CodedOutputStream out = CodedOutputStream.newInstance(outputStream, BUFFER_SIZE);
+        writeString(out, STATUS, response.getStatus());
+        out.writeInt32(STATUS_CODE, response.getStatusCode());
+        Object data = response.getData();
+        if (data instanceof ErrorData errorData) {
+            out.writeTag(ERROR, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(stringSize(ERROR_CODE, errorData.getErrorCode())
+                    + stringSize(ERROR_MESSAGE, errorData.getErrorMessage()));
+            writeString(out, ERROR_CODE, errorData.getErrorCode());
+            writeString(out, ERROR_MESSAGE, errorData.getErrorMessage());
+        } else if (data != null) {
+            Message payload = toMessage(data);
+            if (payload != null) {
+                out.writeMessage(PAYLOAD, payload instanceof Any any ? any : Any.pack(payload));
+            } else {
+                out.writeByteArray(JSON, objectMapper.writeValueAsBytes(data));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Protobuf 바이트 -> ApiResponse
+     * data 는 ErrorData, Any (payload), JsonNode (json) 중 하나이며 클라이언트가 필요한 타입으로 변환한다.
+     * @param bytes Protobuf 바이트
+     * @return ApiResponse<?>
+     * @throws IOException 형식 오류
+     */
+    public ApiResponse<?> decode(byte[] bytes) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        String status = "";
+        int statusCode = 0;
+        Object data = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case STATUS -> status = in.readStringRequireUtf8();
+                case STATUS_CODE -> statusCode = in.readInt32();
+                case ERROR -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    data = readErrorData(in);
+                    in.popLimit(limit);
+                }
+                case PAYLOAD -> data = in.readMessage(Any.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                case JSON -> data = objectMapper.readTree(in.readByteArray());
+                default -> in.skipField(tag);
+            }
+        }
+        if (FAIL_STATUS.equals(status) && data instanceof ErrorData errorData) {
+            return ApiResponse.fail(statusCode, errorData);
+        }
+        return ApiResponse.success(statusCode, data);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Message toMessage(Object data) {
+        if (data instanceof Message message) {
+            return message;
+        }
+        Class<?> type = data.getClass();
+        Optional<ProtobufPayloadMapper<?>> mapper = resolvedMappers.get(type);
+        if (mapper == null) {
+            mapper = resolvedMappers.computeIfAbsent(type, key -> mappers.stream()
+                    .filter(candidate -> candidate.getPayloadType().isAssignableFrom(key))
+                    .findFirst());
+        }
+        return mapper.map(candidate -> ((ProtobufPayloadMapper) candidate).toMessage(data)).orElse(null);
+    }
+
+    private static ErrorData readErrorData(CodedInputStream in) throws IOException {
+        String errorCode = null;
+        String errorMessage = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ERROR_CODE -> errorCode = in.readStringRequireUtf8();
+                case ERROR_MESSAGE -> errorMessage = in.readStringRequireUtf8();
+                default -> in.skipField(tag);
+            }
+        }
+        return new ErrorData(errorCode, errorMessage);
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+}
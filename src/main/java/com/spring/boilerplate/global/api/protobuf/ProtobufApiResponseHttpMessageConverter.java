@@ -0,0 +1,60 @@
+package com.spring.boilerplate.global.api.protobuf;
+
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.monitor.timing.RequestPhase;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * [API Response]
+ * Protobuf Envelope ApiResponse 전용 HttpMessageConverter (쓰기 전용)
+ * Accept: application/x-protobuf (또는 application/protobuf) 가 명시 된 경우에만 선택 된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ProtobufApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+    public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "protobuf");
+
+    private final ProtobufApiResponseCodec codec;
+
+    public ProtobufApiResponseHttpMessageConverter(ProtobufApiResponseCodec codec) {
+        super(APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ApiResponse<?> response, MediaType contentType) {
+        byte[] body = codec.getConstantBody(response);
+        return body != null ? (long) body.length : null;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimer.enter(RequestPhase.SERIALIZE);
+        RequestTimer.beforeWrite(outputMessage);
+        codec.encode(response, outputMessage.getBody());
+    }
+}
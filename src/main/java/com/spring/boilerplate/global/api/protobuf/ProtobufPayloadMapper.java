@@ -0,0 +1,28 @@
+package com.spring.boilerplate.global.api.protobuf;
+
+import com.google.protobuf.Message;
+
+/**
+ * [API Response]
+ * ApiResponse.data 를 Protobuf Message 로 변환 (Bean 으로 등록하면 Protobuf 응답의 payload 로 사용)
+ * 변환 결과는 google.protobuf.Any 로 포장 되므로 클라이언트는 type_url 로 Message 타입을 판별한다.
+ * 등록 된 Mapper 가 없는 data 는 JSON 바이트로 전송한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public interface ProtobufPayloadMapper<T> {
+
+    /**
+     * 변환 대상 타입 (하위 타입 포함)
+     * @return Class<T>
+     */
+    Class<T> getPayloadType();
+
+    /**
+     * data -> Protobuf Message
+     * @param payload ApiResponse.data
+     * @return Message
+     */
+    Message toMessage(T payload);
+}
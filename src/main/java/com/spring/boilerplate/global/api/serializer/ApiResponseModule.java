@@ -0,0 +1,22 @@
+package com.spring.boilerplate.global.api.serializer;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+
+/**
+ * [API Response]
+ * ApiResponse, ErrorData Serializer 등록 Module
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ApiResponseModule extends SimpleModule {
+
+    @SuppressWarnings("unchecked")
+    public ApiResponseModule() {
+        super("boilerplate-api-response");
+        addSerializer((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class, new ApiResponseSerializer());
+        addSerializer(ErrorData.class, new ErrorDataSerializer());
+    }
+}
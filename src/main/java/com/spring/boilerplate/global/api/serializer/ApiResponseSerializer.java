@@ -0,0 +1,48 @@
+package com.spring.boilerplate.global.api.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.spring.boilerplate.global.api.ApiResponse;
+
+import java.io.IOException;
+
+/**
+ * [API Response]
+ * ApiResponse 전용 Serializer (Bean 분석 / Reflection 없이 필드 순서 고정 출력)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    @SuppressWarnings("unchecked")
+    public ApiResponseSerializer() {
+        super((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private static void writeFields(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStringField("status", value.getStatus());
+        gen.writeNumberField("statusCode", value.getStatusCode());
+        gen.writeFieldName("data");
+        provider.defaultSerializeValue(value.getData(), gen);
+    }
+}
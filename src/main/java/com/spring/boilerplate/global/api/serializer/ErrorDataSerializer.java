@@ -0,0 +1,45 @@
+package com.spring.boilerplate.global.api.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.spring.boilerplate.global.api.ErrorData;
+
+import java.io.IOException;
+
+/**
+ * [API Response]
+ * ErrorData 전용 Serializer
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class ErrorDataSerializer extends StdSerializer<ErrorData> {
+
+    public ErrorDataSerializer() {
+        super(ErrorData.class);
+    }
+
+    @Override
+    public void serialize(ErrorData value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(ErrorData value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private static void writeFields(ErrorData value, JsonGenerator gen) throws IOException {
+        gen.writeStringField("errorCode", value.getErrorCode());
+        gen.writeStringField("errorMessage", value.getErrorMessage());
+    }
+}
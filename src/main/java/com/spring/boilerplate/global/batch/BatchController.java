@@ -0,0 +1,47 @@
+package com.spring.boilerplate.global.batch;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * [Batch]
+ * 여러 API 요청을 1번의 HTTP 요청으로 처리
+ * 요청 : [{"method":"GET","path":"/a"}, {"method":"POST","path":"/b","body":{...}}]
+ * 응답 : 요청 순서대로의 ApiResponse 배열 [{"status":"success",...}, {"status":"fail",...}]
+ * 하위 요청의 실패는 해당 위치의 ApiResponse.fail 로 반환되며 Batch 전체는 200 으로 응답한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+public class BatchController {
+    static final String PATH = "/batch";
+
+    private final BatchDispatcher batchDispatcher;
+    private final BatchProperties properties;
+
+    @PostMapping(path = PATH, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> batch(@RequestBody List<BatchRequest> requests,
+                                        HttpServletRequest request, HttpServletResponse response) {
+        if (!properties.isEnabled()) {
+            throw new BusinessException(ErrorConstant.NOT_FOUND);
+        }
+        if (requests == null || requests.isEmpty() || requests.size() > properties.getMaxRequests()) {
+            throw new BusinessException(ErrorConstant.BAD_REQUEST_BODY);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(batchDispatcher.dispatch(requests, request, response));
+    }
+}
@@ -0,0 +1,359 @@
+package com.spring.boilerplate.global.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.admission.AdmissionControlFilter;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.config.async.MdcTaskDecorator;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import com.spring.boilerplate.global.security.AuthProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.security.web.firewall.HttpFirewall;
+import org.springframework.security.web.firewall.RequestRejectedException;
+import org.springframework.security.web.firewall.StrictHttpFirewall;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Batch]
+ * 하위 요청을 네트워크 왕복 없이 DispatcherServlet 으로 직접 실행하고 응답 본문을 순서대로 조립
+ * - 실행 순서 : 연속된 조회 요청 (GET / HEAD / OPTIONS) 은 bounded Executor 에서 병렬 실행하고,
+ *              변경 요청 (POST / PUT / PATCH / DELETE) 은 앞의 요청이 모두 끝난 후 단독으로 실행한다.
+ * - 검사 : Servlet Filter 를 거치지 않으므로 하위 요청 마다 HttpFirewall 경로 검사, Admission Rate limit (하위 경로 기준 Permit 1개),
+ *          WebInvocationPrivilegeEvaluator 인가를 직접 적용한다. (/batch 요청 자체도 Permit 1개를 소모)
+ * - 실패 : Handler 예외는 GlobalApiExceptionHandler 가 만든 ApiResponse.fail 이 그대로 해당 위치의 응답이 된다.
+ * - 시간 : 하위 요청 마다 Controller 메소드가 호출되므로 LoggingAspect 의 Latency / Audit 가 하위 요청 단위로 기록된다.
+ * 압축 / 조건부 요청 Header (Accept-Encoding, If-None-Match 등) 는 하위 요청에 전달하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BatchDispatcher implements MetricsExporter, DisposableBean {
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "OPTIONS", "POST", "PUT", "PATCH", "DELETE");
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+    private static final Set<String> EXCLUDED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Collections.addAll(EXCLUDED_HEADERS,
+                HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+                HttpHeaders.EXPECT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.RANGE, HttpHeaders.IF_RANGE,
+                HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_UNMODIFIED_SINCE);
+    }
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ObjectProvider<WebInvocationPrivilegeEvaluator> privilegeEvaluator;
+    private final ObjectProvider<AdmissionControlFilter> admissionControlFilter;
+    private final HttpFirewall firewall;
+    private final ObjectMapper objectMapper;
+    private final ApiResponseBodyCache bodyCache;
+    private final ErrorMetrics errorMetrics;
+    private final String accessHeader;
+    private final Executor executor;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+
+    public BatchDispatcher(DispatcherServlet dispatcherServlet, ObjectProvider<WebInvocationPrivilegeEvaluator> privilegeEvaluator,
+                           ObjectProvider<AdmissionControlFilter> admissionControlFilter, ObjectProvider<HttpFirewall> firewall,
+                           ObjectMapper objectMapper, ApiResponseBodyCache bodyCache, ErrorMetrics errorMetrics,
+                           AuthProperties authProperties, BatchProperties properties, Environment environment) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.admissionControlFilter = admissionControlFilter;
+        // FilterChainProxy 와 같은 기준 (HttpFirewall Bean 이 없으면 기본 StrictHttpFirewall)
+        this.firewall = firewall.getIfAvailable(StrictHttpFirewall::new);
+        this.objectMapper = objectMapper;
+        this.bodyCache = bodyCache;
+        this.errorMetrics = errorMetrics;
+        this.accessHeader = authProperties.getAccessHeader();
+        this.executor = createExecutor(properties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    private static Executor createExecutor(BatchProperties properties, boolean virtual) {
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors() * 2;
+        if (virtual) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads + properties.getQueueCapacity());
+            executor.setTaskDecorator(new MdcTaskDecorator());
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("batch-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        // Queue 가 가득 차면 Batch 요청 스레드가 직접 실행 (대기 작업 수 제한)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 하위 요청 전체 실행 후 ApiResponse 배열 JSON 반환
+     * @param requests 하위 요청 목록
+     * @param batchRequest Batch 요청
+     * @param batchResponse Batch 응답
+     * @return byte[]
+     */
+    public byte[] dispatch(List<BatchRequest> requests, HttpServletRequest batchRequest, HttpServletResponse batchResponse) {
+        batches.increment();
+        BatchRequestSnapshot snapshot = BatchRequestSnapshot.of(batchRequest, copyHeaders(batchRequest));
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        AdmissionControlFilter admission = admissionControlFilter.getIfAvailable();
+        // 요청 스레드에서 1번만 판별 (병렬 실행 중 원본 Request 를 읽지 않음)
+        String clientKey = admission != null ? admission.resolveClientKey(batchRequest) : null;
+        SubRequestContext context = new SubRequestContext(batchRequest, batchResponse, snapshot, securityContext, admission, clientKey);
+        byte[][] bodies = new byte[requests.size()][];
+
+        List<CompletableFuture<Void>> parallel = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            BatchRequest request = requests.get(i);
+            boolean safe = request.method() != null && SAFE_METHODS.contains(request.method().toUpperCase());
+            boolean nextSafe = i + 1 < requests.size() && requests.get(i + 1).method() != null
+                    && SAFE_METHODS.contains(requests.get(i + 1).method().toUpperCase());
+            if (safe && nextSafe) {
+                parallel.add(CompletableFuture.runAsync(() -> bodies[index] = execute(request, context), executor));
+                continue;
+            }
+            // 조회 요청 묶음의 마지막은 요청 스레드에서 실행, 변경 요청은 앞의 요청이 모두 끝난 후 실행
+            if (!safe) {
+                joinAll(parallel);
+            }
+            bodies[index] = execute(request, context);
+        }
+        joinAll(parallel);
+        return assemble(bodies);
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_batch_requests_total /batch requests\n");
+        out.append("# TYPE boilerplate_batch_requests_total counter\n");
+        out.append("boilerplate_batch_requests_total ").append(batches.sum()).append('\n');
+        out.append("# HELP boilerplate_batch_sub_requests_total Batch sub-requests by outcome\n");
+        out.append("# TYPE boilerplate_batch_sub_requests_total counter\n");
+        out.append("boilerplate_batch_sub_requests_total{outcome=\"success\"} ").append(succeeded.sum()).append('\n');
+        out.append("boilerplate_batch_sub_requests_total{outcome=\"fail\"} ").append(failed.sum()).append('\n');
+        out.append("boilerplate_batch_sub_requests_total{outcome=\"denied\"} ").append(denied.sum()).append('\n');
+        out.append("boilerplate_batch_sub_requests_total{outcome=\"rate_limited\"} ").append(rateLimited.sum()).append('\n');
+    }
+
+    private byte[] execute(BatchRequest request, SubRequestContext context) {
+        ErrorConstant invalid = validate(request);
+        if (invalid != null) {
+            return reject(invalid, failed);
+        }
+        String method = request.method().toUpperCase();
+        HttpServletRequest subRequest;
+        try {
+            subRequest = firewall.getFirewalledRequest(
+                    new BatchSubRequest(context.batchRequest(), context.snapshot(), method, request.path(), body(request)));
+        } catch (RequestRejectedException e) {
+            log.debug("Batch sub-request rejected by firewall : [{}] {} - {}", method, request.path(), e.getMessage());
+            return reject(ErrorConstant.BAD_REQUEST, denied);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // body 직렬화 실패 / 잘못된 Query 인코딩
+            return reject(ErrorConstant.BAD_REQUEST, failed);
+        }
+        if (context.admission() != null && context.admission().tryAcquire(subRequest.getServletPath(), context.clientKey()) > 0) {
+            return reject(ErrorConstant.TOO_MANY_REQUESTS, rateLimited);
+        }
+        ErrorConstant unauthorized = authorize(method, subRequest.getServletPath(), context.snapshot(),
+                context.securityContext().getAuthentication());
+        if (unauthorized != null) {
+            return reject(unauthorized, denied);
+        }
+
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(context.securityContext());
+        // 요청 스레드에서 실행되는 하위 요청이 /batch 요청의 구간 측정을 덮어쓰지 않도록 중단 (handler 구간에 포함)
+        RequestTimer timer = RequestTimer.suspend();
+        try {
+            BatchSubResponse subResponse = new BatchSubResponse(context.batchResponse());
+            dispatcherServlet.service(subRequest, subResponse);
+            (subResponse.getStatus() < 400 ? succeeded : failed).increment();
+            return toApiResponse(subResponse);
+        } catch (Exception e) {
+            log.error("Batch sub-request failed : [{}] {}", method, request.path(), e);
+            return reject(ErrorConstant.INTERNAL_SERVER, failed);
+        } finally {
+            RequestTimer.resume(timer);
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private ErrorConstant validate(BatchRequest request) {
+        if (request == null || request.method() == null || !METHODS.contains(request.method().toUpperCase())) {
+            return ErrorConstant.BAD_REQUEST_METHOD;
+        }
+        String path = request.path();
+        if (path == null || !path.startsWith("/") || path.startsWith("//") || isBatchPath(path)) {
+            return ErrorConstant.BAD_REQUEST;
+        }
+        return null;
+    }
+
+    private ErrorConstant authorize(String method, String path, BatchRequestSnapshot snapshot, Authentication authentication) {
+        WebInvocationPrivilegeEvaluator evaluator = privilegeEvaluator.getIfAvailable();
+        if (evaluator == null || evaluator.isAllowed(snapshot.contextPath(), path, method, authentication)) {
+            return null;
+        }
+        // AuthErrorResponder 와 같은 기준
+        if (authentication == null || TRUST_RESOLVER.isAnonymous(authentication)) {
+            return snapshot.headers().containsKey(accessHeader) ? ErrorConstant.UNAUTHORIZED : ErrorConstant.TOKEN_NUll;
+        }
+        return ErrorConstant.TOKEN_NOT_ALLOWED;
+    }
+
+    /**
+     * 하위 응답 본문을 ApiResponse JSON 으로 변환
+     * JSON 본문 (ApiResponseHttpMessageConverter / GlobalApiExceptionHandler 의 응답) 은 그대로 사용하고,
+     * 본문이 없거나 JSON 이 아닌 경우 상태 코드로 ApiResponse 를 만든다.
+     */
+    private byte[] toApiResponse(BatchSubResponse response) throws JsonProcessingException {
+        byte[] body = response.getBody();
+        if (body.length > 0 && isJson(response.getContentType())) {
+            return body;
+        }
+        int status = response.getStatus();
+        if (status < 400) {
+            String text = body.length == 0 ? null : new String(body, response.getCharset());
+            return objectMapper.writeValueAsBytes(ApiResponse.success(status, text));
+        }
+        ErrorConstant errorConstant = toErrorConstant(status);
+        errorMetrics.increment(errorConstant);
+        return bodyCache.getBody(errorConstant);
+    }
+
+    private byte[] reject(ErrorConstant errorConstant, LongAdder counter) {
+        counter.increment();
+        errorMetrics.increment(errorConstant);
+        return bodyCache.getBody(errorConstant);
+    }
+
+    private byte[] body(BatchRequest request) throws JsonProcessingException {
+        return request.body() == null || request.body().isNull() ? new byte[0] : objectMapper.writeValueAsBytes(request.body());
+    }
+
+    private static ErrorConstant toErrorConstant(int status) {
+        return switch (status) {
+            case 401 -> ErrorConstant.UNAUTHORIZED;
+            case 403 -> ErrorConstant.TOKEN_NOT_ALLOWED;
+            case 404 -> ErrorConstant.NOT_FOUND;
+            case 405 -> ErrorConstant.BAD_REQUEST_METHOD;
+            case 429 -> ErrorConstant.TOO_MANY_REQUESTS;
+            case 503 -> ErrorConstant.SERVICE_UNAVAILABLE;
+            default -> status >= 500 ? ErrorConstant.INTERNAL_SERVER : ErrorConstant.BAD_REQUEST;
+        };
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mediaType.isCompatibleWith(MediaType.APPLICATION_JSON) || mediaType.getSubtype().endsWith("+json");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBatchPath(String path) {
+        return path.startsWith(BatchController.PATH)
+                && (path.length() == BatchController.PATH.length() || "/?#".indexOf(path.charAt(BatchController.PATH.length())) >= 0);
+    }
+
+    /**
+     * Batch 요청의 Header 를 1번만 복사하여 하위 요청이 공유 (병렬 실행 중 원본 Request 의 Header 를 읽지 않음)
+     */
+    private static Map<String, List<String>> copyHeaders(HttpServletRequest request) {
+        Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!EXCLUDED_HEADERS.contains(name)) {
+                headers.put(name, List.copyOf(Collections.list(request.getHeaders(name))));
+            }
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * 하위 요청 실행에 공통으로 필요한 Batch 요청 정보
+     */
+    private record SubRequestContext(HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                                     BatchRequestSnapshot snapshot, SecurityContext securityContext,
+                                     AdmissionControlFilter admission, String clientKey) {
+    }
+
+    private static void joinAll(List<CompletableFuture<Void>> futures) {
+        if (!futures.isEmpty()) {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            futures.clear();
+        }
+    }
+
+    private static byte[] assemble(byte[][] bodies) {
+        int size = 2;
+        for (byte[] body : bodies) {
+            size += body.length + 1;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write('[');
+        for (int i = 0; i < bodies.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(bodies[i], 0, bodies[i].length);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,22 @@
+package com.spring.boilerplate.global.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Batch]
+ * /batch 요청 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.batch")
+public class BatchProperties {
+    private boolean enabled = true;         // false 인 경우 /batch 요청은 NOT_FOUND
+    private int maxRequests = 20;           // Batch 1건의 최대 하위 요청 수 (초과 시 BAD_REQUEST_BODY)
+    private int threads = 0;                // 하위 요청 병렬 실행 스레드 수 (0 : CPU 수 x 2)
+    private int queueCapacity = 256;        // 대기 Queue 크기 (초과 시 요청 스레드에서 직접 실행)
+}
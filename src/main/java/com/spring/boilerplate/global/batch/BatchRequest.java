@@ -0,0 +1,17 @@
+package com.spring.boilerplate.global.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * [Batch]
+ * /batch 하위 요청 1건
+ * ex. {"method":"GET","path":"/response/success"}, {"method":"POST","path":"/benchmark/echo","body":{"name":"testA"}}
+ * @param method HTTP Method
+ * @param path Context Path 를 제외한 경로 (Query 포함 가능)
+ * @param body JSON 요청 본문 (없으면 null)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record BatchRequest(String method, String path, JsonNode body) {
+}
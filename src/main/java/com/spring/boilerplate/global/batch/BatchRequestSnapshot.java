@@ -0,0 +1,62 @@
+package com.spring.boilerplate.global.batch;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * [Batch]
+ * 하위 요청이 공유하는 Batch 요청 정보
+ * 컨테이너의 Request 객체는 스레드 안전하지 않으므로, 병렬로 실행되는 하위 요청이 읽는 값은 요청 스레드에서 1번만 복사한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+record BatchRequestSnapshot(Map<String, List<String>> headers,
+                            String scheme, String serverName, int serverPort, boolean secure, String protocol,
+                            String contextPath,
+                            String remoteAddr, String remoteHost, int remotePort,
+                            String localAddr, String localName, int localPort,
+                            Locale locale, List<Locale> locales, Cookie[] cookies,
+                            HttpSession session, String requestedSessionId) {
+
+    /**
+     * Batch 요청에서 복사 (요청 스레드에서 호출)
+     * @param request Batch 요청
+     * @param headers 하위 요청에 전달 할 Header
+     * @return BatchRequestSnapshot
+     */
+    static BatchRequestSnapshot of(HttpServletRequest request, Map<String, List<String>> headers) {
+        return new BatchRequestSnapshot(headers,
+                request.getScheme(), request.getServerName(), request.getServerPort(), request.isSecure(), request.getProtocol(),
+                request.getContextPath(),
+                request.getRemoteAddr(), request.getRemoteHost(), request.getRemotePort(),
+                request.getLocalAddr(), request.getLocalName(), request.getLocalPort(),
+                request.getLocale(), List.copyOf(Collections.list(request.getLocales())), copy(request.getCookies()),
+                request.getSession(false), request.getRequestedSessionId());
+    }
+
+    /**
+     * Cookie 는 변경 가능한 객체이므로 하위 요청 마다 복사하여 전달
+     * @return Cookie[] (Cookie 가 없으면 null)
+     */
+    Cookie[] copyCookies() {
+        return copy(cookies);
+    }
+
+    private static Cookie[] copy(Cookie[] cookies) {
+        if (cookies == null) {
+            return null;
+        }
+        Cookie[] copy = new Cookie[cookies.length];
+        for (int i = 0; i < cookies.length; i++) {
+            copy[i] = (Cookie) cookies[i].clone();
+        }
+        return copy;
+    }
+}
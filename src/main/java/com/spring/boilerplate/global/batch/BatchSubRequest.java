@@ -0,0 +1,412 @@
+package com.spring.boilerplate.global.batch;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [Batch]
+ * DispatcherServlet 으로 직접 전달하는 하위 요청
+ * Method / 경로 / Query / 본문은 하위 요청의 값을 사용하고, Header 는 Batch 요청에서 복사한 값을 공유한다.
+ * Request Attribute 는 하위 요청 별로 분리되어 있어 병렬로 처리되어도 서로의 Handler 정보를 덮어쓰지 않는다.
+ * 연결 정보 (Remote Address, Server Name 등), Locale, Cookie, Session 은 요청 스레드에서 복사한 BatchRequestSnapshot 을 사용하여
+ * 병렬 실행 중 컨테이너의 Request 객체를 다른 스레드에서 읽지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class BatchSubRequest extends HttpServletRequestWrapper {
+    private static final String[] EMPTY_VALUES = new String[0];
+
+    private final String method;
+    private final String path;
+    private final String queryString;
+    private final byte[] body;
+    private final BatchRequestSnapshot snapshot;
+    private final Map<String, List<String>> headers;
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    BatchSubRequest(HttpServletRequest batchRequest, BatchRequestSnapshot snapshot,
+                    String method, String pathAndQuery, byte[] body) {
+        super(batchRequest);
+        int query = pathAndQuery.indexOf('?');
+        this.method = method;
+        this.path = query < 0 ? pathAndQuery : pathAndQuery.substring(0, query);
+        this.queryString = query < 0 || query == pathAndQuery.length() - 1 ? null : pathAndQuery.substring(query + 1);
+        this.body = body;
+        this.snapshot = snapshot;
+        this.headers = snapshot.headers();
+        this.parameters = parseQuery(queryString);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer(64).append(getScheme()).append("://").append(getServerName());
+        int port = getServerPort();
+        if (port > 0 && !(port == 80 && "http".equals(getScheme())) && !(port == 443 && "https".equals(getScheme()))) {
+            url.append(':').append(port);
+        }
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getContextPath() {
+        return snapshot.contextPath();
+    }
+
+    @Override
+    public String getScheme() {
+        return snapshot.scheme();
+    }
+
+    @Override
+    public String getServerName() {
+        return snapshot.serverName();
+    }
+
+    @Override
+    public int getServerPort() {
+        return snapshot.serverPort();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return snapshot.secure();
+    }
+
+    @Override
+    public String getProtocol() {
+        return snapshot.protocol();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return snapshot.remoteAddr();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return snapshot.remoteHost();
+    }
+
+    @Override
+    public int getRemotePort() {
+        return snapshot.remotePort();
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return snapshot.localAddr();
+    }
+
+    @Override
+    public String getLocalName() {
+        return snapshot.localName();
+    }
+
+    @Override
+    public int getLocalPort() {
+        return snapshot.localPort();
+    }
+
+    @Override
+    public Locale getLocale() {
+        return snapshot.locale();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(snapshot.locales());
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return snapshot.copyCookies();
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (snapshot.session() == null && create) {
+            // Session 생성은 컨테이너 Request / Response 를 변경하므로 하위 요청에서는 허용하지 않음
+            throw new IllegalStateException("Session creation is not supported in batch sub-requests");
+        }
+        return snapshot.session();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return snapshot.requestedSessionId();
+    }
+
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] values = parameters.get(name);
+        return values == null ? null : values.clone();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            return getContentType();
+        }
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            return body.length == 0 ? null : String.valueOf(body.length);
+        }
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        String contentHeader = HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                ? getHeader(name) : null;
+        if (contentHeader != null) {
+            return Collections.enumeration(List.of(contentHeader));
+        }
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values == null ? List.of() : values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        if (body.length == 0) {
+            return Collections.enumeration(headers.keySet());
+        }
+        LinkedCaseInsensitiveMap<Boolean> names = new LinkedCaseInsensitiveMap<>();
+        headers.keySet().forEach(name -> names.put(name, Boolean.TRUE));
+        names.put(HttpHeaders.CONTENT_TYPE, Boolean.TRUE);
+        names.put(HttpHeaders.CONTENT_LENGTH, Boolean.TRUE);
+        return Collections.enumeration(names.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        // 조건부 요청 Header 는 전달하지 않으므로 날짜 Header 를 해석할 일이 없다
+        return -1L;
+    }
+
+    @Override
+    public String getContentType() {
+        return body.length == 0 ? null : MediaType.APPLICATION_JSON_VALUE;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        // 본문은 항상 UTF-8 JSON
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new BodyInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Async processing is not supported in batch sub-requests");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("Async processing is not supported in batch sub-requests");
+    }
+
+    private static Map<String, String[]> parseQuery(String queryString) {
+        if (queryString == null) {
+            return Map.of();
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            String[] values = parameters.getOrDefault(name, EMPTY_VALUES);
+            String[] appended = Arrays.copyOf(values, values.length + 1);
+            appended[values.length] = value;
+            parameters.put(name, appended);
+        }
+        return parameters;
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+        private final ByteArrayInputStream delegate;
+
+        BodyInputStream(byte[] body) {
+            this.delegate = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return delegate.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            // 본문 전체가 메모리에 있으므로 즉시 읽기 가능 / 읽기 완료를 알림
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.spring.boilerplate.global.cache;
+
+/**
+ * [Cache]
+ * 노드 간 L1 무효화 메시지
+ * @param origin 발행 노드 식별자 (자기 자신이 발행한 메시지는 무시)
+ * @param cacheName Cache 이름
+ * @param key 무효화 할 Key (null 이면 Cache 전체)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+}
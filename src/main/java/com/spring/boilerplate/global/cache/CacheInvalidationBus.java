@@ -0,0 +1,25 @@
+package com.spring.boilerplate.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * [Cache]
+ * 노드 간 L1 (Near Cache) 무효화 메시지 전달
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 무효화 메시지 발행
+     * @param invalidation CacheInvalidation
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * 무효화 메시지 구독
+     * @param subscriber 수신 처리
+     */
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
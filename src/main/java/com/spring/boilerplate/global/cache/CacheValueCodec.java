@@ -0,0 +1,91 @@
+package com.spring.boilerplate.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import org.springframework.cache.support.NullValue;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * [Cache]
+ * L2 저장 값 직렬화
+ * 형식 : [Class 이름]\n[JSON] (null 값은 빈 바이트 배열)
+ * 역직렬화는 허용 된 패키지의 타입만 처리하며, 중첩 된 다형 타입은 Jackson Default Typing 으로 복원한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class CacheValueCodec {
+    private static final byte SEPARATOR = '\n';
+    private static final byte[] NULL_VALUE = new byte[0];
+
+    private final ObjectMapper objectMapper;
+    private final List<String> trustedPackages;
+
+    CacheValueCodec(ObjectMapper objectMapper, List<String> trustedPackages) {
+        BasicPolymorphicTypeValidator.Builder validator = BasicPolymorphicTypeValidator.builder().allowIfSubTypeIsArray();
+        trustedPackages.forEach(validator::allowIfSubType);
+        this.objectMapper = objectMapper.copy()
+                .activateDefaultTyping(validator.build(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        this.trustedPackages = List.copyOf(trustedPackages);
+    }
+
+    byte[] encode(Object storeValue) {
+        if (storeValue == NullValue.INSTANCE) {
+            return NULL_VALUE;
+        }
+        byte[] typeName = storeValue.getClass().getName().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(typeName.length + 256);
+        out.write(typeName, 0, typeName.length);
+        out.write(SEPARATOR);
+        try {
+            objectMapper.writeValue(out, storeValue);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cache value serialization failed : " + storeValue.getClass().getName(), e);
+        }
+        return out.toByteArray();
+    }
+
+    Object decode(byte[] bytes) {
+        if (bytes.length == 0) {
+            return NullValue.INSTANCE;
+        }
+        int separator = indexOfSeparator(bytes);
+        if (separator <= 0) {
+            throw new IllegalStateException("Invalid cache value format");
+        }
+        String typeName = new String(bytes, 0, separator, StandardCharsets.UTF_8);
+        if (!isTrusted(typeName)) {
+            throw new IllegalStateException("Untrusted cache value type : " + typeName);
+        }
+        try {
+            Class<?> type = ClassUtils.forName(typeName, ClassUtils.getDefaultClassLoader());
+            return objectMapper.readValue(bytes, separator + 1, bytes.length - separator - 1, type);
+        } catch (ClassNotFoundException | IOException e) {
+            throw new IllegalStateException("Cache value deserialization failed : " + typeName, e);
+        }
+    }
+
+    private boolean isTrusted(String typeName) {
+        for (String trustedPackage : trustedPackages) {
+            if (typeName.startsWith(trustedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOfSeparator(byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
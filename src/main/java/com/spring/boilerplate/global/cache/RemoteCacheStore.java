@@ -0,0 +1,41 @@
+package com.spring.boilerplate.global.cache;
+
+import java.time.Duration;
+
+/**
+ * [Cache]
+ * L2 (원격) Cache 저장소
+ * 값은 CacheValueCodec 으로 직렬화 된 바이트로 주고 받는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * 조회 (없으면 null)
+     * @param key 원격 Key
+     * @return byte[]
+     */
+    byte[] get(String key);
+
+    /**
+     * 저장
+     * @param key 원격 Key
+     * @param value 직렬화 된 값
+     * @param ttl 만료 시간 (null 또는 0 이하인 경우 만료 없음)
+     */
+    void put(String key, byte[] value, Duration ttl);
+
+    /**
+     * 삭제
+     * @param key 원격 Key
+     */
+    void evict(String key);
+
+    /**
+     * Key prefix 로 시작하는 항목 전체 삭제
+     * @param keyPrefix 원격 Key prefix
+     */
+    void clear(String keyPrefix);
+}
@@ -0,0 +1,14 @@
+package com.spring.boilerplate.global.cache;
+
+/**
+ * [Cache]
+ * L2 (원격) Cache 저장소 유형
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public enum RemoteType {
+    NONE,       // L1 (In-Process) 만 사용
+    MEMORY,     // 내장 In-Memory 저장소 (단일 JVM 테스트 용)
+    REDIS,      // Redis
+}
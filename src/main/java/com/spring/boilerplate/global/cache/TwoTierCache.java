@@ -0,0 +1,272 @@
+package com.spring.boilerplate.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Cache]
+ * L1 (Caffeine, W-TinyLFU) + L2 (RemoteCacheStore) 2단계 Cache
+ * 1. 조회 : L1 -> L2 순서로 조회하고, L2 에서 찾은 값은 L1 에 적재
+ * 2. 적재 (@Cacheable sync 포함) : 같은 Key 에 대한 동시 miss 는 한 번만 로딩하고 나머지는 결과를 기다린다.
+ * 3. 변경 (put / evict / clear) : L1, L2 반영 후 다른 노드에 L1 무효화 메시지 발행
+ * Key 는 toString() 결과를 사용하므로 toString 이 값을 구분 할 수 있는 타입이어야 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RemoteCacheStore remote;              // L2 미사용 시 null
+    private final CacheInvalidationBus invalidationBus; // 무효화 미사용 시 null
+    private final CacheValueCodec codec;
+    private final TwoTierCacheProperties.Spec spec;
+    private final String remoteKeyPrefix;
+    private final String nodeId;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    TwoTierCache(String name, TwoTierCacheProperties.Spec spec, String keyPrefix, RemoteCacheStore remote,
+                 CacheInvalidationBus invalidationBus, CacheValueCodec codec, String nodeId) {
+        super(spec.isAllowNullValues());
+        this.name = name;
+        this.spec = spec;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        this.remote = spec.isRemoteEnabled() ? remote : null;
+        this.invalidationBus = invalidationBus;
+        this.codec = codec;
+        this.remoteKeyPrefix = keyPrefix + name + "::";
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null || remote == null) {
+            return value;
+        }
+        return lookupRemote(cacheKey);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+
+        // 같은 Key 의 동시 miss 는 먼저 들어온 요청만 로딩
+        String cacheKey = String.valueOf(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(cacheKey, future);
+        if (inFlight != null) {
+            coalesced.increment();
+            return (T) fromStoreValue(await(inFlight));
+        }
+        try {
+            // lookup 과 putIfAbsent 사이에 다른 요청이 적재를 끝낸 경우 (통계에 중복 집계되지 않도록 asMap 사용)
+            Object stored = local.asMap().get(cacheKey);
+            if (stored == null) {
+                stored = toStoreValue(load(key, valueLoader));
+                local.put(cacheKey, stored);
+                putRemote(cacheKey, stored);
+            }
+            future.complete(stored);
+            return (T) fromStoreValue(stored);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cacheKey, future);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = String.valueOf(key);
+        Object stored = toStoreValue(value);
+        local.put(cacheKey, stored);
+        putRemote(cacheKey, stored);
+        publish(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        local.invalidate(cacheKey);
+        if (remote != null) {
+            try {
+                remote.evict(remoteKeyPrefix + cacheKey);
+            } catch (RuntimeException e) {
+                remoteErrors.increment();
+                log.warn("Remote cache evict failed [{}] {} : {}", name, cacheKey, e.getMessage());
+            }
+        }
+        publish(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote != null) {
+            try {
+                remote.clear(remoteKeyPrefix);
+            } catch (RuntimeException e) {
+                remoteErrors.increment();
+                log.warn("Remote cache clear failed [{}] : {}", name, e.getMessage());
+            }
+        }
+        publish(null);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 반영 (L1 만 제거)
+     * @param invalidation CacheInvalidation
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    public CacheStats getLocalStats() {
+        return local.stats();
+    }
+
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMissCount() {
+        return remoteMisses.sum();
+    }
+
+    public long getRemoteErrorCount() {
+        return remoteErrors.sum();
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccesses.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private Object lookupRemote(String cacheKey) {
+        byte[] bytes;
+        Object value;
+        try {
+            bytes = remote.get(remoteKeyPrefix + cacheKey);
+            if (bytes == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            value = codec.decode(bytes);
+        } catch (RuntimeException e) {
+            // L2 장애는 miss 로 처리하여 원본 조회로 넘어간다.
+            remoteErrors.increment();
+            log.warn("Remote cache lookup failed [{}] {} : {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+        remoteHits.increment();
+        local.put(cacheKey, value);
+        return value;
+    }
+
+    private void putRemote(String cacheKey, Object stored) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(remoteKeyPrefix + cacheKey, codec.encode(stored), spec.getEffectiveRemoteTtl());
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("Remote cache put failed [{}] {} : {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void publish(String cacheKey) {
+        if (invalidationBus == null) {
+            return;
+        }
+        try {
+            invalidationBus.publish(new CacheInvalidation(nodeId, name, cacheKey));
+        } catch (RuntimeException e) {
+            log.warn("Cache invalidation publish failed [{}] {} : {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            T value = valueLoader.call();
+            loadSuccesses.increment();
+            return value;
+        } catch (Exception e) {
+            loadFailures.increment();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            // leader 와 같은 예외 타입으로 전달 (Loader 의 Error 는 감싸지 않고 그대로 전파 되므로 대기 요청도 동일)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
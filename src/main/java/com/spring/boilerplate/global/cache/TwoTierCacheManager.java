@@ -0,0 +1,110 @@
+package com.spring.boilerplate.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * [Cache]
+ * TwoTierCache 를 생성 / 관리하는 CacheManager (@Cacheable, @CachePut, @CacheEvict 연동)
+ * 설정에 없는 이름은 최초 사용 시 기본 설정으로 생성한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class TwoTierCacheManager implements CacheManager, MetricsExporter {
+
+    private final TwoTierCacheProperties properties;
+    private final RemoteCacheStore remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheValueCodec codec;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(TwoTierCacheProperties properties, ObjectMapper objectMapper,
+                               RemoteCacheStore remote, CacheInvalidationBus invalidationBus) {
+        this.properties = properties;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.codec = new CacheValueCodec(objectMapper, properties.getTrustedPackages());
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+        properties.getCaches().keySet().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        return cache != null ? cache : caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_cache_requests_total Cache lookups by tier and result\n");
+        out.append("# TYPE boilerplate_cache_requests_total counter\n");
+        caches.forEach((name, cache) -> {
+            CacheStats stats = cache.getLocalStats();
+            appendRequests(out, name, "local", "hit", stats.hitCount());
+            appendRequests(out, name, "local", "miss", stats.missCount());
+            appendRequests(out, name, "remote", "hit", cache.getRemoteHitCount());
+            appendRequests(out, name, "remote", "miss", cache.getRemoteMissCount());
+        });
+        appendFamily(out, "boilerplate_cache_evictions_total", "counter", "L1 size / expiry evictions",
+                cache -> cache.getLocalStats().evictionCount());
+        appendFamily(out, "boilerplate_cache_loads_total", "counter", "Successful value loads on miss",
+                TwoTierCache::getLoadSuccessCount);
+        appendFamily(out, "boilerplate_cache_load_failures_total", "counter", "Failed value loads on miss",
+                TwoTierCache::getLoadFailureCount);
+        appendFamily(out, "boilerplate_cache_coalesced_total", "counter", "Misses that waited for an in-flight load",
+                TwoTierCache::getCoalescedCount);
+        appendFamily(out, "boilerplate_cache_remote_errors_total", "counter", "L2 operation failures",
+                TwoTierCache::getRemoteErrorCount);
+        appendFamily(out, "boilerplate_cache_size", "gauge", "Estimated L1 entries",
+                TwoTierCache::getLocalSize);
+    }
+
+    private TwoTierCache createCache(String name) {
+        return new TwoTierCache(name, properties.getSpec(name), properties.getRemote().getKeyPrefix(),
+                remote, invalidationBus, codec, nodeId);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+
+    private static void appendRequests(StringBuilder out, String name, String tier, String result, long value) {
+        out.append("boilerplate_cache_requests_total{cache=\"").append(name)
+                .append("\",tier=\"").append(tier)
+                .append("\",result=\"").append(result)
+                .append("\"} ").append(value).append('\n');
+    }
+
+    private void appendFamily(StringBuilder out, String metric, String type, String help, ToLongFunction<TwoTierCache> value) {
+        out.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+        caches.forEach((name, cache) -> out.append(metric).append("{cache=\"").append(name).append("\"} ")
+                .append(value.applyAsLong(cache)).append('\n'));
+    }
+}
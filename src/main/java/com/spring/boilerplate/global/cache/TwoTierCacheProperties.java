@@ -0,0 +1,60 @@
+package com.spring.boilerplate.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Cache]
+ * 2단계 Cache (L1 Caffeine + L2 원격 저장소) 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.cache")
+public class TwoTierCacheProperties {
+    private Spec defaults = new Spec();                         // 별도 설정이 없는 Cache 에 적용 할 설정
+    private Map<String, Spec> caches = new LinkedHashMap<>();   // Cache 이름 별 설정 (지정하지 않은 항목은 Spec 기본 값)
+    private Remote remote = new Remote();
+    private List<String> trustedPackages = new ArrayList<>(List.of(
+            "com.spring.boilerplate.", "java.lang.", "java.util.", "java.time.", "java.math."));  // L2 역직렬화 허용 패키지
+
+    /**
+     * Cache 이름에 해당하는 설정
+     * @param name Cache 이름
+     * @return Spec
+     */
+    public Spec getSpec(String name) {
+        return caches.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration ttl = Duration.ofMinutes(10);  // L1 만료 시간 (write 기준)
+        private long maximumSize = 10_000;              // L1 최대 항목 수 (W-TinyLFU 로 admission / eviction)
+        private boolean remoteEnabled = true;           // L2 사용 여부
+        private Duration remoteTtl;                     // L2 만료 시간 (없으면 ttl)
+        private boolean allowNullValues = true;         // null 결과 캐싱 여부
+
+        public Duration getEffectiveRemoteTtl() {
+            return remoteTtl != null ? remoteTtl : ttl;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Remote {
+        private RemoteType type = RemoteType.NONE;
+        private String keyPrefix = "boilerplate:cache:";                        // L2 Key prefix
+        private String invalidationChannel = "boilerplate:cache:invalidation";  // 노드 간 L1 무효화 채널
+    }
+}
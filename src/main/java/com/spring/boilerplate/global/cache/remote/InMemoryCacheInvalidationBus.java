@@ -0,0 +1,33 @@
+package com.spring.boilerplate.global.cache.remote;
+
+import com.spring.boilerplate.global.cache.CacheInvalidation;
+import com.spring.boilerplate.global.cache.CacheInvalidationBus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * [Cache]
+ * 같은 JVM 안의 구독자에게 동기 전달하는 무효화 Bus (테스트 용)
+ * 하나의 인스턴스를 여러 CacheManager 가 공유하면 다중 노드 환경을 흉내 낼 수 있다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            subscriber.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.boilerplate.global.cache.remote;
+
+import com.spring.boilerplate.global.cache.RemoteCacheStore;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [Cache]
+ * 내장 In-Memory L2 저장소 (Redis 없이 테스트 / 로컬 실행 용)
+ * 원격 저장소와 동일하게 직렬화 된 바이트를 보관하며, 만료 항목은 조회 시 제거한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        long expireAt = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : System.nanoTime() + ttl.toNanos();
+        entries.put(key, new Entry(value.clone(), expireAt));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void clear(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(byte[] value, long expireAtNanos) {
+        boolean isExpired(long now) {
+            return expireAtNanos != 0 && now - expireAtNanos >= 0;
+        }
+    }
+}
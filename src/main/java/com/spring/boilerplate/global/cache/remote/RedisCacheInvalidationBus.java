@@ -0,0 +1,65 @@
+package com.spring.boilerplate.global.cache.remote;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.cache.CacheInvalidation;
+import com.spring.boilerplate.global.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * [Cache]
+ * Redis Pub/Sub 기반 노드 간 L1 무효화 Bus
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(RedisTemplate<String, byte[]> redisTemplate, ObjectMapper objectMapper, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsBytes(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cache invalidation serialization failed", e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+        } catch (IOException e) {
+            log.warn("Invalid cache invalidation message on {} : {}", channel, e.getMessage());
+            return;
+        }
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            subscriber.accept(invalidation);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.spring.boilerplate.global.cache.remote;
+
+import com.spring.boilerplate.global.cache.RemoteCacheStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [Cache]
+ * Redis L2 저장소
+ * 전체 삭제는 KEYS 대신 SCAN 으로 prefix 에 해당하는 Key 를 나누어 삭제한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+    private static final int CLEAR_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    @Override
+    public byte[] get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            redisTemplate.opsForValue().set(key, value);
+        } else {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        redisTemplate.delete(key);
+    }
+
+    @Override
+    public void clear(String keyPrefix) {
+        ScanOptions options = ScanOptions.scanOptions().match(escapePattern(keyPrefix) + "*").count(CLEAR_BATCH_SIZE).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> keys = new ArrayList<>(CLEAR_BATCH_SIZE);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == CLEAR_BATCH_SIZE) {
+                        connection.keyCommands().del(keys.toArray(new byte[0][]));
+                        keys.clear();
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                connection.keyCommands().del(keys.toArray(new byte[0][]));
+            }
+            return null;
+        });
+    }
+
+    private static String escapePattern(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
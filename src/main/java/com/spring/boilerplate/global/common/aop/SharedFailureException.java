@@ -0,0 +1,17 @@
+package com.spring.boilerplate.global.common.aop;
+
+/**
+ * [AOP]
+ * @SingleFlight 대기 요청에 전달되는 leader 실패 예외
+ * leader 의 예외는 cause 로 보관하며, 대기 요청 마다 새 인스턴스를 생성한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class SharedFailureException extends RuntimeException {
+
+    public SharedFailureException(Throwable cause) {
+        // 대기 스레드의 stack trace 는 원인 파악에 도움이 되지 않으므로 생략 (cause 에 leader 의 stack trace 보존)
+        super("Shared single-flight failure : " + cause, cause, false, false);
+    }
+}
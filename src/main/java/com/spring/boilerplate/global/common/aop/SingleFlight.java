@@ -0,0 +1,45 @@
+package com.spring.boilerplate.global.common.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * [AOP]
+ * 동일한 GET 요청이 동시에 들어오는 경우 Controller 메소드를 1번만 실행하고 결과를 공유 (request coalescing)
+ * 요청 Key = Route (Handler) + Path + 정규화 Query (파라미터 이름 순 정렬) + 지정 Header + 인증 사용자
+ * 반환 값 (ResponseEntity / ApiResponse) 은 여러 요청이 공유하므로 불변 객체여야 한다.
+ * StreamingApiResponse 처럼 1회만 소비 가능한 응답에는 적용되지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 요청 Key 에 포함 할 Header 이름 (ex. Accept-Language)
+     */
+    String[] headers() default {};
+
+    /**
+     * 실행 완료 후 같은 Key 요청에 결과를 재사용 할 시간 (ms, 0 : 재사용 없음)
+     * 실패 결과는 재사용하지 않는다.
+     */
+    long reuseMillis() default 0;
+
+    /**
+     * 대기 요청의 최대 대기 시간 (ms)
+     * 초과 시 대기를 중단하고 해당 요청이 직접 실행한다.
+     */
+    long timeoutMillis() default 5_000;
+
+    /**
+     * 인증 사용자가 달라도 결과를 공유할지 여부 (사용자 별 응답이 없는 공개 리소스에만 true)
+     */
+    boolean shareAcrossUsers() default false;
+}
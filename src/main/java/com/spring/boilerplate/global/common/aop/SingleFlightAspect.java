@@ -0,0 +1,322 @@
+package com.spring.boilerplate.global.common.aop;
+
+import com.spring.boilerplate.global.api.StreamingApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.common.route.RouteRegistry;
+import com.spring.boilerplate.global.exception.AuthException;
+import com.spring.boilerplate.global.exception.BusinessException;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [AOP]
+ * @SingleFlight 요청 병합
+ * 같은 Key 의 요청이 실행 중이면 새로 실행하지 않고 실행 중인 요청 (leader) 의 결과를 기다려 공유한다.
+ * - 성공 : 대기 요청 모두 같은 반환 값을 받고, reuseMillis 동안 이후 요청에도 재사용
+ * - 실패 : 대기 요청 마다 leader 의 예외를 복사 / 감싼 새 예외를 받음 (실패 결과는 재사용하지 않음)
+ * - 대기 시간 초과 : 대기를 중단하고 해당 요청이 직접 실행
+ * LoggingAspect 보다 안쪽에서 실행되어 Latency / Audit 은 요청 별로 기록된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SingleFlightAspect implements MetricsExporter {
+
+    private final SingleFlightProperties properties;
+    private final RouteRegistry routeRegistry;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Method, Spec> specs = new ConcurrentHashMap<>();
+    private final LongAdder waiting = new LongAdder();
+    private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime());
+
+    // 적용 할 대상 지정
+    @Pointcut("@annotation(com.spring.boilerplate.global.common.aop.SingleFlight)")
+    public void singleFlight(){}
+
+    @Around("com.spring.boilerplate.global.common.aop.SingleFlightAspect.singleFlight()")
+    public Object coalesce(ProceedingJoinPoint pjp) throws Throwable {
+        if (!properties.isEnabled()) {
+            return pjp.proceed();
+        }
+        HttpServletRequest request = currentRequest();
+        if (request == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return pjp.proceed();
+        }
+        Spec spec = getSpec(pjp);
+        if (!spec.sharable()) {
+            return pjp.proceed();
+        }
+        long now = System.nanoTime();
+        sweepIfDue(now);
+
+        String key = key(spec, request);
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                if (flights.size() >= properties.getMaxFlights()) {
+                    spec.counters().bypassed.increment();
+                    return pjp.proceed();
+                }
+                Flight created = new Flight();
+                flight = flights.putIfAbsent(key, created);
+                if (flight == null) {
+                    return lead(pjp, spec, key, created);
+                }
+            }
+            if (flight.isReusable(now)) {
+                spec.counters().reused.increment();
+                return flight.future.getNow(null);
+            }
+            if (flight.future.isDone()) {
+                // 재사용 기간이 지났거나 leader 가 정리 전인 실패 결과
+                flights.remove(key, flight);
+                continue;
+            }
+            return await(pjp, spec, flight);
+        }
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_single_flight_requests_total @SingleFlight requests by outcome\n");
+        out.append("# TYPE boilerplate_single_flight_requests_total counter\n");
+        specs.values().stream().filter(Spec::sharable).forEach(spec -> {
+            Counters counters = spec.counters();
+            appendSeries(out, spec, "executed", counters.executed.sum());
+            appendSeries(out, spec, "shared", counters.shared.sum());
+            appendSeries(out, spec, "shared_failure", counters.sharedFailures.sum());
+            appendSeries(out, spec, "reused", counters.reused.sum());
+            appendSeries(out, spec, "timeout", counters.timeouts.sum());
+            appendSeries(out, spec, "bypassed", counters.bypassed.sum());
+        });
+        out.append("# HELP boilerplate_single_flight_waiters Requests currently waiting for a leader\n");
+        out.append("# TYPE boilerplate_single_flight_waiters gauge\n");
+        out.append("boilerplate_single_flight_waiters ").append(waiting.sum()).append('\n');
+        out.append("# HELP boilerplate_single_flight_keys In-flight or reusable keys\n");
+        out.append("# TYPE boilerplate_single_flight_keys gauge\n");
+        out.append("boilerplate_single_flight_keys ").append(flights.size()).append('\n');
+    }
+
+    private Object lead(ProceedingJoinPoint pjp, Spec spec, String key, Flight flight) throws Throwable {
+        spec.counters().executed.increment();
+        boolean keep = false;
+        try {
+            Object result = pjp.proceed();
+            keep = spec.reuseNanos() > 0;
+            flight.complete(result, spec.reuseNanos());
+            return result;
+        } catch (Throwable t) {
+            flight.future.completeExceptionally(t);
+            throw t;
+        } finally {
+            if (!keep) {
+                flights.remove(key, flight);
+            }
+        }
+    }
+
+    private Object await(ProceedingJoinPoint pjp, Spec spec, Flight flight) throws Throwable {
+        waiting.increment();
+        try {
+            Object result = flight.future.get(spec.timeoutMillis(), TimeUnit.MILLISECONDS);
+            spec.counters().shared.increment();
+            return result;
+        } catch (ExecutionException e) {
+            spec.counters().sharedFailures.increment();
+            throw forWaiter(e.getCause());
+        } catch (TimeoutException e) {
+            spec.counters().timeouts.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorConstant.SERVICE_UNAVAILABLE);
+        } finally {
+            waiting.decrement();
+        }
+        return pjp.proceed();
+    }
+
+    /**
+     * 대기 요청 별 예외 생성
+     * 같은 예외 인스턴스를 여러 스레드에서 던지면 suppressed / cause 추가, 로그 출력이 서로 간섭하므로 공유하지 않는다.
+     * BusinessException 은 응답이 ErrorConstant 로 결정되므로 같은 타입으로 복사하고, 그 외는 cause 로 감싼다.
+     */
+    static Throwable forWaiter(Throwable failure) {
+        if (failure instanceof AuthException auth) {
+            return new AuthException(auth.getErrorConstant(), auth.getMessage());
+        }
+        if (failure instanceof BusinessException business) {
+            return new BusinessException(business.getErrorConstant(), business.getMessage());
+        }
+        return new SharedFailureException(failure);
+    }
+
+    private void sweepIfDue(long now) {
+        long next = nextSweepNanos.get();
+        if (now - next >= 0
+                && nextSweepNanos.compareAndSet(next, now + TimeUnit.MILLISECONDS.toNanos(properties.getSweepIntervalMillis()))) {
+            flights.values().removeIf(flight -> flight.future.isDone() && !flight.isReusable(now));
+        }
+    }
+
+    private Spec getSpec(ProceedingJoinPoint pjp) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Spec spec = specs.get(method);
+        if (spec != null) {
+            return spec;
+        }
+        return specs.computeIfAbsent(method, m -> createSpec(m, pjp.getTarget().getClass()));
+    }
+
+    private Spec createSpec(Method method, Class<?> targetClass) {
+        SingleFlight annotation = AnnotatedElementUtils.findMergedAnnotation(method, SingleFlight.class);
+        String[] headers = annotation == null ? new String[0] : annotation.headers().clone();
+        Arrays.sort(headers, String.CASE_INSENSITIVE_ORDER);
+        return new Spec(
+                routeRegistry.resolve(method, targetClass).getHandlerId(),
+                headers,
+                annotation == null ? 0 : TimeUnit.MILLISECONDS.toNanos(annotation.reuseMillis()),
+                annotation == null ? 0 : annotation.timeoutMillis(),
+                annotation != null && annotation.shareAcrossUsers(),
+                annotation != null && isSharable(method),
+                new Counters());
+    }
+
+    /**
+     * 1회만 소비 가능한 반환 타입 (Stream, Emitter 등) 은 공유 불가
+     */
+    private static boolean isSharable(Method method) {
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+        Class<?> type = returnType.resolve();
+        if (type != null && HttpEntity.class.isAssignableFrom(type)) {
+            type = returnType.as(HttpEntity.class).getGeneric(0).resolve();
+        }
+        return type == null || !(StreamingApiResponse.class.isAssignableFrom(type)
+                || ResponseBodyEmitter.class.isAssignableFrom(type)
+                || StreamingResponseBody.class.isAssignableFrom(type));
+    }
+
+    private static String key(Spec spec, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(spec.handlerId()).append(' ')
+                .append(request.getMethod()).append(' ')
+                .append(request.getRequestURI());
+        String query = request.getQueryString();
+        if (query != null && !query.isEmpty()) {
+            key.append('?').append(normalizeQuery(query));
+        }
+        for (String header : spec.headers()) {
+            key.append('|').append(header).append('=');
+            Enumeration<String> values = request.getHeaders(header);
+            while (values.hasMoreElements()) {
+                key.append(values.nextElement()).append(',');
+            }
+        }
+        if (!spec.shareAcrossUsers()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+                key.append("|@").append(authentication.getName());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 파라미터 이름 순 정렬 (같은 이름의 값 순서는 유지)
+     */
+    static String normalizeQuery(String query) {
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : query.split("&")) {
+            if (!parameter.isEmpty()) {
+                parameters.add(parameter);
+            }
+        }
+        parameters.sort(Comparator.comparing(SingleFlightAspect::parameterName));
+        return String.join("&", parameters);
+    }
+
+    private static String parameterName(String parameter) {
+        int equals = parameter.indexOf('=');
+        return equals < 0 ? parameter : parameter.substring(0, equals);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static void appendSeries(StringBuilder out, Spec spec, String outcome, long value) {
+        out.append("boilerplate_single_flight_requests_total{handler=\"").append(spec.handlerId())
+                .append("\",outcome=\"").append(outcome).append("\"} ").append(value).append('\n');
+    }
+
+    private record Spec(String handlerId, String[] headers, long reuseNanos, long timeoutMillis,
+                        boolean shareAcrossUsers, boolean sharable, Counters counters) {
+    }
+
+    private static final class Counters {
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+        private final LongAdder sharedFailures = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder bypassed = new LongAdder();
+    }
+
+    /**
+     * Key 1개의 실행 (leader 1개 + 대기 요청 N개)
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long reuseUntilNanos;
+        private volatile boolean succeeded;
+
+        void complete(Object result, long reuseNanos) {
+            reuseUntilNanos = System.nanoTime() + reuseNanos;
+            succeeded = true;
+            future.complete(result);
+        }
+
+        boolean isReusable(long now) {
+            return succeeded && reuseUntilNanos - now > 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.common.aop;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [AOP]
+ * @SingleFlight 요청 병합 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.single-flight")
+public class SingleFlightProperties {
+    private boolean enabled = true;                 // false 인 경우 @SingleFlight 무시
+    private int maxFlights = 10_000;                // 동시에 보관 할 Key 최대 수 (초과 시 병합 없이 실행)
+    private long sweepIntervalMillis = 10_000;      // 재사용 기간이 지난 결과 정리 주기
+}
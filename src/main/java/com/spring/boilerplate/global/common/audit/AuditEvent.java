@@ -0,0 +1,74 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.spring.boilerplate.global.common.route.RouteInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.MDC;
+
+import java.util.Arrays;
+
+/**
+ * [Audit]
+ * Ring Buffer 슬롯에 미리 할당 되어 재사용 되는 Audit 이벤트
+ * 요청 스레드는 필드 값만 채우고, 직렬화는 Writer 스레드에서 수행한다.
+ * 파라미터 / 응답 값은 AuditSnapshot 으로 복사한 불변 값만 담는다. (요청 객체를 Writer 스레드와 공유하지 않음)
+ * MDC 는 설정 된 Key 의 값만 미리 할당 된 슬롯에 복사하여 요청 마다 Map 을 만들지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public final class AuditEvent {
+    private long timestamp;         // 요청 완료 시각 (epoch millis)
+    private String threadName;      // 요청 처리 스레드
+    private RouteInfo route;        // 라우트 정보
+    private Object[] args;          // 요청 파라미터 값 (스냅샷)
+    private Object result;          // 응답 값 (스냅샷)
+    private String exception;       // 발생한 예외 클래스 이름
+    private long durationNanos;     // 처리 시간
+    @Getter(AccessLevel.NONE)
+    private final String[] mdcKeys;     // 복사 할 MDC Key (전체 슬롯 공유, 읽기 전용)
+    @Getter(AccessLevel.NONE)
+    private final String[] mdcValues;   // 요청 스레드의 MDC 값 (Writer 스레드로 전달)
+
+    AuditEvent(String[] mdcKeys) {
+        this.mdcKeys = mdcKeys;
+        this.mdcValues = new String[mdcKeys.length];
+    }
+
+    void fill(RouteInfo route, Object[] args, Object result, Throwable thrown, long durationNanos) {
+        this.timestamp = System.currentTimeMillis();
+        Thread thread = Thread.currentThread();
+        // Virtual Thread 는 이름이 없으므로 id 로 구분
+        this.threadName = thread.getName().isEmpty() ? "virtual-" + thread.getId() : thread.getName();
+        for (int i = 0; i < mdcKeys.length; i++) {
+            mdcValues[i] = MDC.get(mdcKeys[i]);
+        }
+        this.route = route;
+        this.args = args;
+        this.result = result;
+        this.exception = thrown == null ? null : thrown.getClass().getName();
+        this.durationNanos = durationNanos;
+    }
+
+    void clear() {
+        this.threadName = null;
+        this.route = null;
+        this.args = null;
+        this.result = null;
+        this.exception = null;
+        Arrays.fill(mdcValues, null);
+    }
+
+    int getMdcSize() {
+        return mdcKeys.length;
+    }
+
+    String getMdcKey(int index) {
+        return mdcKeys[index];
+    }
+
+    String getMdcValue(int index) {
+        return mdcValues[index];
+    }
+}
@@ -0,0 +1,232 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.common.route.RouteInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [Audit]
+ * Request & Response Audit 비동기 파이프라인
+ * 요청 스레드는 미리 할당 된 슬롯에 이벤트를 기록만 하고 즉시 반환하며,
+ * 별도의 Writer 스레드가 이벤트를 batch 단위로 꺼내 JSON Lines 형태로 AUDIT 로거에 출력한다.
+ * 이벤트 1건 = 레코드 1줄 이므로 동시 요청의 로그가 섞이지 않는다.
+ * AUDIT 로거의 INFO 레벨이 꺼져 있으면 (ex. prod) 이벤트를 적재하지 않으므로 렌더링 비용도 발생하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AuditPipeline implements SmartLifecycle {
+
+    private static final Logger auditLog = LoggerFactory.getLogger("AUDIT");
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer ringBuffer;
+    private final AuditRecordRenderer renderer;
+    private final AuditRouteSampler routeSampler;
+    private final AuditSnapshot snapshot;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final AtomicLong sampleSequence = new AtomicLong();
+    private final StringBuilder batch = new StringBuilder(4096);
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public AuditPipeline(AuditProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.ringBuffer = new AuditRingBuffer(properties.getCapacity(), properties.getMdcKeys().toArray(String[]::new));
+        this.renderer = new AuditRecordRenderer(objectMapper, properties);
+        this.routeSampler = new AuditRouteSampler(properties.getRouteSampleRates());
+        this.snapshot = new AuditSnapshot(properties);
+    }
+
+    /**
+     * Audit 사용 여부 (설정 + AUDIT 로거 레벨, 로거 레벨은 실행 중 변경 될 수 있으므로 매번 확인)
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && auditLog.isInfoEnabled();
+    }
+
+    /**
+     * Audit 이벤트 적재 (요청 스레드에서 호출)
+     * @param route 라우트 정보
+     * @param args 요청 파라미터 값
+     * @param result 응답 값
+     * @param thrown 발생한 예외
+     * @param durationNanos 처리 시간
+     */
+    public void publish(RouteInfo route, Object[] args, Object result, Throwable thrown, long durationNanos) {
+        if (!routeSampler.sample(route)) {
+            sampledOut.increment();
+            return;
+        }
+        long position = claim();
+        if (position == AuditRingBuffer.NONE) {
+            dropped.increment();
+            return;
+        }
+        // Writer 스레드에는 요청 스레드에서 복사한 불변 스냅샷만 전달
+        ringBuffer.get(position).fill(route, snapshot.args(args), snapshot.value(result), thrown, durationNanos);
+        ringBuffer.publish(position);
+        published.increment();
+    }
+
+    private long claim() {
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK:
+                return claimBlocking();
+            case SAMPLE:
+                if (ringBuffer.size() > ringBuffer.capacity() / 2
+                        && sampleSequence.incrementAndGet() % Math.max(1, properties.getSampleRate()) != 0) {
+                    return AuditRingBuffer.NONE;
+                }
+                return ringBuffer.tryClaim();
+            case DROP_OLDEST:
+            default:
+                return claimDroppingOldest();
+        }
+    }
+
+    private long claimBlocking() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getBlockTimeoutMillis());
+        long position;
+        while ((position = ringBuffer.tryClaim()) == AuditRingBuffer.NONE) {
+            if (System.nanoTime() - deadline > 0) {
+                return AuditRingBuffer.NONE;
+            }
+            LockSupport.parkNanos(10_000);
+        }
+        return position;
+    }
+
+    private long claimDroppingOldest() {
+        for (int attempt = 0; attempt < ringBuffer.capacity(); attempt++) {
+            long position = ringBuffer.tryClaim();
+            if (position != AuditRingBuffer.NONE) {
+                return position;
+            }
+            long oldest = ringBuffer.tryConsume();
+            if (oldest != AuditRingBuffer.NONE) {
+                ringBuffer.release(oldest);
+                dropped.increment();
+            }
+        }
+        return AuditRingBuffer.NONE;
+    }
+
+    /**
+     * Writer 스레드 : 이벤트를 batch 단위로 꺼내 출력
+     */
+    private void runWriter() {
+        long idleParkNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleParkMillis());
+        while (running) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+        }
+        while (drainBatch() > 0) {
+            // 종료 시 남은 이벤트 모두 출력
+        }
+    }
+
+    private int drainBatch() {
+        batch.setLength(0);
+        int count = 0;
+        long position;
+        while (count < properties.getBatchSize() && (position = ringBuffer.tryConsume()) != AuditRingBuffer.NONE) {
+            try {
+                String record = renderer.render(ringBuffer.get(position));
+                if (count > 0) {
+                    batch.append('\n');
+                }
+                batch.append(record);
+                count++;
+            } catch (Exception e) {
+                log.warn("Audit record rendering failed : {}", e.getMessage());
+            } finally {
+                ringBuffer.release(position);
+            }
+        }
+        if (count > 0) {
+            auditLog.info(batch.toString());
+        }
+        return count;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+        writer = thread;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 적재 된 이벤트 누적 건수
+     * @return long
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * 폐기 된 이벤트 누적 건수
+     * @return long
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 라우트 별 샘플링으로 제외 된 이벤트 누적 건수
+     * @return long
+     */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    /**
+     * 현재 버퍼에 대기 중인 이벤트 수
+     * @return int
+     */
+    public int getQueuedCount() {
+        return ringBuffer.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.boilerplate.global.common.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [Audit]
+ * Request & Response Audit 파이프라인 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.audit")
+public class AuditProperties {
+    private boolean enabled = true;                                 // Audit 사용 여부
+    private int capacity = 8192;                                    // Ring Buffer 크기 (2의 제곱수로 올림)
+    private int batchSize = 256;                                    // 한 번에 출력 할 최대 이벤트 수
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST; // 버퍼 초과 시 정책
+    private int sampleRate = 10;                                    // SAMPLE 정책의 샘플링 비율 (N 건 중 1건)
+    private long blockTimeoutMillis = 100;                          // BLOCK 정책의 최대 대기 시간
+    private long idleParkMillis = 10;                               // 버퍼가 비어 있을 때 Writer 대기 시간
+    private int maxValueChars = 2048;                               // 파라미터 / 응답 값 1개의 최대 출력 길이
+    private int maxCollectionElements = 20;                         // Collection / 배열 / Map 최대 출력 요소 수
+    private Map<String, Integer> routeSampleRates = new LinkedHashMap<>(); // 라우트 별 샘플링 비율 (핸들러 식별자 또는 Path 패턴 -> N 건 중 1건, 0 은 미출력)
+    private Set<String> redactedFields = new LinkedHashSet<>(List.of(
+            "password", "passwd", "secret", "token", "accessToken", "refreshToken",
+            "authorization", "cardNumber", "ssn"));                  // 값을 마스킹 할 필드 / 파라미터 이름 (대소문자 무시)
+    private List<String> mdcKeys = new ArrayList<>(List.of("correlationId")); // 이벤트에 복사 할 MDC Key (슬롯에 값 자리를 미리 할당)
+}
@@ -0,0 +1,90 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.common.route.RouteInfo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * [Audit]
+ * AuditEvent 를 JSON Lines 레코드 1줄로 직렬화
+ * Writer 스레드 전용 (thread-confined) 이므로 내부 버퍼를 재사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditRecordRenderer {
+
+    private final ObjectMapper objectMapper;
+    private final AuditValueWriter valueWriter;
+    private final StringWriter buffer = new StringWriter(512);
+
+    AuditRecordRenderer(ObjectMapper objectMapper, AuditProperties properties) {
+        this.objectMapper = objectMapper;
+        this.valueWriter = new AuditValueWriter(objectMapper, properties);
+    }
+
+    /**
+     * JSON 레코드 1줄 생성
+     * @param event AuditEvent
+     * @return String
+     */
+    String render(AuditEvent event) throws IOException {
+        buffer.getBuffer().setLength(0);
+        RouteInfo route = event.getRoute();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("timestamp", event.getTimestamp());
+            generator.writeStringField("thread", event.getThreadName());
+            generator.writeStringField("url", route.getDisplay());
+            generator.writeStringField("handler", route.getHandlerId());
+            writeParams(generator, route, event.getArgs());
+            generator.writeFieldName("response");
+            valueWriter.write(generator, event.getResult());
+            if (event.getException() != null) {
+                generator.writeStringField("exception", event.getException());
+            }
+            generator.writeNumberField("durationMs", event.getDurationNanos() / 1_000_000d);
+            writeMdc(generator, event);
+            generator.writeEndObject();
+        }
+        return buffer.toString();
+    }
+
+    private static void writeMdc(JsonGenerator generator, AuditEvent event) throws IOException {
+        boolean started = false;
+        for (int i = 0; i < event.getMdcSize(); i++) {
+            String value = event.getMdcValue(i);
+            if (value == null) {
+                continue;
+            }
+            if (!started) {
+                generator.writeObjectFieldStart("mdc");
+                started = true;
+            }
+            generator.writeStringField(event.getMdcKey(i), value);
+        }
+        if (started) {
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeParams(JsonGenerator generator, RouteInfo route, Object[] args) throws IOException {
+        generator.writeObjectFieldStart("request");
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                String name = route.getParameterName(i);
+                generator.writeFieldName(name);
+                Object arg = args[i];
+                if (valueWriter.isRedacted(name)) {
+                    valueWriter.writeRedacted(generator);
+                } else {
+                    valueWriter.write(generator, arg);
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+}
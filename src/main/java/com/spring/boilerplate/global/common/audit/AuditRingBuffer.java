@@ -0,0 +1,105 @@
+package com.spring.boilerplate.global.common.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [Audit]
+ * 슬롯 별 sequence 를 사용하는 bounded lock-free Ring Buffer
+ * 다수의 요청 스레드가 slot 을 claim -> fill -> publish 하고,
+ * Writer 스레드가 consume -> 직렬화 -> release 한다.
+ * DROP_OLDEST 정책에서는 요청 스레드도 consume/release 로 가장 오래된 슬롯을 비울 수 있다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditRingBuffer {
+    static final long NONE = -1L;
+
+    private final int capacity;
+    private final int mask;
+    private final AuditEvent[] events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();   // 다음 적재 위치
+    private final AtomicLong head = new AtomicLong();   // 다음 소비 위치
+
+    AuditRingBuffer(int requestedCapacity, String[] mdcKeys) {
+        this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.events = new AuditEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new AuditEvent(mdcKeys);
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 적재 할 슬롯 확보
+     * @return 확보한 위치, 버퍼가 가득 찬 경우 NONE
+     */
+    long tryClaim() {
+        long position = tail.get();
+        for (;;) {
+            long diff = sequences.get(index(position)) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return NONE;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    void publish(long position) {
+        sequences.set(index(position), position + 1);
+    }
+
+    /**
+     * 소비 할 슬롯 확보
+     * @return 확보한 위치, 버퍼가 비어 있는 경우 NONE
+     */
+    long tryConsume() {
+        long position = head.get();
+        for (;;) {
+            long diff = sequences.get(index(position)) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return NONE;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    void release(long position) {
+        int index = index(position);
+        events[index].clear();
+        sequences.set(index, position + capacity);
+    }
+
+    AuditEvent get(long position) {
+        return events[index(position)];
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+}
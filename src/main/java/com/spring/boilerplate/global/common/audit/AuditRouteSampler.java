@@ -0,0 +1,61 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.spring.boilerplate.global.common.route.RouteInfo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Audit]
+ * 라우트 별 샘플링 (N 건 중 1건 출력)
+ * 설정 Key 는 핸들러 식별자 (ex. TestController#success) 또는 Path 패턴 (ex. /response/success) 이며,
+ * 라우트 별 비율은 최초 호출 시 한 번만 계산하여 캐싱한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditRouteSampler {
+
+    private final Map<String, Integer> rates;
+    private final Map<RouteInfo, Sampler> samplers = new ConcurrentHashMap<>();
+
+    AuditRouteSampler(Map<String, Integer> rates) {
+        this.rates = Map.copyOf(rates);
+    }
+
+    boolean sample(RouteInfo route) {
+        if (rates.isEmpty()) {
+            return true;
+        }
+        Sampler sampler = samplers.get(route);
+        if (sampler == null) {
+            sampler = samplers.computeIfAbsent(route, this::createSampler);
+        }
+        return sampler.sample();
+    }
+
+    private Sampler createSampler(RouteInfo route) {
+        Integer rate = rates.get(route.getHandlerId());
+        for (int i = 0; rate == null && i < route.getPathPatterns().size(); i++) {
+            rate = rates.get(route.getPathPatterns().get(i));
+        }
+        return new Sampler(rate == null ? 1 : rate);
+    }
+
+    private static final class Sampler {
+        private final int rate;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        boolean sample() {
+            if (rate == 1) {
+                return true;
+            }
+            return rate > 1 && sequence.getAndIncrement() % rate == 0;
+        }
+    }
+}
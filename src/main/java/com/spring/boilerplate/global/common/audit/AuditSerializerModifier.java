@@ -0,0 +1,170 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [Audit]
+ * Audit 출력 전용 Jackson Serializer 변경
+ * 1. 민감 필드 (Bean 속성, Map Key) 는 값 대신 "***" 출력
+ * 2. Collection / 배열 / Map 은 최대 요소 수까지만 출력하고 나머지는 생략 표시
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditSerializerModifier extends BeanSerializerModifier {
+    static final String MASK = "***";
+
+    private final Set<String> redactedFields;   // 소문자로 정규화 된 필드 이름
+    private final int maxElements;
+
+    AuditSerializerModifier(Set<String> redactedFields, int maxElements) {
+        this.redactedFields = redactedFields;
+        this.maxElements = maxElements;
+    }
+
+    boolean isRedacted(String name) {
+        return name != null && redactedFields.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter property = beanProperties.get(i);
+            if (isRedacted(property.getName())) {
+                beanProperties.set(i, new RedactedPropertyWriter(property));
+            }
+        }
+        return beanProperties;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType,
+                                                        BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        return new TruncatingSequenceSerializer(maxElements);
+    }
+
+    @Override
+    public JsonSerializer<?> modifyArraySerializer(SerializationConfig config, ArrayType valueType,
+                                                   BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        // byte[] (Base64), char[] (문자열) 은 기본 Serializer 유지 (길이 제한으로 처리)
+        Class<?> component = valueType.getContentType().getRawClass();
+        if (component == byte.class || component == char.class) {
+            return serializer;
+        }
+        return new TruncatingSequenceSerializer(maxElements);
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                 BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        return new TruncatingMapSerializer();
+    }
+
+    private static String omitted(int count) {
+        return "...(+" + count + " more)";
+    }
+
+    /**
+     * 민감 필드 : 필드 이름은 유지하고 값만 마스킹
+     */
+    private static final class RedactedPropertyWriter extends BeanPropertyWriter {
+        private RedactedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws IOException {
+            gen.writeFieldName(_name);
+            gen.writeString(MASK);
+        }
+    }
+
+    /**
+     * Collection / 배열 : 최대 요소 수 까지만 출력
+     */
+    private static final class TruncatingSequenceSerializer extends StdSerializer<Object> {
+        private final int maxElements;
+
+        private TruncatingSequenceSerializer(int maxElements) {
+            super(Object.class);
+            this.maxElements = maxElements;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value);
+            int total;
+            if (value instanceof Collection<?> collection) {
+                total = collection.size();
+                int written = 0;
+                for (Object element : collection) {
+                    if (written++ == maxElements) {
+                        break;
+                    }
+                    provider.defaultSerializeValue(element, gen);
+                }
+            } else {
+                total = Array.getLength(value);
+                for (int i = 0; i < Math.min(total, maxElements); i++) {
+                    provider.defaultSerializeValue(Array.get(value, i), gen);
+                }
+            }
+            if (total > maxElements) {
+                gen.writeString(omitted(total - maxElements));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Map : 민감 Key 마스킹 및 최대 요소 수 까지만 출력
+     */
+    private final class TruncatingMapSerializer extends StdSerializer<Map<?, ?>> {
+
+        @SuppressWarnings("unchecked")
+        private TruncatingMapSerializer() {
+            super((Class<Map<?, ?>>) (Class<?>) Map.class);
+        }
+
+        @Override
+        public void serialize(Map<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            int written = 0;
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                if (written++ == maxElements) {
+                    break;
+                }
+                String key = String.valueOf(entry.getKey());
+                gen.writeFieldName(key);
+                if (isRedacted(key)) {
+                    gen.writeString(MASK);
+                } else {
+                    provider.defaultSerializeValue(entry.getValue(), gen);
+                }
+            }
+            if (value.size() > maxElements) {
+                gen.writeStringField("...", omitted(value.size() - maxElements));
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.spring.boilerplate.global.common.util.ConvertUtil;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.Part;
+import org.springframework.http.HttpEntity;
+import org.springframework.ui.Model;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * [Audit]
+ * 요청 스레드에서 파라미터 / 응답 값을 불변 스냅샷으로 복사
+ * Writer 스레드는 요청 종료 후에 직렬화하므로, 요청 스레드가 변경하거나 컨테이너가 재사용하는 객체를 그대로 넘기지 않는다.
+ * 1. 불변 값 (String, 숫자, Enum, java.time 등) 은 그대로 사용
+ * 2. Servlet / Stream / Binding 등 인프라 객체는 "(타입 이름)" 으로 대체
+ * 3. Collection / 배열 / Map 은 최대 요소 수 까지 복사, DTO (ConvertUtil 변환 대상) 는 필드 Map 으로 복사
+ * 4. 그 외 객체와 최대 깊이를 넘는 값은 toString() 결과 (최대 길이 제한)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditSnapshot {
+    private static final int MAX_DEPTH = 6;
+    private static final Class<?>[] OPAQUE_TYPES = {
+            ServletRequest.class, ServletResponse.class, HttpSession.class, Part.class, MultipartFile.class,
+            WebRequest.class, Errors.class, Model.class, InputStream.class, OutputStream.class, Reader.class, Writer.class};
+
+    private final int maxElements;
+    private final int maxChars;
+
+    AuditSnapshot(AuditProperties properties) {
+        this.maxElements = Math.max(0, properties.getMaxCollectionElements());
+        this.maxChars = Math.max(16, properties.getMaxValueChars());
+    }
+
+    /**
+     * 파라미터 값 배열 복사
+     * @param args 요청 파라미터 값
+     * @return Object[] (null 이면 null)
+     */
+    Object[] args(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] copy = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            copy[i] = value(args[i], 0);
+        }
+        return copy;
+    }
+
+    /**
+     * 값 1개 복사
+     * @param value 원본 값
+     * @return 불변 스냅샷
+     */
+    Object value(Object value) {
+        return value(value, 0);
+    }
+
+    private Object value(Object value, int depth) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof CharSequence text) {
+            return truncate(text.toString());
+        }
+        if (value instanceof HttpEntity<?> entity) {
+            return value(entity.getBody(), depth);
+        }
+        for (Class<?> opaque : OPAQUE_TYPES) {
+            if (opaque.isInstance(value)) {
+                return "(" + opaque.getSimpleName() + ")";
+            }
+        }
+        if (depth >= MAX_DEPTH) {
+            return truncate(String.valueOf(value));
+        }
+        if (value instanceof Collection<?> collection) {
+            return sequence(collection, collection.size(), depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map(map, depth);
+        }
+        if (value.getClass().isArray()) {
+            return array(value, depth);
+        }
+        if (ConvertUtil.isConvertibleType(value.getClass())) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            ConvertUtil.forEachField(value, (name, field) -> fields.put(name, value(field, depth + 1)));
+            return Collections.unmodifiableMap(fields);
+        }
+        return truncate(String.valueOf(value));
+    }
+
+    private List<Object> sequence(Iterable<?> elements, int total, int depth) {
+        List<Object> copy = new ArrayList<>(Math.min(total, maxElements) + 1);
+        for (Object element : elements) {
+            if (copy.size() == maxElements) {
+                break;
+            }
+            copy.add(value(element, depth + 1));
+        }
+        if (total > maxElements) {
+            copy.add(omitted(total - maxElements));
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private Map<String, Object> map(Map<?, ?> map, int depth) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (copy.size() == maxElements) {
+                break;
+            }
+            copy.put(String.valueOf(entry.getKey()), value(entry.getValue(), depth + 1));
+        }
+        if (map.size() > maxElements) {
+            copy.put("...", omitted(map.size() - maxElements));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private Object array(Object array, int depth) {
+        int length = Array.getLength(array);
+        if (array instanceof byte[]) {
+            return "(byte[" + length + "])";
+        }
+        if (array instanceof char[] chars) {
+            return truncate(new String(chars, 0, Math.min(length, maxChars + 1)));
+        }
+        List<Object> elements = new ArrayList<>(Math.min(length, maxElements));
+        for (int i = 0; i < Math.min(length, maxElements); i++) {
+            elements.add(Array.get(array, i));
+        }
+        return sequence(elements, length, depth);
+    }
+
+    private String truncate(String text) {
+        return text.length() <= maxChars ? text : text.substring(0, maxChars) + AuditValueWriter.TRUNCATED_MARKER;
+    }
+
+    private static String omitted(int count) {
+        return "...(+" + count + " more)";
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float
+                || value instanceof BigDecimal || value instanceof BigInteger || value instanceof UUID
+                || value.getClass().getName().startsWith("java.time.");
+    }
+}
@@ -0,0 +1,159 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * [Audit]
+ * 요청 파라미터 / 응답 값을 크기 제한과 마스킹을 적용하여 출력
+ * 값 1개의 출력 길이가 최대치를 넘으면 직렬화를 중단하고 앞부분만 문자열로 남긴다. (ex. "{\"name\":\"a...(truncated)")
+ * Writer 스레드 전용 (thread-confined) 이므로 내부 버퍼를 재사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class AuditValueWriter {
+    static final String TRUNCATED_MARKER = "...(truncated)";
+
+    private final ObjectMapper objectMapper;
+    private final AuditSerializerModifier modifier;
+    private final LimitedWriter buffer;
+
+    AuditValueWriter(ObjectMapper objectMapper, AuditProperties properties) {
+        Set<String> redactedFields = new HashSet<>();
+        for (String field : properties.getRedactedFields()) {
+            redactedFields.add(field.toLowerCase(Locale.ROOT));
+        }
+        // 요소 수 제한은 AuditSnapshot 에서 적용 되며 생략 표시 1개가 덧붙으므로 그 만큼 허용
+        this.modifier = new AuditSerializerModifier(redactedFields, Math.max(0, properties.getMaxCollectionElements()) + 1);
+        SimpleModule module = new SimpleModule("audit-value");
+        module.setSerializerModifier(modifier);
+        this.objectMapper = objectMapper.copy().registerModule(module);
+        this.buffer = new LimitedWriter(Math.max(16, properties.getMaxValueChars()));
+    }
+
+    /**
+     * 마스킹 대상 이름 여부 (파라미터 이름 등)
+     * @param name 이름
+     * @return boolean
+     */
+    boolean isRedacted(String name) {
+        return modifier.isRedacted(name);
+    }
+
+    void writeRedacted(JsonGenerator generator) throws IOException {
+        generator.writeString(AuditSerializerModifier.MASK);
+    }
+
+    void write(JsonGenerator generator, Object value) throws IOException {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Enum) {
+            generator.writeObject(value instanceof Enum ? ((Enum<?>) value).name() : value);
+            return;
+        }
+        if (value instanceof CharSequence text) {
+            generator.writeString(truncate(text));
+            return;
+        }
+        buffer.reset();
+        try {
+            objectMapper.writeValue(buffer, value);
+        } catch (Exception e) {
+            if (buffer.isExceeded()) {
+                generator.writeString(buffer.toString() + TRUNCATED_MARKER);
+            } else {
+                // 직렬화 할 수 없는 객체 (ex. HttpServletRequest) 는 문자열로 대체
+                generator.writeString(truncate(String.valueOf(value)));
+            }
+            return;
+        }
+        generator.writeRawValue(buffer.toString());
+    }
+
+    private String truncate(CharSequence text) {
+        int max = buffer.limit();
+        return text.length() <= max ? text.toString() : text.subSequence(0, max) + TRUNCATED_MARKER;
+    }
+
+    /**
+     * 최대 길이를 넘으면 예외로 직렬화를 중단시키는 Writer
+     */
+    private static final class LimitedWriter extends Writer {
+        private final StringBuilder out;
+        private final int limit;
+        private boolean exceeded;
+
+        private LimitedWriter(int limit) {
+            this.limit = limit;
+            this.out = new StringBuilder(Math.min(limit, 1024));
+        }
+
+        void reset() {
+            out.setLength(0);
+            exceeded = false;
+        }
+
+        int limit() {
+            return limit;
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = limit - out.length();
+            if (length > remaining) {
+                out.append(chars, offset, Math.max(0, remaining));
+                exceeded = true;
+                throw new LimitExceededException();
+            }
+            out.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            int remaining = limit - out.length();
+            if (length > remaining) {
+                out.append(text, offset, offset + Math.max(0, remaining));
+                exceeded = true;
+                throw new LimitExceededException();
+            }
+            out.append(text, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+
+    /**
+     * 길이 초과 신호 (stack trace 불필요)
+     */
+    private static final class LimitExceededException extends IOException {
+        private LimitExceededException() {
+            super("audit value limit exceeded", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.spring.boilerplate.global.common.audit;
+
+/**
+ * [Audit]
+ * Audit 버퍼가 가득 찼을 때의 처리 정책
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public enum OverflowPolicy {
+    BLOCK,          // 빈 슬롯이 생길 때까지 대기 (blockTimeoutMillis 초과 시 폐기)
+    DROP_OLDEST,    // 가장 오래된 이벤트를 폐기하고 신규 이벤트 적재
+    SAMPLE,         // 버퍼 사용률이 절반을 넘으면 sampleRate 건 중 1건만 적재
+    ;
+}
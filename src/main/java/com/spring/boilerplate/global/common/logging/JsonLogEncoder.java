@@ -0,0 +1,197 @@
+package com.spring.boilerplate.global.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * [Logging]
+ * 로그 이벤트 1건을 JSON Lines 1줄로 출력하는 Encoder (throughput 프로필)
+ * ex. {"ts":"2026-10-18T10:15:30.123+09:00","level":"INFO","thread":"main","logger":"c.s.b.Foo","msg":"...","mdc":{...}}
+ * - Caller Data (%method, %line) 를 사용하지 않으므로 이벤트 마다 Stack Trace 를 생성하지 않는다.
+ * - 스레드 별 StringBuilder / byte[] 를 재사용하고, 이벤트 당 할당은 최종 출력 byte[] 1개 뿐이다.
+ * - 시각은 초 단위 문자열을 캐싱하고 밀리초만 덧붙인다.
+ * AsyncAppender 하위에서는 Worker 스레드 1개만 encode 하므로 버퍼도 1개만 사용된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter OFFSET_FORMAT = DateTimeFormatter.ofPattern("xxx");
+    private static final int MAX_RETAINED_CHARS = 64 * 1024;   // 큰 이벤트 이후 버퍼를 계속 붙잡지 않도록 제한
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    private ZoneId zoneId = ZoneId.systemDefault();
+    private boolean includeMdc = true;
+    private boolean includeThread = true;
+
+    public void setTimeZone(String timeZone) {
+        this.zoneId = ZoneId.of(timeZone);
+    }
+
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    public void setIncludeThread(boolean includeThread) {
+        this.includeThread = includeThread;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Buffer buffer = buffers.get();
+        StringBuilder json = buffer.chars;
+        json.setLength(0);
+
+        json.append("{\"ts\":\"");
+        buffer.appendTimestamp(event.getTimeStamp(), zoneId);
+        json.append("\",\"level\":\"").append(event.getLevel().levelStr).append('"');
+        if (includeThread) {
+            appendField(json, "thread", event.getThreadName());
+        }
+        appendField(json, "logger", event.getLoggerName());
+        appendField(json, "msg", event.getFormattedMessage());
+        if (includeMdc) {
+            appendMdc(json, event.getMDCPropertyMap());
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendField(json, "exception", ThrowableProxyUtil.asString(throwable));
+        }
+        json.append("}\n");
+
+        byte[] encoded = buffer.toUtf8();
+        if (json.capacity() > MAX_RETAINED_CHARS) {
+            buffers.remove();
+        }
+        return encoded;
+    }
+
+    private static void appendMdc(StringBuilder json, Map<String, String> mdc) {
+        if (mdc == null || mdc.isEmpty()) {
+            return;
+        }
+        json.append(",\"mdc\":{");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : mdc.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"');
+            appendEscaped(json, entry.getKey());
+            json.append("\":\"");
+            appendEscaped(json, entry.getValue());
+            json.append('"');
+        }
+        json.append('}');
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":\"");
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 스레드 별 재사용 버퍼
+     */
+    private static final class Buffer {
+        private final StringBuilder chars = new StringBuilder(512);
+        private byte[] bytes = new byte[1024];
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedSecondText;
+        private String cachedOffsetText;
+
+        void appendTimestamp(long epochMillis, ZoneId zoneId) {
+            long second = Math.floorDiv(epochMillis, 1000);
+            if (second != cachedSecond) {
+                var dateTime = Instant.ofEpochSecond(second).atZone(zoneId);
+                cachedSecondText = SECOND_FORMAT.format(dateTime);
+                cachedOffsetText = OFFSET_FORMAT.format(dateTime);
+                cachedSecond = second;
+            }
+            int millis = (int) Math.floorMod(epochMillis, 1000);
+            chars.append(cachedSecondText).append('.')
+                    .append((char) ('0' + millis / 100))
+                    .append((char) ('0' + millis / 10 % 10))
+                    .append((char) ('0' + millis % 10))
+                    .append(cachedOffsetText);
+        }
+
+        /**
+         * String 중간 객체 없이 UTF-8 로 변환
+         */
+        byte[] toUtf8() {
+            int length = chars.length();
+            if (bytes.length < length * 3) {
+                bytes = new byte[Math.max(length * 3, bytes.length * 2)];
+            }
+            int position = 0;
+            for (int i = 0; i < length; i++) {
+                char c = chars.charAt(i);
+                if (c < 0x80) {
+                    bytes[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[position++] = (byte) (0xC0 | c >> 6);
+                    bytes[position++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                    bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                    bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    bytes[position++] = '?';
+                } else {
+                    bytes[position++] = (byte) (0xE0 | c >> 12);
+                    bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    bytes[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            return Arrays.copyOf(bytes, position);
+        }
+    }
+}
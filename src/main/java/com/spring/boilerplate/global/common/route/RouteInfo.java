@@ -0,0 +1,59 @@
+package com.spring.boilerplate.global.common.route;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * [Route]
+ * Controller 메소드 1개에 대한 라우팅 메타데이터 (불변 객체)
+ * 애플리케이션 기동 시 또는 최초 호출 시 한 번만 생성 된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public final class RouteInfo {
+    static final String ANY_METHOD = "REQUEST";
+    static final String UNKNOWN_METHOD = "UNKNOWN";
+
+    private final String httpMethod;            // HTTP Method (복수인 경우 '|' 로 연결)
+    private final List<String> pathPatterns;    // Class + Method 레벨을 합친 전체 Path 패턴 목록
+    private final String handlerId;             // 핸들러 식별자 (ex. TestController#success)
+    private final String display;               // 로그 출력용 문자열 (ex. [GET] /response/success)
+    @Getter(AccessLevel.NONE)
+    private final String[] parameterNames;      // 메소드 파라미터 이름
+
+    RouteInfo(String httpMethod, List<String> pathPatterns, String handlerId, String[] parameterNames) {
+        this.httpMethod = httpMethod;
+        this.pathPatterns = List.copyOf(pathPatterns);
+        this.handlerId = handlerId;
+        this.parameterNames = parameterNames;
+        this.display = this.pathPatterns.isEmpty()
+                ? "[" + httpMethod + "] " + handlerId
+                : "[" + httpMethod + "] " + String.join(", ", this.pathPatterns);
+    }
+
+    /**
+     * 메소드 파라미터 이름 (호출 시 마다 ParameterNameDiscoverer 를 거치지 않도록 미리 계산)
+     * @param index 파라미터 순번
+     * @return String
+     */
+    public String getParameterName(int index) {
+        return index < parameterNames.length ? parameterNames[index] : "arg" + index;
+    }
+
+    /**
+     * 대표 Path 패턴 (첫 번째 패턴, 없으면 핸들러 식별자)
+     * @return String
+     */
+    public String getPrimaryPath() {
+        return pathPatterns.isEmpty() ? handlerId : pathPatterns.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return display;
+    }
+}
@@ -0,0 +1,140 @@
+package com.spring.boilerplate.global.common.route;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * [Route]
+ * Handler Method -> RouteInfo 매핑 저장소
+ * 기동 시 RequestMappingHandlerMapping 으로 전체 라우트를 미리 등록하고,
+ * 등록되지 않은 메소드는 최초 호출 시 어노테이션을 한 번만 분석하여 캐싱한다.
+ * 조회는 ConcurrentHashMap.get 한 번으로 끝나므로 lock 이 발생하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteRegistry {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final Map<Method, RouteInfo> routes = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 기동 완료 시 등록된 모든 Handler Method 의 라우트 정보를 미리 생성
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerHandlerMethods() {
+        handlerMappings.orderedStream().forEach(mapping ->
+                mapping.getHandlerMethods().forEach(this::register));
+        log.info("RouteRegistry initialized : {} routes", routes.size());
+    }
+
+    /**
+     * Handler Method 에 대한 라우트 정보 조회
+     * 사전 등록되지 않은 메소드는 최초 1회만 분석 후 캐싱
+     * @param method 호출 된 메소드
+     * @param targetClass 실제 대상 클래스
+     * @return RouteInfo
+     */
+    public RouteInfo resolve(Method method, Class<?> targetClass) {
+        RouteInfo route = routes.get(method);
+        if (route != null) {
+            return route;
+        }
+        return routes.computeIfAbsent(method, m -> createFromAnnotations(m, ClassUtils.getUserClass(targetClass)));
+    }
+
+    /**
+     * 등록 된 전체 라우트 정보
+     * @return Collection<RouteInfo>
+     */
+    public Collection<RouteInfo> getRoutes() {
+        return routes.values();
+    }
+
+    private void register(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        String httpMethod = toHttpMethod(info.getMethodsCondition().getMethods());
+        List<String> paths = info.getPatternValues().stream().sorted().collect(Collectors.toList());
+        routes.put(method, new RouteInfo(httpMethod, paths, handlerId(handlerMethod.getBeanType(), method), parameterNames(method)));
+    }
+
+    private RouteInfo createFromAnnotations(Method method, Class<?> targetClass) {
+        String handlerId = handlerId(targetClass, method);
+        RequestMapping methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        if (methodMapping == null) {
+            return new RouteInfo(RouteInfo.UNKNOWN_METHOD, List.of(), handlerId, parameterNames(method));
+        }
+
+        // Class 레벨 @RequestMapping 이 없거나 value 가 비어 있는 경우 prefix 없이 처리
+        RequestMapping classMapping = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequestMapping.class);
+        String[] prefixes = classMapping == null || classMapping.path().length == 0 ? new String[]{""} : classMapping.path();
+        String[] suffixes = methodMapping.path().length == 0 ? new String[]{""} : methodMapping.path();
+
+        List<String> paths = new ArrayList<>(prefixes.length * suffixes.length);
+        for (String prefix : prefixes) {
+            for (String suffix : suffixes) {
+                paths.add(combine(prefix, suffix));
+            }
+        }
+        return new RouteInfo(toHttpMethod(List.of(methodMapping.method())), paths, handlerId, parameterNames(method));
+    }
+
+    private static String toHttpMethod(Collection<RequestMethod> methods) {
+        if (methods.isEmpty()) {
+            return RouteInfo.ANY_METHOD;
+        }
+        return methods.stream().map(RequestMethod::name).sorted().collect(Collectors.joining("|"));
+    }
+
+    private static String combine(String prefix, String suffix) {
+        StringBuilder path = new StringBuilder(prefix.length() + suffix.length() + 2);
+        if (!prefix.isEmpty() && !prefix.startsWith("/")) {
+            path.append('/');
+        }
+        path.append(prefix);
+        if (!suffix.isEmpty()) {
+            if (path.length() > 0 && path.charAt(path.length() - 1) == '/' && suffix.startsWith("/")) {
+                path.setLength(path.length() - 1);
+            } else if (!suffix.startsWith("/")) {
+                path.append('/');
+            }
+            path.append(suffix);
+        }
+        return path.length() == 0 ? "/" : path.toString();
+    }
+
+    private static String[] parameterNames(Method method) {
+        String[] names = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        return names != null ? names : new String[0];
+    }
+
+    private static String handlerId(Class<?> beanType, Method method) {
+        return ClassUtils.getUserClass(beanType).getSimpleName() + "#" + method.getName();
+    }
+}
@@ -1,34 +1,94 @@
 package com.spring.boilerplate.global.common.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 @Slf4j
 public class ConvertUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String CYCLE_MARKER = "(cycle)";
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * [공통함수]
+     * 필드 이름과 값을 전달 받는 Sink
+     */
+    @FunctionalInterface
+    public interface FieldSink {
+        void accept(String name, Object value);
+    }
 
     /**
      * [공통함수]
      * Object 형을 Map 형태로 변환 함수
-     * 필드 변수까지 전부 변환
+     * 필드 변수까지 전부 변환 (상위 클래스 필드, Record 포함)
+     * 하위 DTO (애플리케이션 패키지, *DTO, Record) 는 Map 으로 변환하며 순환 참조는 "(cycle)" 로 표시
+     * 그 외 객체와 최대 깊이 (8) 를 넘는 하위 DTO 는 toString() 결과로 표시
      * @param obj {Object}
      * @return Map
+     * @throws IllegalStateException 필드 값을 읽을 수 없는 경우
      */
     public static HashMap<String, Object> convertObjectToMap(Object obj) {
-        try {
-            Field[] fields = obj.getClass().getDeclaredFields();
-            HashMap<String, Object> resultMap = new HashMap<>();
-            for (Field field : fields) {
-                field.setAccessible(true);
-                resultMap.put(field.getName(), field.get(obj));
+        if (obj == null) {
+            return new HashMap<>();
+        }
+        return toMap(obj, FieldAccessorPlan.of(obj.getClass()), null, 1);
+    }
+
+    /**
+     * [공통함수]
+     * 중간 Map 생성 없이 필드 이름과 값을 Sink 로 바로 전달 (하위 DTO 는 변환하지 않음)
+     * @param obj {Object}
+     * @param sink {FieldSink}
+     * @throws IllegalStateException 필드 값을 읽을 수 없는 경우
+     */
+    public static void forEachField(Object obj, FieldSink sink) {
+        if (obj == null) {
+            return;
+        }
+        FieldAccessorPlan plan = FieldAccessorPlan.of(obj.getClass());
+        for (int i = 0; i < plan.size(); i++) {
+            sink.accept(plan.name(i), plan.get(i, obj));
+        }
+    }
+
+    /**
+     * [공통함수]
+     * 하위 필드까지 Map 으로 변환 되는 타입 여부 (애플리케이션 패키지, *DTO, Record)
+     * @param type {Class}
+     * @return boolean
+     */
+    public static boolean isConvertibleType(Class<?> type) {
+        return FieldAccessorPlan.isConvertible(type);
+    }
+
+    private static HashMap<String, Object> toMap(Object obj, FieldAccessorPlan plan, Map<Object, Boolean> visiting, int depth) {
+        HashMap<String, Object> resultMap = new HashMap<>((int) (plan.size() / 0.75f) + 1);
+        for (int i = 0; i < plan.size(); i++) {
+            Object value = plan.get(i, obj);
+            FieldAccessorPlan nested = value == null ? null : FieldAccessorPlan.of(value.getClass());
+            if (nested != null && nested.isBean()) {
+                if (!nested.isNested() || depth >= MAX_DEPTH) {
+                    // 외부 라이브러리 객체, 최대 깊이 초과 객체는 재귀 변환하지 않음
+                    value = value.toString();
+                } else {
+                    if (visiting == null) {
+                        visiting = new IdentityHashMap<>();
+                        visiting.put(obj, Boolean.TRUE);
+                    }
+                    Object child = value;
+                    if (visiting.put(child, Boolean.TRUE) != null) {
+                        value = CYCLE_MARKER;
+                    } else {
+                        value = toMap(child, nested, visiting, depth + 1);
+                        visiting.remove(child);
+                    }
+                }
             }
-            return resultMap;
-        } catch (IllegalArgumentException | IllegalAccessException e) {
-            log.warn(e.getMessage(), e.getStackTrace()[0].toString());
+            resultMap.put(plan.name(i), value);
         }
-        return null;
+        return resultMap;
     }
 }
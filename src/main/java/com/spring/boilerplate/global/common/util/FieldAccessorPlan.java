@@ -0,0 +1,163 @@
+package com.spring.boilerplate.global.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [공통함수]
+ * 클래스 별 필드 접근 계획 (필드 이름 + MethodHandle getter)
+ * 클래스 당 최초 1회만 생성되어 ClassValue 에 보관 되므로
+ * 호출 시 마다 getDeclaredFields() / setAccessible() 을 반복하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class FieldAccessorPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String APPLICATION_PACKAGE = "com.spring.boilerplate.";
+
+    private static final ClassValue<FieldAccessorPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected FieldAccessorPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final boolean bean;     // 필드 단위로 분해 할 수 있는 타입 여부
+    private final boolean nested;   // 하위 필드로 재귀 변환 할 대상(DTO) 여부
+
+    private FieldAccessorPlan(Class<?> type, String[] names, MethodHandle[] getters, boolean bean, boolean nested) {
+        this.type = type;
+        this.names = names;
+        this.getters = getters;
+        this.bean = bean;
+        this.nested = nested;
+    }
+
+    static FieldAccessorPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(int index) {
+        return names[index];
+    }
+
+    boolean isBean() {
+        return bean;
+    }
+
+    boolean isNested() {
+        return nested;
+    }
+
+    Object get(int index, Object target) {
+        try {
+            return (Object) getters[index].invokeExact(target);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Field access failed : " + type.getName() + "." + names[index], e);
+        }
+    }
+
+    private static FieldAccessorPlan create(Class<?> type) {
+        if (!isBeanType(type)) {
+            return new FieldAccessorPlan(type, new String[0], new MethodHandle[0], false, false);
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, MethodHandle> accessors = type.isRecord() ? recordAccessors(type, lookup) : fieldAccessors(type, lookup);
+        return new FieldAccessorPlan(type,
+                accessors.keySet().toArray(new String[0]),
+                accessors.values().toArray(new MethodHandle[0]),
+                true, isNestedType(type));
+    }
+
+    /**
+     * 하위 필드까지 재귀 변환 하는 타입 여부 (Plan 생성 없이 판단)
+     * @param type 대상 타입
+     * @return boolean
+     */
+    static boolean isConvertible(Class<?> type) {
+        return isBeanType(type) && isNestedType(type);
+    }
+
+    private static Map<String, MethodHandle> recordAccessors(Class<?> type, MethodHandles.Lookup lookup) {
+        Map<String, MethodHandle> accessors = new LinkedHashMap<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            Method accessor = component.getAccessor();
+            if (accessor.trySetAccessible()) {
+                accessors.put(component.getName(), unreflect(lookup, accessor));
+            }
+        }
+        return accessors;
+    }
+
+    private static Map<String, MethodHandle> fieldAccessors(Class<?> type, MethodHandles.Lookup lookup) {
+        // 상위 클래스 필드부터 순서대로 등록 (하위 클래스에서 같은 이름의 필드는 덮어쓴다)
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+        Map<String, MethodHandle> accessors = new LinkedHashMap<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !field.trySetAccessible()) {
+                    continue;
+                }
+                try {
+                    accessors.put(field.getName(), lookup.unreflectGetter(field).asType(GETTER_TYPE));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Field accessor creation failed : " + field, e);
+                }
+            }
+        }
+        return accessors;
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Record accessor creation failed : " + method, e);
+        }
+    }
+
+    /**
+     * JDK 타입, 배열, Enum, 기본형 등은 필드 단위로 분해하지 않는다.
+     */
+    private static boolean isBeanType(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()) {
+            return false;
+        }
+        String name = type.getName();
+        return !(name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.")
+                || name.startsWith("sun.") || name.startsWith("jdk."));
+    }
+
+    /**
+     * 하위 필드로 재귀 변환 할 타입 (애플리케이션 패키지, *DTO, Record)
+     * 외부 라이브러리 객체 (Proxy, Entity Manager 등) 는 거대한 객체 그래프를 따라가지 않도록 제외한다.
+     */
+    private static boolean isNestedType(Class<?> type) {
+        if (type.isRecord() || type.getName().startsWith(APPLICATION_PACKAGE)) {
+            return true;
+        }
+        String simpleName = type.getSimpleName();
+        return simpleName.endsWith("DTO") || simpleName.endsWith("Dto");
+    }
+}
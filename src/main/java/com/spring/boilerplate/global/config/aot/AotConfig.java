@@ -0,0 +1,16 @@
+package com.spring.boilerplate.global.config.aot;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * [AOT]
+ * Spring AOT / GraalVM Native Image 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@ImportRuntimeHints(BoilerplateRuntimeHints.class)
+public class AotConfig {
+}
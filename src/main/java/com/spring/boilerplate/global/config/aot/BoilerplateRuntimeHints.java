@@ -0,0 +1,110 @@
+package com.spring.boilerplate.global.config.aot;
+
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+import com.spring.boilerplate.global.api.StreamingApiResponse;
+import com.spring.boilerplate.global.batch.BatchRequest;
+import com.spring.boilerplate.global.cache.CacheInvalidation;
+import com.spring.boilerplate.global.common.aop.LoggingAspect;
+import com.spring.boilerplate.global.common.util.ConvertUtil;
+import com.spring.boilerplate.global.monitor.latency.LatencySnapshot;
+import com.spring.boilerplate.global.monitor.sql.SqlStatementSnapshot;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [AOT]
+ * Native Image / AOT 실행에 필요한 Reflection Hint
+ * 1. ConvertUtil (FieldAccessorPlan) : 변환 대상 타입 (ConvertUtil.isConvertibleType) 및 상위 클래스의 선언 필드 / Record 접근자
+ * 2. Jackson : ApiResponse, ErrorData, DTO 등 직렬화 대상의 Getter / 생성자
+ * 3. LoggingAspect / RouteRegistry : Controller 메소드의 어노테이션 (@RequestMapping 병합) 및 파라미터 정보
+ * 4. SQL 실행 통계 JDBC Proxy, Build-time OpenAPI 문서 리소스
+ * 대상 클래스는 AOT 처리 (JVM) 시점에 Classpath 를 탐색하여 결정한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class BoilerplateRuntimeHints implements RuntimeHintsRegistrar {
+    private static final String BASE_PACKAGE = "com.spring.boilerplate";
+    private static final TypeFilter NON_COMPONENT = (reader, factory) -> {
+        // Bean (Controller, Service, Configuration 등) 은 값 객체로 변환 되지 않으므로 제외
+        AnnotationMetadata metadata = reader.getAnnotationMetadata();
+        return !metadata.hasAnnotation(Component.class.getName()) && !metadata.hasMetaAnnotation(Component.class.getName());
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ReflectionHints reflection = hints.reflection();
+
+        // Jackson 직렬화 / 역직렬화 대상
+        bindingRegistrar.registerReflectionHints(reflection,
+                ApiResponse.class, ErrorData.class, StreamingApiResponse.class,
+                CacheInvalidation.class, LatencySnapshot.class, SqlStatementSnapshot.class, BatchRequest.class);
+
+        // ConvertUtil 필드 접근 + Jackson : ConvertUtil 이 실제로 분해하는 타입과 같은 기준 (isConvertibleType) 으로 선택
+        for (Class<?> dto : findTypes(classLoader, NON_COMPONENT)) {
+            if (!ConvertUtil.isConvertibleType(dto)) {
+                continue;
+            }
+            bindingRegistrar.registerReflectionHints(reflection, dto);
+            for (Class<?> type = dto; type != null && ConvertUtil.isConvertibleType(type); type = type.getSuperclass()) {
+                reflection.registerType(type, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+
+        // LoggingAspect 가 가로채는 Controller 메소드의 어노테이션 / 파라미터 정보
+        for (Class<?> controller : findTypes(classLoader, new AnnotationTypeFilter(RestController.class))) {
+            reflection.registerType(controller, MemberCategory.INTROSPECT_DECLARED_METHODS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        reflection.registerType(LoggingAspect.class, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        // SQL 실행 통계 JDBC Proxy (SqlStatsDataSourcePostProcessor)
+        hints.proxies().registerJdkProxy(DataSource.class);
+        hints.proxies().registerJdkProxy(DataSource.class, AutoCloseable.class);
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+        hints.proxies().registerJdkProxy(ResultSet.class);
+
+        // Build-time 생성 OpenAPI 문서 (StaticOpenApiDocuments)
+        hints.resources().registerPattern("static-openapi/*.json");
+    }
+
+    private static List<Class<?>> findTypes(ClassLoader classLoader, TypeFilter filter) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(filter);
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            String className = candidate.getBeanClassName();
+            if (className != null && ClassUtils.isPresent(className, classLoader)) {
+                types.add(ClassUtils.resolveClassName(className, classLoader));
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.boilerplate.global.config.async;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * [Async]
+ * @Async 설정
+ * spring.threads.virtual.enabled=true (virtual profile) 인 경우 Spring Boot 가
+ * applicationTaskExecutor 를 Virtual Thread 기반 SimpleAsyncTaskExecutor 로 구성하며,
+ * 두 경우 모두 아래 TaskDecorator 가 적용되어 MDC 가 전파 된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
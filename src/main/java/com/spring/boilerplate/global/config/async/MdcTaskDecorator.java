@@ -0,0 +1,39 @@
+package com.spring.boilerplate.global.config.async;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * [Async]
+ * 작업을 제출한 스레드의 MDC 를 실행 스레드(Platform / Virtual) 로 전파
+ * 실행 후에는 실행 스레드의 기존 MDC 로 복원한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                runnable.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.spring.boilerplate.global.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.cache.CacheInvalidationBus;
+import com.spring.boilerplate.global.cache.RemoteCacheStore;
+import com.spring.boilerplate.global.cache.TwoTierCacheManager;
+import com.spring.boilerplate.global.cache.TwoTierCacheProperties;
+import com.spring.boilerplate.global.cache.remote.InMemoryCacheInvalidationBus;
+import com.spring.boilerplate.global.cache.remote.InMemoryRemoteCacheStore;
+import com.spring.boilerplate.global.cache.remote.RedisCacheInvalidationBus;
+import com.spring.boilerplate.global.cache.remote.RedisRemoteCacheStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * [Cache]
+ * 2단계 Cache 설정
+ * boilerplate.cache.remote.type 에 따라 L2 저장소 / 무효화 Bus 를 구성한다.
+ * - none   : L1 (Caffeine) 만 사용
+ * - memory : 내장 In-Memory 저장소 (테스트 용)
+ * - redis  : Redis 저장소 + Pub/Sub 무효화 (spring.data.redis.* 연결 설정 필요)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(TwoTierCacheProperties properties, ObjectMapper objectMapper,
+                                            ObjectProvider<RemoteCacheStore> remoteCacheStore,
+                                            ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        return new TwoTierCacheManager(properties, objectMapper,
+                remoteCacheStore.getIfAvailable(), cacheInvalidationBus.getIfAvailable());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "boilerplate.cache.remote", name = "type", havingValue = "memory")
+    static class InMemoryRemoteCacheConfig {
+
+        @Bean
+        public InMemoryRemoteCacheStore inMemoryRemoteCacheStore() {
+            return new InMemoryRemoteCacheStore();
+        }
+
+        @Bean
+        public InMemoryCacheInvalidationBus inMemoryCacheInvalidationBus() {
+            return new InMemoryCacheInvalidationBus();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "boilerplate.cache.remote", name = "type", havingValue = "redis")
+    static class RedisRemoteCacheConfig {
+
+        @Bean
+        public RedisTemplate<String, byte[]> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+            RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(RedisSerializer.string());
+            redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+            redisTemplate.setEnableDefaultSerializer(false);
+            return redisTemplate;
+        }
+
+        @Bean
+        public RedisRemoteCacheStore redisRemoteCacheStore(RedisTemplate<String, byte[]> cacheRedisTemplate) {
+            return new RedisRemoteCacheStore(cacheRedisTemplate);
+        }
+
+        @Bean
+        public RedisCacheInvalidationBus redisCacheInvalidationBus(RedisTemplate<String, byte[]> cacheRedisTemplate,
+                                                                   ObjectMapper objectMapper,
+                                                                   TwoTierCacheProperties properties) {
+            return new RedisCacheInvalidationBus(cacheRedisTemplate, objectMapper, properties.getRemote().getInvalidationChannel());
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                RedisCacheInvalidationBus redisCacheInvalidationBus,
+                                                                                TwoTierCacheProperties properties) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(redisCacheInvalidationBus, new ChannelTopic(properties.getRemote().getInvalidationChannel()));
+            return container;
+        }
+    }
+}
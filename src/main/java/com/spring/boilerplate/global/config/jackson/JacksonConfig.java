@@ -0,0 +1,51 @@
+package com.spring.boilerplate.global.config.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.spring.boilerplate.global.api.serializer.ApiResponseModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * [Jackson]
+ * 애플리케이션 공용 ObjectMapper 설정
+ * Spring MVC 응답, Audit 로그, Cache 직렬화 모두 이 설정이 적용 된 ObjectMapper Bean 을 사용한다.
+ * 1. ApiResponse / ErrorData Serializer Module 은 Bean 으로 등록하여 Spring Boot 가 자동 등록, Blackbird 는 JVM 실행 시에만 등록
+ * 2. 버퍼 RecyclerPool 은 ThreadLocal 대신 크기 제한 공유 Pool 사용 (Virtual Thread 환경에서도 재사용)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public ApiResponseModule apiResponseModule() {
+        return new ApiResponseModule();
+    }
+
+    /**
+     * Blackbird 는 실행 중 Class 를 생성하므로 Native Image 에서는 등록하지 않는다.
+     * (AOT 처리 시점에 Bean 구성이 고정 되므로 Condition 대신 실행 시점에 판단)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "boilerplate.jackson", name = "blackbird-enabled", havingValue = "true", matchIfMissing = true)
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+        return builder -> builder.postConfigurer(objectMapper -> {
+            if (!NativeDetector.inNativeImage()) {
+                objectMapper.registerModule(new BlackbirdModule());
+            }
+        });
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer recyclerPoolCustomizer(SerializationProperties properties) {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newBoundedPool(properties.getRecyclerPoolSize()))
+                .build());
+    }
+}
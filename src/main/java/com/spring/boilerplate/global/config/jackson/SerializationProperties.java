@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.config.jackson;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Jackson]
+ * 공용 ObjectMapper 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.jackson")
+public class SerializationProperties {
+    private boolean blackbirdEnabled = true;                // Blackbird (LambdaMetafactory 기반 Getter 호출) 사용 여부
+    private int recyclerPoolSize = 256;                     // 직렬화 버퍼 공유 Pool 최대 보관 수
+    private String warmUpPackage = "com.spring.boilerplate"; // 기동 시 Serializer 를 미리 생성 할 DTO 탐색 패키지
+}
@@ -0,0 +1,65 @@
+package com.spring.boilerplate.global.config.jackson;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * [Jackson]
+ * 기동 시 ApiResponse, ErrorData 및 *DTO 클래스의 Serializer 를 미리 생성하여 공용 ObjectMapper 에 캐싱
+ * 첫 요청에서 Bean 분석 / Blackbird 접근자 생성 비용이 발생하지 않도록 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SerializerWarmUp {
+    private static final Pattern DTO_PATTERN = Pattern.compile(".*DTO");
+
+    private final ObjectMapper objectMapper;
+    private final SerializationProperties properties;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void warmUp() {
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        int count = 0;
+        count += warmUp(provider, ApiResponse.class);
+        count += warmUp(provider, ErrorData.class);
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(DTO_PATTERN));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(properties.getWarmUpPackage())) {
+            try {
+                count += warmUp(provider, ClassUtils.forName(candidate.getBeanClassName(), ClassUtils.getDefaultClassLoader()));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Serializer warm-up skipped : {}", candidate.getBeanClassName());
+            }
+        }
+        log.info("Serializer warm-up completed : {} types", count);
+    }
+
+    private static int warmUp(SerializerProvider provider, Class<?> type) {
+        try {
+            provider.findValueSerializer(type);
+            return 1;
+        } catch (JsonMappingException e) {
+            log.debug("Serializer warm-up failed : {} - {}", type.getName(), e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.spring.boilerplate.global.config.security;
+
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import com.spring.boilerplate.global.security.AccessTokenVerifier;
+import com.spring.boilerplate.global.security.AuthErrorResponder;
+import com.spring.boilerplate.global.security.AuthProperties;
+import com.spring.boilerplate.global.security.JwtAuthenticationFilter;
+import com.spring.boilerplate.global.security.JwtTokenProvider;
+import com.spring.boilerplate.global.security.TokenService;
+import com.spring.boilerplate.global.security.session.InMemorySessionRegistry;
+import com.spring.boilerplate.global.security.session.RedisSessionRegistry;
+import com.spring.boilerplate.global.security.session.SessionRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+/**
+ * [Security]
+ * Spring Security 설정 (Stateless JWT)
+ * boilerplate.auth.session.store 에 따라 세션 저장소를 구성한다.
+ * - memory : 애플리케이션 메모리 (단일 노드)
+ * - redis  : Redis (spring.data.redis.* 연결 설정 필요)
+ * /internal/** (지표, 지표 초기화) 는 인증 사용 여부와 관계 없이 Loopback 주소 또는 internalRole 보유자만 접근할 수 있다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    @Bean
+    public JwtTokenProvider jwtTokenProvider(AuthProperties properties) {
+        return new JwtTokenProvider(properties);
+    }
+
+    @Bean
+    public AccessTokenVerifier accessTokenVerifier(JwtTokenProvider jwtTokenProvider, AuthProperties properties) {
+        return new AccessTokenVerifier(jwtTokenProvider, properties.getVerifiedCache());
+    }
+
+    @Bean
+    public TokenService tokenService(JwtTokenProvider jwtTokenProvider, SessionRegistry sessionRegistry, AuthProperties properties) {
+        return new TokenService(jwtTokenProvider, sessionRegistry, properties.getSession().getDuplicateLogin());
+    }
+
+    @Bean
+    public AuthErrorResponder authErrorResponder(ApiResponseBodyCache bodyCache, ErrorMetrics errorMetrics, AuthProperties properties) {
+        return new AuthErrorResponder(bodyCache, errorMetrics, properties.getAccessHeader());
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthProperties properties,
+                                                   AccessTokenVerifier accessTokenVerifier, SessionRegistry sessionRegistry,
+                                                   AuthErrorResponder authErrorResponder) throws Exception {
+        http.csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 응답 ETag / 304 처리 (ResponseBodyWriter) 를 위해 no-store Cache-Control 을 추가하지 않음
+                // SockJS iframe transport 를 위해 같은 Origin 의 frame 허용
+                .headers(headers -> headers
+                        .cacheControl(HeadersConfigurer.CacheControlConfig::disable)
+                        .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(authErrorResponder)
+                        .accessDeniedHandler(authErrorResponder));
+
+        String[] internalPaths = properties.getInternalPaths().toArray(String[]::new);
+        AuthorizationManager<RequestAuthorizationContext> internalAccess = internalAccess(properties.getInternalRole());
+        if (!properties.isEnabled()) {
+            http.authorizeHttpRequests(authorize -> authorize
+                    .requestMatchers(internalPaths).access(internalAccess)
+                    .anyRequest().permitAll());
+            return http.build();
+        }
+        // JwtAuthenticationFilter 는 Bean 으로 등록하지 않음 (Servlet Filter 로 중복 등록 방지)
+        http.authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(internalPaths).access(internalAccess)
+                        .requestMatchers(properties.getPermitPaths().toArray(String[]::new)).permitAll()
+                        .anyRequest().authenticated())
+                .addFilterBefore(new JwtAuthenticationFilter(properties.getAccessHeader(), accessTokenVerifier,
+                        sessionRegistry, authErrorResponder), UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+    /**
+     * Loopback (127.0.0.0/8, ::1) 요청 또는 internalRole 을 가진 인증 사용자만 허용
+     * Proxy 뒤에서 server.forward-headers-strategy 를 사용하는 경우 Remote Address 는 Proxy 가 전달한 값이므로
+     * Proxy 에서 /internal/** 을 외부로 노출하지 않아야 한다.
+     * @param internalRole 필요한 Role
+     * @return AuthorizationManager<RequestAuthorizationContext>
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> internalAccess(String internalRole) {
+        IpAddressMatcher loopbackV4 = new IpAddressMatcher("127.0.0.0/8");
+        IpAddressMatcher loopbackV6 = new IpAddressMatcher("::1");
+        AuthorizationManager<RequestAuthorizationContext> loopback = (authentication, context) -> {
+            String remoteAddress;
+            try {
+                remoteAddress = context.getRequest().getRemoteAddr();
+            } catch (UnsupportedOperationException e) {
+                // WebInvocationPrivilegeEvaluator 의 가상 요청 (/batch 하위 요청 인가) 은 주소가 없으므로 Role 로만 판단
+                return new AuthorizationDecision(false);
+            }
+            return new AuthorizationDecision(loopbackV4.matches(remoteAddress) || loopbackV6.matches(remoteAddress));
+        };
+        return AuthorizationManagers.anyOf(loopback, AuthorityAuthorizationManager.hasRole(internalRole));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "boilerplate.auth.session", name = "store", havingValue = "memory", matchIfMissing = true)
+    static class InMemorySessionConfig {
+
+        @Bean
+        public InMemorySessionRegistry inMemorySessionRegistry() {
+            return new InMemorySessionRegistry();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "boilerplate.auth.session", name = "store", havingValue = "redis")
+    static class RedisSessionConfig {
+
+        @Bean
+        public RedisSessionRegistry redisSessionRegistry(StringRedisTemplate stringRedisTemplate, AuthProperties properties) {
+            return new RedisSessionRegistry(stringRedisTemplate, properties.getSession().getKeyPrefix(),
+                    properties.getSession().getLocalCacheTtl());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.spring.boilerplate.global.config.swagger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * [Swagger]
+ * Build-time OpenAPI 문서 생성기 (./gradlew generateOpenApiDocs)
+ * openapi-export 프로필로 기동 된 경우에만 등록되며, 실제 springdoc Endpoint 를 호출하여
+ * 런타임과 동일한 문서를 그룹 별 파일로 저장한 뒤 애플리케이션을 종료한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Profile("openapi-export")
+@RequiredArgsConstructor
+public class OpenApiExporter implements ApplicationRunner {
+    static final String DEFAULT_DOCUMENT = "default";  // 그룹 지정 없는 /v3/api-docs 문서 이름
+
+    private final List<GroupedOpenApi> groups;
+    private final OpenApiProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${springdoc.api-docs.path:/v3/api-docs}")
+    private String apiDocsPath;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        Path directory = Path.of(properties.getExportDirectory());
+        Files.createDirectories(directory);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        String baseUrl = "http://localhost:" + port + apiDocsPath;
+        export(client, baseUrl, directory.resolve(DEFAULT_DOCUMENT + ".json"));
+        for (GroupedOpenApi group : groups) {
+            String name = group.getGroup();
+            export(client, baseUrl + "/" + URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20"),
+                    directory.resolve(name + ".json"));
+        }
+        log.info("OpenAPI documents exported : {} ({} groups)", directory.toAbsolutePath(), groups.size());
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private static void export(HttpClient client, String url, Path target) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("OpenAPI export failed : " + url + " -> " + response.statusCode());
+        }
+        Files.write(target, response.body());
+        log.info("OpenAPI document exported : {} ({} bytes)", target.getFileName(), response.body().length);
+    }
+}
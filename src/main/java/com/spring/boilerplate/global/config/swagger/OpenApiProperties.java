@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.config.swagger;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Swagger]
+ * Build-time OpenAPI 문서 생성 / 정적 제공 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.openapi")
+public class OpenApiProperties {
+    private boolean staticEnabled = false;                                  // 빌드 시 생성 된 정적 문서 제공 여부 (springdoc.api-docs.enabled=false 일 때만 동작)
+    private String resourceLocation = "classpath:static-openapi/";          // 정적 문서 위치 ({group}.json)
+    private String exportDirectory = "build/generated/openapi/static-openapi"; // openapi-export 프로필 실행 시 문서 저장 경로
+}
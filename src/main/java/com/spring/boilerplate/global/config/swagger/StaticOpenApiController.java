@@ -0,0 +1,57 @@
+package com.spring.boilerplate.global.config.swagger;
+
+import com.spring.boilerplate.global.api.converter.AcceptEncoding;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * [Swagger]
+ * Build-time 생성 OpenAPI 문서 Endpoint (springdoc /v3/api-docs 대체)
+ * If-None-Match 가 ETag 와 일치하면 304 를 응답하고 (HttpEntityMethodProcessor),
+ * Accept-Encoding 이 gzip 을 허용하면 (q > 0) 미리 압축 된 바이트를 gzip 전용 ETag 와 함께 그대로 응답한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnExpression(StaticOpenApiDocuments.CONDITION)
+public class StaticOpenApiController {
+    private final StaticOpenApiDocuments documents;
+
+    @GetMapping("${springdoc.api-docs.path:/v3/api-docs}")
+    public ResponseEntity<byte[]> apiDocs(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond(OpenApiExporter.DEFAULT_DOCUMENT, acceptEncoding);
+    }
+
+    @GetMapping("${springdoc.api-docs.path:/v3/api-docs}/{group}")
+    public ResponseEntity<byte[]> groupApiDocs(@PathVariable String group,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond(group, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> respond(String group, String acceptEncoding) {
+        StaticOpenApiDocuments.Document document = documents.get(group);
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (AcceptEncoding.accepts(acceptEncoding, "gzip")) {
+            return builder.eTag(document.gzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(document.gzip());
+        }
+        return builder.eTag(document.etag()).body(document.json());
+    }
+}
@@ -0,0 +1,113 @@
+package com.spring.boilerplate.global.config.swagger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [Swagger]
+ * Build-time 생성 OpenAPI 문서 저장소
+ * 기동 시 static-openapi/{group}.json 을 한 번만 읽어 원본 / gzip 바이트와 ETag 를 미리 계산해 둔다.
+ * 요청 처리 시에는 springdoc 스캔이나 직렬화 없이 준비된 바이트를 그대로 응답한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression(StaticOpenApiDocuments.CONDITION)
+public class StaticOpenApiDocuments {
+    // springdoc 런타임 Endpoint 와 같은 경로를 사용하므로 springdoc.api-docs.enabled=false 인 경우에만 등록
+    static final String CONDITION = "${boilerplate.openapi.static-enabled:false} and !${springdoc.api-docs.enabled:true}";
+
+    private final Map<String, Document> documents;
+
+    public StaticOpenApiDocuments(OpenApiProperties properties, ResourcePatternResolver resolver) {
+        this.documents = load(properties.getResourceLocation(), resolver);
+        if (documents.isEmpty()) {
+            log.warn("No static OpenAPI documents found : {} (build with -PopenApiStatic)", properties.getResourceLocation());
+        } else {
+            log.info("Static OpenAPI documents loaded : {}", documents.keySet());
+        }
+    }
+
+    /**
+     * 그룹 이름에 해당하는 문서 조회
+     * @param group GroupedOpenApi 그룹 이름 (그룹 미지정 시 default)
+     * @return Document (없으면 null)
+     */
+    public Document get(String group) {
+        return documents.get(group);
+    }
+
+    private static Map<String, Document> load(String location, ResourcePatternResolver resolver) {
+        String pattern = location.endsWith("/") ? location + "*.json" : location + "/*.json";
+        Map<String, Document> loaded = new TreeMap<>();
+        try {
+            for (Resource resource : resolver.getResources(pattern)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                byte[] json;
+                try (InputStream in = resource.getInputStream()) {
+                    json = StreamUtils.copyToByteArray(in);
+                }
+                String etag = etag(json);
+                // 강한 ETag 는 Content Coding 마다 달라야 하므로 gzip 표현은 "<md5>-gzip" 사용 (RFC 9110 §8.8.3)
+                String gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+                loaded.put(filename.substring(0, filename.length() - ".json".length()),
+                        new Document(json, gzip(json), etag, gzipEtag));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load static OpenAPI documents : " + pattern, e);
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        // 기동 시 1회만 압축하므로 최대 압축률 사용
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(json)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+    }
+
+    /**
+     * 미리 인코딩 된 OpenAPI 문서
+     * @param json 원본 JSON 바이트
+     * @param gzip gzip 압축 바이트
+     * @param etag 원본 기준 강한 ETag
+     * @param gzipEtag gzip 응답의 강한 ETag
+     */
+    public record Document(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
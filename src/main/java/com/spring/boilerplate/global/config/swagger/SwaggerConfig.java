@@ -1,9 +1,13 @@
 package com.spring.boilerplate.global.config.swagger;
 
+import com.spring.boilerplate.global.api.converter.BinaryApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.converter.ResponseBodyProperties;
+import com.spring.boilerplate.global.api.protobuf.ProtobufApiResponseHttpMessageConverter;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
@@ -14,6 +18,7 @@ import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -53,7 +58,7 @@ public class SwaggerConfig {
     public GroupedOpenApi mainGroup() {
         return GroupedOpenApi.builder()
                 .group("Main")
-                .pathsToMatch("/auth/**", "/deposit/**", "/withdraw/**", "/info/**", "/games/**", "/gnb/**", "/inquiry/**", "/message/**")
+                .pathsToMatch("/response/**")
                 .build();
     }
 
@@ -83,11 +88,22 @@ public class SwaggerConfig {
 
     // 공통으로 사용되는 response 설정
     @Bean
-    public GlobalOpenApiCustomizer customerGlobalHeaderOpenApiCustomizer() {
+    public GlobalOpenApiCustomizer customerGlobalHeaderOpenApiCustomizer(ResponseBodyProperties responseBodyProperties) {
+        List<String> binaryMediaTypes = binaryMediaTypes(responseBodyProperties);
         return openApi -> {
+            if (openApi.getPaths() == null) {
+                return;
+            }
             openApi.getPaths().values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> {
                 ApiResponses apiResponses = operation.getResponses();
-                apiResponses.addApiResponse("200", createApiResponse(apiResponses.get("200").getDescription(), apiResponses.get("200").getContent()));
+                if (apiResponses == null) {
+                    apiResponses = new ApiResponses();
+                    operation.setResponses(apiResponses);
+                }
+                ApiResponse success = apiResponses.get("200");
+                apiResponses.addApiResponse("200", success == null
+                        ? createApiResponse("OK", null)
+                        : createApiResponse(success.getDescription(), addBinaryMediaTypes(success.getContent(), binaryMediaTypes)));
                 apiResponses.addApiResponse("400", createApiResponse("Bad Request", null));
                 apiResponses.addApiResponse("401", createApiResponse("Token Error", null));
                 apiResponses.addApiResponse("404", createApiResponse("Not Found", null));
@@ -96,6 +112,42 @@ public class SwaggerConfig {
         };
     }
 
+    /**
+     * 활성화 된 Binary 응답 형식 (Accept 로 선택, 응답 구조는 JSON 과 동일)
+     * @param properties ResponseBodyProperties
+     * @return List<String>
+     */
+    private static List<String> binaryMediaTypes(ResponseBodyProperties properties) {
+        List<String> mediaTypes = new ArrayList<>(3);
+        if (properties.isCborEnabled()) {
+            mediaTypes.add(org.springframework.http.MediaType.APPLICATION_CBOR_VALUE);
+        }
+        if (properties.isSmileEnabled()) {
+            mediaTypes.add(BinaryApiResponseHttpMessageConverter.APPLICATION_SMILE.toString());
+        }
+        if (properties.isProtobufEnabled()) {
+            mediaTypes.add(ProtobufApiResponseHttpMessageConverter.APPLICATION_X_PROTOBUF.toString());
+        }
+        return mediaTypes;
+    }
+
+    /**
+     * JSON 응답 Schema 를 Binary Media Type 에도 동일하게 등록
+     * @param content 기존 응답 Content
+     * @param binaryMediaTypes 추가 할 Media Type
+     * @return Content
+     */
+    private static Content addBinaryMediaTypes(Content content, List<String> binaryMediaTypes) {
+        if (content == null || content.isEmpty() || binaryMediaTypes.isEmpty()) {
+            return content;
+        }
+        MediaType json = content.values().iterator().next();
+        for (String binaryMediaType : binaryMediaTypes) {
+            content.putIfAbsent(binaryMediaType, new MediaType().schema(json.getSchema()));
+        }
+        return content;
+    }
+
     public ApiResponse createApiResponse(String message, Content content){
         return new ApiResponse().description(message).content(content);
     }
@@ -0,0 +1,38 @@
+package com.spring.boilerplate.global.config.web;
+
+import com.spring.boilerplate.global.admission.AdmissionControlFilter;
+import com.spring.boilerplate.global.admission.AdmissionProperties;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * [Web]
+ * Admission control (Rate limit / 동시 처리 한도) Filter 등록
+ * 다른 Filter 보다 먼저 실행하여 거부 할 요청이 이후 처리 비용을 쓰지 않도록 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "boilerplate.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(AdmissionProperties properties, ApiResponseBodyCache bodyCache,
+                                                         ErrorMetrics errorMetrics) {
+        return new AdmissionControlFilter(properties, bodyCache, errorMetrics);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilterRegistration(AdmissionControlFilter filter) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);  // CharacterEncodingFilter 다음
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
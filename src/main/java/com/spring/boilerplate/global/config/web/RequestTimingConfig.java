@@ -0,0 +1,50 @@
+package com.spring.boilerplate.global.config.web;
+
+import com.spring.boilerplate.global.monitor.timing.RequestPhaseHistograms;
+import com.spring.boilerplate.global.monitor.timing.RequestTimingAspect;
+import com.spring.boilerplate.global.monitor.timing.RequestTimingFilter;
+import com.spring.boilerplate.global.monitor.timing.RequestTimingInterceptor;
+import com.spring.boilerplate.global.monitor.timing.RequestTimingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * [Web]
+ * 요청 구간 측정 (Server-Timing) / Correlation ID Filter, Interceptor, Aspect 등록
+ * Admission control 보다 먼저 실행하여 거부 응답에도 Correlation ID 와 처리 시간이 남도록 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "boilerplate.timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public RequestTimingFilter requestTimingFilter(RequestTimingProperties properties, RequestPhaseHistograms histograms) {
+        return new RequestTimingFilter(properties, histograms);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilterRegistration(RequestTimingFilter filter) {
+        FilterRegistrationBean<RequestTimingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public RequestTimingAspect requestTimingAspect() {
+        return new RequestTimingAspect();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor()).order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,85 @@
+package com.spring.boilerplate.global.config.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.api.converter.ApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.converter.BinaryApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.converter.ResponseBodyProperties;
+import com.spring.boilerplate.global.api.converter.ResponseBodyWriter;
+import com.spring.boilerplate.global.api.converter.StreamingApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.protobuf.ProtobufApiResponseCodec;
+import com.spring.boilerplate.global.api.protobuf.ProtobufApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.protobuf.ProtobufPayloadMapper;
+import com.spring.boilerplate.global.exception.handler.ErrorLogPolicy;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * [Web]
+ * Spring MVC 공통 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final ApiResponseBodyCache apiResponseBodyCache;
+    private final ResponseBodyWriter responseBodyWriter;
+    private final ResponseBodyProperties responseBodyProperties;
+    private final ErrorLogPolicy errorLogPolicy;
+    private final ErrorMetrics errorMetrics;
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+    private final ObjectProvider<ProtobufPayloadMapper<?>> protobufPayloadMappers;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // jackson-dataformat-cbor / smile 이 Classpath 에 있으면 Spring MVC 가 기본 Converter 를 등록하므로 제거
+        // (모든 반환 타입 / @RequestBody 가 Binary 로 협상되지 않도록 아래 ApiResponse 전용 Converter 만 사용)
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        // ApiResponse, StreamingApiResponse 는 Jackson 기본 Converter 보다 먼저 처리
+        converters.add(0, new ApiResponseHttpMessageConverter(objectMapper, apiResponseBodyCache, responseBodyWriter));
+        converters.add(1, new StreamingApiResponseHttpMessageConverter(objectMapper, apiResponseBodyCache,
+                responseBodyProperties, errorLogPolicy, errorMetrics));
+
+        // Binary 형식은 Accept 에 명시 된 경우에만 선택 되도록 JSON 다음 순서 (Accept: */* 는 JSON 유지)
+        int index = 2;
+        if (responseBodyProperties.isCborEnabled()) {
+            converters.add(index++, new BinaryApiResponseHttpMessageConverter(binaryObjectMapper(new CBORFactory()),
+                    MediaType.APPLICATION_CBOR));
+        }
+        if (responseBodyProperties.isSmileEnabled()) {
+            converters.add(index++, new BinaryApiResponseHttpMessageConverter(binaryObjectMapper(new SmileFactory()),
+                    BinaryApiResponseHttpMessageConverter.APPLICATION_SMILE));
+        }
+        if (responseBodyProperties.isProtobufEnabled()) {
+            converters.add(index, new ProtobufApiResponseHttpMessageConverter(
+                    new ProtobufApiResponseCodec(objectMapper, protobufPayloadMappers.orderedStream().toList())));
+        }
+    }
+
+    /**
+     * 공용 ObjectMapper 와 같은 설정 (Module, Customizer) 에 JsonFactory 만 교체
+     * @param factory CBORFactory / SmileFactory
+     * @return ObjectMapper
+     */
+    private ObjectMapper binaryObjectMapper(JsonFactory factory) {
+        return objectMapperBuilders.getObject().factory(factory).build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.spring.boilerplate.global.config.websocket;
+
+import com.spring.boilerplate.global.websocket.BroadcastProperties;
+import com.spring.boilerplate.global.websocket.BroadcastWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * [WebSocket]
+ * WebSocket / SockJS Endpoint 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final BroadcastWebSocketHandler broadcastWebSocketHandler;
+    private final BroadcastProperties broadcastProperties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(broadcastWebSocketHandler, broadcastProperties.getEndpoint())
+                .setAllowedOriginPatterns(broadcastProperties.getAllowedOriginPatterns());
+        registry.addHandler(broadcastWebSocketHandler, broadcastProperties.getSockJsEndpoint())
+                .setAllowedOriginPatterns(broadcastProperties.getAllowedOriginPatterns())
+                .withSockJS();
+    }
+}
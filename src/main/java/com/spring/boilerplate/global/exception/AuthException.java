@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.exception;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+
+/**
+ * [Exception]
+ * 인증 / 토큰 관련 예외 (ErrorConstant Auth Error)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class AuthException extends BusinessException {
+
+    public AuthException(ErrorConstant errorConstant) {
+        super(errorConstant);
+    }
+
+    public AuthException(ErrorConstant errorConstant, String message) {
+        super(errorConstant, message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.boilerplate.global.exception;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import lombok.Getter;
+
+/**
+ * [Exception]
+ * ErrorConstant 기반의 비즈니스 예외
+ * 예상 된 흐름의 예외이므로 stack trace 를 수집하지 않아 생성 비용이 낮다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public class BusinessException extends RuntimeException {
+    private final ErrorConstant errorConstant;
+
+    public BusinessException(ErrorConstant errorConstant) {
+        this(errorConstant, errorConstant.getErrorMessage());
+    }
+
+    public BusinessException(ErrorConstant errorConstant, String message) {
+        super(message, null, false, false);
+        this.errorConstant = errorConstant;
+    }
+}
@@ -0,0 +1,86 @@
+package com.spring.boilerplate.global.exception.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Global Exception]
+ * 예외 로그 중복 제거 정책
+ * 같은 시그니처(예외 타입 + 발생 위치)의 예외는 주기(window) 당 1번만 stack trace 와 함께 출력하고,
+ * 나머지는 건수만 집계하여 다음 출력 시 함께 남긴다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorLogPolicy {
+    public static final long SUPPRESS = -1L;
+
+    private final ErrorLogProperties properties;
+    private final Map<Signature, Window> windows = new ConcurrentHashMap<>();
+    private final Window overflowWindow = new Window(0);
+
+    /**
+     * 로그 출력 여부 판단
+     * @param exception 발생한 예외
+     * @return 출력해야 하는 경우 직전 주기 동안 생략 된 건수, 생략해야 하는 경우 SUPPRESS
+     */
+    public long acquire(Throwable exception) {
+        long now = System.currentTimeMillis();
+        Signature signature = Signature.of(exception);
+        Window window = windows.get(signature);
+        if (window == null) {
+            if (windows.size() >= properties.getMaxSignatures()) {
+                // 시그니처 수가 상한을 넘으면 주기 당 1건만 출력
+                return acquireUntracked(now);
+            }
+            Window created = new Window(now);
+            window = windows.putIfAbsent(signature, created);
+            if (window == null) {
+                return 0;
+            }
+        }
+        return window.acquire(now, properties.getWindowMillis());
+    }
+
+    private long acquireUntracked(long now) {
+        return overflowWindow.acquire(now, properties.getWindowMillis());
+    }
+
+    /**
+     * 예외 시그니처 (타입 + 최초 발생 위치)
+     */
+    private record Signature(Class<?> type, StackTraceElement site) {
+        static Signature of(Throwable exception) {
+            StackTraceElement[] stackTrace = exception.getStackTrace();
+            return new Signature(exception.getClass(), stackTrace.length > 0 ? stackTrace[0] : null);
+        }
+    }
+
+    /**
+     * 시그니처 별 출력 주기 상태
+     */
+    private static final class Window {
+        private final AtomicLong startedAt;
+        private final LongAdder suppressed = new LongAdder();
+
+        Window(long startedAt) {
+            this.startedAt = new AtomicLong(startedAt);
+        }
+
+        long acquire(long now, long windowMillis) {
+            long started = startedAt.get();
+            if (now - started >= windowMillis && startedAt.compareAndSet(started, now)) {
+                return suppressed.sumThenReset();
+            }
+            suppressed.increment();
+            return SUPPRESS;
+        }
+    }
+}
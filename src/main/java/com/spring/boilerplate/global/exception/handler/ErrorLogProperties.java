@@ -0,0 +1,20 @@
+package com.spring.boilerplate.global.exception.handler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Global Exception]
+ * 에러 로그 중복 제거 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.error-log")
+public class ErrorLogProperties {
+    private long windowMillis = 60_000;     // 같은 예외(타입 + 발생 위치)를 전체 로그로 남기는 주기
+    private int maxSignatures = 1024;       // 추적 할 최대 예외 시그니처 수
+}
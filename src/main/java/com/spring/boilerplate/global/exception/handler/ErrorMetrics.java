@@ -0,0 +1,45 @@
+package com.spring.boilerplate.global.exception.handler;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Global Exception]
+ * ErrorConstant 별 발생 건수 집계
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+public class ErrorMetrics implements MetricsExporter {
+    private final Map<ErrorConstant, LongAdder> counters = new EnumMap<>(ErrorConstant.class);
+
+    public ErrorMetrics() {
+        for (ErrorConstant errorConstant : ErrorConstant.values()) {
+            counters.put(errorConstant, new LongAdder());
+        }
+    }
+
+    public void increment(ErrorConstant errorConstant) {
+        counters.get(errorConstant).increment();
+    }
+
+    public long count(ErrorConstant errorConstant) {
+        return counters.get(errorConstant).sum();
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_errors_total Error responses by ErrorConstant\n");
+        out.append("# TYPE boilerplate_errors_total counter\n");
+        counters.forEach((errorConstant, counter) -> out.append("boilerplate_errors_total{code=\"")
+                .append(errorConstant.getErrorCode())
+                .append("\",status=\"").append(errorConstant.getStatusCode())
+                .append("\"} ").append(counter.sum()).append('\n'));
+    }
+}
@@ -3,8 +3,13 @@ package com.spring.boilerplate.global.exception.handler;
 import com.spring.boilerplate.global.api.ApiResponse;
 import com.spring.boilerplate.global.api.ErrorData;
 import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.BusinessException;
+import com.spring.boilerplate.global.monitor.timing.RequestPhase;
+import com.spring.boilerplate.global.monitor.timing.RequestTimer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -24,8 +29,28 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 @Slf4j
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalApiExceptionHandler {
 
+    private final ErrorLogPolicy errorLogPolicy;
+    private final ErrorMetrics errorMetrics;
+
+    /**
+     * ErrorConstant 기반 비즈니스 예외 (stack trace 없음, 로그 생략)
+     * @param exception BusinessException
+     * @return ResponseEntity<ApiResponse<ErrorData>>
+     */
+    @ExceptionHandler(BusinessException.class)
+    protected ResponseEntity<ApiResponse<ErrorData>> handleBusinessException(BusinessException exception) {
+        RequestTimer.enter(RequestPhase.ERROR);
+        ErrorConstant errorConstant = exception.getErrorConstant();
+        errorMetrics.increment(errorConstant);
+        if (log.isDebugEnabled()) {
+            log.debug("BusinessException : {} - {}", errorConstant.getErrorCode(), exception.getMessage());
+        }
+        return ResponseEntity.status(errorConstant.getStatusCode()).body(ApiResponse.fail(errorConstant));
+    }
+
     /**
      * NULL 값이 발생한 경우
      * @param exception NullPointerException
@@ -33,13 +58,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(NullPointerException.class)
     protected ApiResponse<ErrorData> handleNullPointerException(NullPointerException exception) {
-        log.error("HttpRequestMethodNotSupportedException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.NULL_POINT.getErrorCode())
-                .errorMessage(ErrorConstant.NULL_POINT.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.NULL_POINT.getStatusCode(), response);
+        return handle(exception, ErrorConstant.NULL_POINT);
     }
 
     /**
@@ -49,13 +68,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ApiResponse<ErrorData> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException exception) {
-        log.error("HttpRequestMethodNotSupportedException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.BAD_REQUEST_METHOD.getErrorCode())
-                .errorMessage(ErrorConstant.BAD_REQUEST_METHOD.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.BAD_REQUEST_METHOD.getStatusCode(), response);
+        return handle(exception, ErrorConstant.BAD_REQUEST_METHOD);
     }
 
     /**
@@ -65,13 +78,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(MissingRequestHeaderException.class)
     protected ApiResponse<ErrorData> handleMissingRequestHeaderException(MissingRequestHeaderException exception) {
-        log.error("MissingRequestHeaderException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.BAD_REQUEST_HEADER.getErrorCode())
-                .errorMessage(ErrorConstant.BAD_REQUEST_HEADER.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.BAD_REQUEST_HEADER.getStatusCode(), response);
+        return handle(exception, ErrorConstant.BAD_REQUEST_HEADER);
     }
 
     /**
@@ -81,13 +88,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     protected ApiResponse<ErrorData> handleIllegalArgumentException(IllegalArgumentException exception) {
-        log.error("IllegalArgumentException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.ILLEGAL_ARGUMENT.getErrorCode())
-                .errorMessage(ErrorConstant.ILLEGAL_ARGUMENT.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.ILLEGAL_ARGUMENT.getStatusCode(), response);
+        return handle(exception, ErrorConstant.ILLEGAL_ARGUMENT);
     }
 
     /**
@@ -97,13 +98,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(MissingServletRequestParameterException.class)
     protected ApiResponse<ErrorData> handleMissingRequestHeaderExceptionException(MissingServletRequestParameterException exception) {
-        log.error("MissingServletRequestParameterException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.BAD_REQUEST_PARAMETER.getErrorCode())
-                .errorMessage(ErrorConstant.BAD_REQUEST_PARAMETER.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.BAD_REQUEST_PARAMETER.getStatusCode(), response);
+        return handle(exception, ErrorConstant.BAD_REQUEST_PARAMETER);
     }
 
     /**
@@ -113,13 +108,7 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(HttpClientErrorException.BadRequest.class)
     protected ApiResponse<ErrorData> handleBadRequestException(HttpClientErrorException exception) {
-        log.error("HttpClientErrorException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.BAD_REQUEST.getErrorCode())
-                .errorMessage(ErrorConstant.BAD_REQUEST.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.BAD_REQUEST.getStatusCode(), response);
+        return handle(exception, ErrorConstant.BAD_REQUEST);
     }
 
     /**
@@ -130,13 +119,7 @@ public class GlobalApiExceptionHandler {
     @ExceptionHandler(NoHandlerFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     protected ApiResponse<ErrorData> handleNoHandlerFoundExceptionException(NoHandlerFoundException exception) {
-        log.error("NoHandlerFoundException", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.NOT_FOUND.getErrorCode())
-                .errorMessage(ErrorConstant.NOT_FOUND.getErrorMessage())
-                .build();
-
-        return ApiResponse.fail(ErrorConstant.NOT_FOUND.getStatusCode(), response);
+        return handle(exception, ErrorConstant.NOT_FOUND);
     }
 
     /**
@@ -146,13 +129,24 @@ public class GlobalApiExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     protected ApiResponse<ErrorData> handleAllException(Exception exception) {
-        log.error("Exception", exception);
-        ErrorData response = ErrorData.builder()
-                .errorCode(ErrorConstant.OTHER_ERROR.getErrorCode())
-                .errorMessage(ErrorConstant.OTHER_ERROR.getErrorMessage())
-                .build();
+        return handle(exception, ErrorConstant.OTHER_ERROR);
+    }
 
-        return ApiResponse.fail(ErrorConstant.OTHER_ERROR.getStatusCode(), response);
+    /**
+     * 공통 처리 : 지표 집계 + 중복 제거 된 에러 로그 + 공유 응답 반환
+     * @param exception Exception
+     * @param errorConstant ErrorConstant
+     * @return ApiResponse<ErrorData>
+     */
+    private ApiResponse<ErrorData> handle(Exception exception, ErrorConstant errorConstant) {
+        RequestTimer.enter(RequestPhase.ERROR);
+        errorMetrics.increment(errorConstant);
+        long suppressed = errorLogPolicy.acquire(exception);
+        if (suppressed != ErrorLogPolicy.SUPPRESS) {
+            log.error("{} [{}] (suppressed {} in last window)",
+                    exception.getClass().getSimpleName(), errorConstant.getErrorCode(), suppressed, exception);
+        }
+        return ApiResponse.fail(errorConstant);
     }
 
 }
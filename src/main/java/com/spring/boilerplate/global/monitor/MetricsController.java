@@ -0,0 +1,33 @@
+package com.spring.boilerplate.global.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * [Monitor]
+ * 내부 지표 Scrape Endpoint (Prometheus text format)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final List<MetricsExporter> exporters;
+
+    @GetMapping(produces = PROMETHEUS_CONTENT_TYPE)
+    public String metrics() {
+        StringBuilder out = new StringBuilder(4096);
+        for (MetricsExporter exporter : exporters) {
+            exporter.export(out);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.spring.boilerplate.global.monitor;
+
+/**
+ * [Monitor]
+ * Prometheus text format (0.0.4) 으로 지표를 출력하는 컴포넌트
+ * Bean 으로 등록하면 /internal/metrics 에 자동으로 포함 된다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public interface MetricsExporter {
+
+    /**
+     * 지표 출력
+     * @param out 출력 버퍼
+     */
+    void export(StringBuilder out);
+}
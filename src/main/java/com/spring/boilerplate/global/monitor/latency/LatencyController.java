@@ -0,0 +1,35 @@
+package com.spring.boilerplate.global.monitor.latency;
+
+import com.spring.boilerplate.global.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * [Monitor]
+ * Route 별 Latency 백분위 조회
+ * view=cumulative : 기동 이후 누적, view=interval : 직전 interval 조회 이후 (조회 시 초기화)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/internal/metrics/latency")
+@RequiredArgsConstructor
+public class LatencyController {
+
+    private final RouteLatencyHistograms routeLatencyHistograms;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LatencySnapshot>>> latency(@RequestParam(defaultValue = "cumulative") String view) {
+        List<LatencySnapshot> snapshots = "interval".equalsIgnoreCase(view)
+                ? routeLatencyHistograms.intervalAndReset()
+                : routeLatencyHistograms.cumulative();
+        return ResponseEntity.ok(ApiResponse.success(snapshots));
+    }
+}
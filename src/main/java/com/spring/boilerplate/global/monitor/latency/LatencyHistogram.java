@@ -0,0 +1,87 @@
+package com.spring.boilerplate.global.monitor.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [Monitor]
+ * Striped HdrHistogram Recorder 기반 Latency Histogram
+ * 기록(record) 은 스레드 별 stripe 의 Recorder 에 wait-free / allocation-free 로 수행하고,
+ * 조회 시에만 stripe 들을 합산하여 누적(cumulative) / 구간(interval) Histogram 을 만든다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    private final Recorder[] recorders;
+    private final int mask;
+    private final long highestTrackableNanos;
+    private final Histogram cumulative;
+    private final Histogram interval;
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final Histogram[] recycled;
+
+    public LatencyHistogram(long highestTrackableNanos, int significantDigits, int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.recorders = new Recorder[size];
+        for (int i = 0; i < size; i++) {
+            recorders[i] = new Recorder(1, highestTrackableNanos, significantDigits);
+        }
+        this.recycled = new Histogram[size];
+        this.mask = size - 1;
+        this.highestTrackableNanos = highestTrackableNanos;
+        this.cumulative = new Histogram(1, highestTrackableNanos, significantDigits);
+        this.interval = new Histogram(1, highestTrackableNanos, significantDigits);
+    }
+
+    /**
+     * 처리 시간 기록
+     * @param nanos 처리 시간 (ns)
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 1), highestTrackableNanos);
+        recorders[(int) Thread.currentThread().getId() & mask].recordValue(value);
+    }
+
+    /**
+     * 누적 Histogram 복사본
+     * @return Histogram
+     */
+    public Histogram cumulative() {
+        readLock.lock();
+        try {
+            drain();
+            return cumulative.copy();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 직전 interval 조회 이후의 Histogram 복사본 (조회 시 초기화)
+     * @return Histogram
+     */
+    public Histogram intervalAndReset() {
+        readLock.lock();
+        try {
+            drain();
+            Histogram snapshot = interval.copy();
+            interval.reset();
+            return snapshot;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void drain() {
+        // Recorder 별로 이전 interval Histogram 을 재사용
+        for (int i = 0; i < recorders.length; i++) {
+            recycled[i] = recorders[i].getIntervalHistogram(recycled[i]);
+            cumulative.add(recycled[i]);
+            interval.add(recycled[i]);
+        }
+    }
+}
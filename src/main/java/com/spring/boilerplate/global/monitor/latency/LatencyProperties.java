@@ -0,0 +1,22 @@
+package com.spring.boilerplate.global.monitor.latency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Monitor]
+ * Route 별 Latency Histogram 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.latency")
+public class LatencyProperties {
+    private boolean enabled = true;                 // 측정 여부
+    private long highestTrackableMillis = 60_000;   // 기록 가능한 최대 값 (초과 시 최대 값으로 기록)
+    private int significantDigits = 2;              // 정밀도 (유효 자릿수)
+    private int stripes = 8;                        // 스레드 경합 분산을 위한 Recorder 수 (2의 제곱수로 올림)
+}
@@ -0,0 +1,48 @@
+package com.spring.boilerplate.global.monitor.latency;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * [Monitor]
+ * Route 별 Latency 조회 결과 (단위 : ms)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class LatencySnapshot {
+    private String method;
+    private String path;
+    private String handler;
+    private long count;
+    private double min;
+    private double mean;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+
+    static LatencySnapshot of(String method, String path, String handler, Histogram histogram) {
+        return LatencySnapshot.builder()
+                .method(method)
+                .path(path)
+                .handler(handler)
+                .count(histogram.getTotalCount())
+                .min(toMillis(histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue()))
+                .mean(histogram.getMean() / 1_000_000d)
+                .p50(toMillis(histogram.getValueAtPercentile(50)))
+                .p90(toMillis(histogram.getValueAtPercentile(90)))
+                .p99(toMillis(histogram.getValueAtPercentile(99)))
+                .p999(toMillis(histogram.getValueAtPercentile(99.9)))
+                .max(toMillis(histogram.getMaxValue()))
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
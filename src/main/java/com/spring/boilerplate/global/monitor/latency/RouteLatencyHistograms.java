@@ -0,0 +1,104 @@
+package com.spring.boilerplate.global.monitor.latency;
+
+import com.spring.boilerplate.global.common.route.RouteInfo;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Monitor]
+ * Route 별 Latency Histogram 저장소
+ * LoggingAspect 가 이미 조회한 RouteInfo 를 key 로 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteLatencyHistograms implements MetricsExporter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final LatencyProperties properties;
+    private final Map<RouteInfo, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 처리 시간 기록
+     * @param route 라우트 정보
+     * @param nanos 처리 시간 (ns)
+     */
+    public void record(RouteInfo route, long nanos) {
+        LatencyHistogram histogram = histograms.get(route);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(route, key -> new LatencyHistogram(
+                    TimeUnit.MILLISECONDS.toNanos(properties.getHighestTrackableMillis()),
+                    properties.getSignificantDigits(),
+                    properties.getStripes()));
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Route 별 누적 Latency
+     * @return List<LatencySnapshot>
+     */
+    public List<LatencySnapshot> cumulative() {
+        List<LatencySnapshot> snapshots = new ArrayList<>(histograms.size());
+        histograms.forEach((route, histogram) -> snapshots.add(toSnapshot(route, histogram.cumulative())));
+        return snapshots;
+    }
+
+    /**
+     * Route 별 직전 조회 이후 구간 Latency (조회 시 초기화)
+     * @return List<LatencySnapshot>
+     */
+    public List<LatencySnapshot> intervalAndReset() {
+        List<LatencySnapshot> snapshots = new ArrayList<>(histograms.size());
+        histograms.forEach((route, histogram) -> snapshots.add(toSnapshot(route, histogram.intervalAndReset())));
+        return snapshots;
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_route_latency_seconds Controller latency by route (cumulative)\n");
+        out.append("# TYPE boilerplate_route_latency_seconds summary\n");
+        histograms.forEach((route, latencyHistogram) -> {
+            Histogram histogram = latencyHistogram.cumulative();
+            for (double quantile : QUANTILES) {
+                appendSeries(out, "boilerplate_route_latency_seconds", route, quantile)
+                        .append(histogram.getValueAtPercentile(quantile * 100) / 1e9).append('\n');
+            }
+            appendSeries(out, "boilerplate_route_latency_seconds_count", route, -1)
+                    .append(histogram.getTotalCount()).append('\n');
+            appendSeries(out, "boilerplate_route_latency_seconds_sum", route, -1)
+                    .append(histogram.getMean() * histogram.getTotalCount() / 1e9).append('\n');
+        });
+    }
+
+    private static StringBuilder appendSeries(StringBuilder out, String name, RouteInfo route, double quantile) {
+        out.append(name).append("{method=\"").append(route.getHttpMethod())
+                .append("\",path=\"").append(escape(route.getPrimaryPath())).append('"');
+        if (quantile >= 0) {
+            out.append(",quantile=\"").append(quantile).append('"');
+        }
+        return out.append("} ");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static LatencySnapshot toSnapshot(RouteInfo route, Histogram histogram) {
+        return LatencySnapshot.of(route.getHttpMethod(), route.getPrimaryPath(), route.getHandlerId(), histogram);
+    }
+}
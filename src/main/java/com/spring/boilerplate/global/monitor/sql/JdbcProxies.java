@@ -0,0 +1,250 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * [Monitor]
+ * SQL 실행 통계 수집용 JDBC Proxy (DataSource -> Connection -> Statement -> ResultSet)
+ * execute* 호출 시간만 측정하여 SqlStatsRegistry 에 기록하고, 나머지 호출은 그대로 위임한다.
+ * PreparedStatement / CallableStatement 는 prepare 시점에 통계 대상을 한 번만 결정한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class JdbcProxies {
+    static final Class<?>[] DATA_SOURCE = {DataSource.class};
+    static final Class<?>[] CLOSEABLE_DATA_SOURCE = {DataSource.class, AutoCloseable.class};
+
+    private JdbcProxies() {
+    }
+
+    /**
+     * DataSource Proxy 생성
+     * @param target 원본 DataSource
+     * @param registry 통계 저장소
+     * @return DataSource
+     */
+    static DataSource dataSource(DataSource target, SqlStatsRegistry registry) {
+        Class<?>[] interfaces = target instanceof AutoCloseable ? CLOSEABLE_DATA_SOURCE : DATA_SOURCE;
+        return (DataSource) Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), interfaces,
+                new DataSourceHandler(target, registry));
+    }
+
+    /**
+     * 이미 통계 Proxy 로 감싼 객체인지 여부
+     */
+    static boolean isProxy(Object candidate) {
+        return Proxy.isProxyClass(candidate.getClass())
+                && Proxy.getInvocationHandler(candidate) instanceof Delegate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Delegate handler) {
+        return (T) Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * 공통 위임 처리 (Object / Wrapper 메소드, InvocationTargetException 해제)
+     */
+    private abstract static class Delegate implements InvocationHandler {
+        final Object target;
+
+        Delegate(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+            }
+            return handle(proxy, method, args);
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        final Object forward(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class DataSourceHandler extends Delegate {
+        private final SqlStatsRegistry registry;
+
+        DataSourceHandler(DataSource target, SqlStatsRegistry registry) {
+            super(target);
+            this.registry = registry;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(method, args);
+            if ("getConnection".equals(method.getName())) {
+                return proxy(Connection.class, new ConnectionHandler(result, registry));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler extends Delegate {
+        private final SqlStatsRegistry registry;
+
+        ConnectionHandler(Object target, SqlStatsRegistry registry) {
+            super(target);
+            this.registry = registry;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, registry, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler(result, registry, registry.statistic((String) args[0])));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler(result, registry, registry.statistic((String) args[0])));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler extends Delegate {
+        private final SqlStatsRegistry registry;
+        private final SqlStatistic prepared;    // PreparedStatement / CallableStatement 의 통계 (Statement 는 null)
+        private SqlStatistic batch;             // Statement.addBatch(sql) 로 추가 된 첫 번째 SQL
+        private SqlStatistic current;           // 마지막 실행 SQL (getResultSet 연결)
+
+        StatementHandler(Object target, SqlStatsRegistry registry, SqlStatistic prepared) {
+            super(target);
+            this.registry = registry;
+            this.prepared = prepared;
+            this.current = prepared;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args, resolve(name, args));
+            }
+            switch (name) {
+                case "addBatch":
+                    if (prepared == null && batch == null && args != null && args.length == 1) {
+                        batch = registry.statistic((String) args[0]);
+                    }
+                    break;
+                case "clearBatch":
+                    batch = null;
+                    break;
+                case "getResultSet":
+                    return wrap(forward(method, args), current);
+                default:
+            }
+            return forward(method, args);
+        }
+
+        private SqlStatistic resolve(String name, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                return registry.statistic(sql);
+            }
+            if (prepared != null) {
+                return prepared;
+            }
+            return "executeBatch".equals(name) || "executeLargeBatch".equals(name) ? batch : null;
+        }
+
+        private Object execute(Method method, Object[] args, SqlStatistic statistic) throws Throwable {
+            if (statistic == null) {
+                return forward(method, args);
+            }
+            current = statistic;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = forward(method, args);
+            } catch (Throwable e) {
+                registry.record(statistic, System.nanoTime() - start, true);
+                throw e;
+            }
+            registry.record(statistic, System.nanoTime() - start, false);
+            if (method.getName().endsWith("Batch") && prepared == null) {
+                batch = null;
+            }
+            return count(result, statistic);
+        }
+
+        private static Object count(Object result, SqlStatistic statistic) {
+            if (result instanceof Integer rows && rows > 0) {
+                statistic.addRows(rows);
+            } else if (result instanceof Long rows && rows > 0) {
+                statistic.addRows(rows);
+            } else if (result instanceof int[] batchRows) {
+                for (int rows : batchRows) {
+                    if (rows > 0) {
+                        statistic.addRows(rows);
+                    }
+                }
+            } else if (result instanceof long[] batchRows) {
+                for (long rows : batchRows) {
+                    if (rows > 0) {
+                        statistic.addRows(rows);
+                    }
+                }
+            } else if (result instanceof ResultSet) {
+                return wrap(result, statistic);
+            }
+            return result;
+        }
+
+        private static Object wrap(Object resultSet, SqlStatistic statistic) {
+            return resultSet == null || statistic == null
+                    ? resultSet
+                    : proxy(ResultSet.class, new ResultSetHandler(resultSet, statistic));
+        }
+    }
+
+    private static final class ResultSetHandler extends Delegate {
+        private final SqlStatistic statistic;
+
+        ResultSetHandler(Object target, SqlStatistic statistic) {
+            super(target);
+            this.statistic = statistic;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                statistic.addRows(1);
+            }
+            return result;
+        }
+    }
+}
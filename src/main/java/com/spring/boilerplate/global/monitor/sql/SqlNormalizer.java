@@ -0,0 +1,117 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * [Monitor]
+ * SQL 정규화
+ * 문자열 / 숫자 리터럴을 ? 로 치환하고 주석 제거, 공백 축약, IN 목록 / 다중 VALUES 를 하나로 합쳐
+ * 파라미터 값만 다른 SQL 이 같은 통계로 집계되도록 한다. (리터럴 값이 통계 / 로그에 남지 않음)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class SqlNormalizer {
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern PARAMETER_ROWS = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+
+    private SqlNormalizer() {
+    }
+
+    /**
+     * SQL 정규화
+     * @param sql 원본 SQL
+     * @param maxLength 최대 길이 (초과 시 "..." 로 생략)
+     * @return String
+     */
+    static String normalize(String sql, int maxLength) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, maxLength + 16));
+        boolean space = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                i = skipLineComment(sql, i);
+                space = out.length() > 0;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                i = skipBlockComment(sql, i);
+                space = out.length() > 0;
+                continue;
+            }
+            if (space) {
+                out.append(' ');
+                space = false;
+            }
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                out.append('?');
+            } else if (c == '"' || c == '`') {
+                int end = skipQuoted(sql, i, c);
+                out.append(sql, i, end);
+                i = end;
+            } else if (isDigit(c) && !isIdentifierTail(out)) {
+                i = skipNumber(sql, i);
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        String normalized = PARAMETER_ROWS.matcher(PARAMETER_LIST.matcher(out).replaceAll("(?)")).replaceAll("(?)");
+        return normalized.length() > maxLength ? normalized.substring(0, maxLength) + "..." : normalized;
+    }
+
+    private static int skipLineComment(String sql, int i) {
+        int end = sql.indexOf('\n', i);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    private static int skipBlockComment(String sql, int i) {
+        int end = sql.indexOf("*/", i + 2);
+        return end < 0 ? sql.length() : end + 2;
+    }
+
+    private static int skipQuoted(String sql, int i, char quote) {
+        int j = i + 1;
+        while (j < sql.length()) {
+            if (sql.charAt(j) == quote) {
+                // '' (escape) 는 리터럴 내부로 처리
+                if (j + 1 < sql.length() && sql.charAt(j + 1) == quote) {
+                    j += 2;
+                    continue;
+                }
+                return j + 1;
+            }
+            j++;
+        }
+        return j;
+    }
+
+    private static int skipNumber(String sql, int i) {
+        int j = i;
+        while (j < sql.length() && (isDigit(sql.charAt(j)) || sql.charAt(j) == '.')) {
+            j++;
+        }
+        return j;
+    }
+
+    private static boolean isIdentifierTail(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
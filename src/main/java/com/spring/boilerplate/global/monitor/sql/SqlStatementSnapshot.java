@@ -0,0 +1,46 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * [Monitor]
+ * 정규화 SQL 별 실행 통계 조회 결과 (단위 : ms)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class SqlStatementSnapshot {
+    private String sql;
+    private long count;
+    private long errors;
+    private long rows;
+    private double totalMillis;
+    private double mean;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double max;
+
+    static SqlStatementSnapshot of(String sql, long errors, long rows, long totalNanos, Histogram histogram) {
+        return SqlStatementSnapshot.builder()
+                .sql(sql)
+                .count(histogram.getTotalCount())
+                .errors(errors)
+                .rows(rows)
+                .totalMillis(totalNanos / 1_000_000d)
+                .mean(histogram.getMean() / 1_000d)
+                .p50(toMillis(histogram.getValueAtPercentile(50)))
+                .p90(toMillis(histogram.getValueAtPercentile(90)))
+                .p99(toMillis(histogram.getValueAtPercentile(99)))
+                .max(toMillis(histogram.getMaxValue()))
+                .build();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000d;
+    }
+}
@@ -0,0 +1,79 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedConcurrentHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Monitor]
+ * 정규화 SQL 1건의 실행 통계
+ * 정규화 SQL 수가 많을 수 있으므로 사용 된 구간만 메모리를 차지하는 Packed Histogram (µs 단위) 을 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class SqlStatistic {
+    private final String sql;
+    private final long highestTrackableMicros;
+    private final Histogram histogram;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong lastSlowLogNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    SqlStatistic(String sql, long highestTrackableMicros, int significantDigits) {
+        this.sql = sql;
+        this.highestTrackableMicros = highestTrackableMicros;
+        this.histogram = new PackedConcurrentHistogram(highestTrackableMicros, significantDigits);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 실행 1건 기록
+     * @param nanos 실행 시간 (ns)
+     * @param error 예외 발생 여부
+     */
+    void record(long nanos, boolean error) {
+        histogram.recordValue(Math.min(Math.max(nanos / 1_000, 1), highestTrackableMicros));
+        totalNanos.add(nanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 조회 / 변경 된 Row 수 누적
+     * @param count Row 수
+     */
+    void addRows(long count) {
+        rows.add(count);
+    }
+
+    /**
+     * Slow query 로그 출력 여부 (같은 SQL 은 interval 당 1번)
+     * @param now System.nanoTime()
+     * @param intervalNanos 최소 간격
+     * @return 출력 해야 하는 경우 true
+     */
+    boolean tryAcquireSlowLog(long now, long intervalNanos) {
+        long last = lastSlowLogNanos.get();
+        return now - last >= intervalNanos && lastSlowLogNanos.compareAndSet(last, now);
+    }
+
+    long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    SqlStatementSnapshot snapshot() {
+        return SqlStatementSnapshot.of(sql, errors.sum(), rows.sum(), totalNanos.sum(), histogram.copy());
+    }
+}
@@ -0,0 +1,33 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import com.spring.boilerplate.global.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * [Monitor]
+ * 정규화 SQL 별 실행 통계 상위 N 개 조회
+ * sort=total (누적 실행 시간) | count | mean | p99 | max | errors | rows
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/internal/metrics/sql")
+@RequiredArgsConstructor
+public class SqlStatsController {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SqlStatementSnapshot>>> top(@RequestParam(defaultValue = "20") int top,
+                                                                       @RequestParam(defaultValue = "total") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(sqlStatsRegistry.top(top, sort)));
+    }
+}
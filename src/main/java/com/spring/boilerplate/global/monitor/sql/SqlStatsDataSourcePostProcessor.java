@@ -0,0 +1,41 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * [Monitor]
+ * DataSource Bean 을 SQL 실행 통계 Proxy 로 감싸는 BeanPostProcessor
+ * boilerplate.sql.enabled=false 인 경우 원본 DataSource 를 그대로 사용한다.
+ * SqlStatsRegistry 는 DataSource 생성 시점에 조회하여 BeanPostProcessor 등록 단계에서 조기 생성되지 않도록 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatsRegistry> registryProvider;
+
+    public SqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatsRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || JdbcProxies.isProxy(bean)) {
+            return bean;
+        }
+        SqlStatsRegistry registry = registryProvider.getIfAvailable();
+        if (registry == null || !registry.isEnabled()) {
+            return bean;
+        }
+        log.info("SQL statistics enabled : {}", beanName);
+        return JdbcProxies.dataSource(dataSource, registry);
+    }
+}
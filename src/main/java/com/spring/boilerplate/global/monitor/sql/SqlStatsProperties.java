@@ -0,0 +1,25 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Monitor]
+ * SQL 실행 통계 (DataSource Proxy) 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.sql")
+public class SqlStatsProperties {
+    private boolean enabled = true;                 // false 인 경우 DataSource 를 감싸지 않음 (오버헤드 없음)
+    private long slowQueryMillis = 500;             // 초과 시 WARN 로그 (0 이하 : 비활성화)
+    private long slowLogIntervalMillis = 1000;      // 같은 SQL 의 Slow query 로그 최소 간격
+    private int maxStatements = 1000;               // 통계를 보관 할 정규화 SQL 최대 수 (초과 시 <other> 로 합산)
+    private int maxSqlLength = 1024;                // 정규화 SQL 최대 길이
+    private long highestTrackableMillis = 60_000;   // Histogram 기록 가능한 최대 값
+    private int significantDigits = 2;              // Histogram 정밀도 (유효 자릿수)
+}
@@ -0,0 +1,143 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Monitor]
+ * 정규화 SQL 별 실행 통계 저장소 (실행 수, Latency Histogram, Row 수, 오류 수)
+ * 실행 단위 로그 대신 통계만 누적하고, 임계 값을 넘는 Slow query 만 로그로 남긴다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SqlStatsRegistry implements MetricsExporter {
+    static final String OVERFLOW_SQL = "<other>";
+
+    private final SqlStatsProperties properties;
+    private final long slowQueryNanos;
+    private final long slowLogIntervalNanos;
+    private final Map<String, SqlStatistic> statistics = new ConcurrentHashMap<>();
+    private final Cache<String, SqlStatistic> resolved;   // 원본 SQL -> 통계 (정규화 결과 캐싱)
+    private final LongAdder slowQueries = new LongAdder();
+
+    public SqlStatsRegistry(SqlStatsProperties properties) {
+        this.properties = properties;
+        this.slowQueryNanos = properties.getSlowQueryMillis() > 0
+                ? TimeUnit.MILLISECONDS.toNanos(properties.getSlowQueryMillis())
+                : Long.MAX_VALUE;
+        this.slowLogIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowLogIntervalMillis());
+        this.resolved = Caffeine.newBuilder()
+                .maximumSize(Math.max(properties.getMaxStatements(), 1) * 4L)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 원본 SQL 에 해당하는 통계 조회 (없으면 생성)
+     * PreparedStatement 는 prepare 시점에 한 번만 호출 된다.
+     * @param sql 원본 SQL
+     * @return SqlStatistic
+     */
+    public SqlStatistic statistic(String sql) {
+        if (sql == null) {
+            return statisticOf(OVERFLOW_SQL);
+        }
+        SqlStatistic statistic = resolved.getIfPresent(sql);
+        if (statistic == null) {
+            statistic = statisticOf(SqlNormalizer.normalize(sql, properties.getMaxSqlLength()));
+            resolved.put(sql, statistic);
+        }
+        return statistic;
+    }
+
+    /**
+     * 실행 1건 기록
+     * @param statistic 대상 통계
+     * @param nanos 실행 시간 (ns)
+     * @param error 예외 발생 여부
+     */
+    public void record(SqlStatistic statistic, long nanos, boolean error) {
+        statistic.record(nanos, error);
+        if (nanos >= slowQueryNanos) {
+            slowQueries.increment();
+            if (log.isWarnEnabled() && statistic.tryAcquireSlowLog(System.nanoTime(), slowLogIntervalNanos)) {
+                log.warn("Slow query {} ms{} : {}", TimeUnit.NANOSECONDS.toMillis(nanos), error ? " (error)" : "", statistic.getSql());
+            }
+        }
+    }
+
+    /**
+     * 정렬 기준 상위 N 개 SQL 통계
+     * @param limit 최대 건수
+     * @param sort total | count | mean | p99 | max | errors | rows
+     * @return List<SqlStatementSnapshot>
+     */
+    public List<SqlStatementSnapshot> top(int limit, String sort) {
+        List<SqlStatementSnapshot> snapshots = new ArrayList<>(statistics.size());
+        statistics.values().forEach(statistic -> snapshots.add(statistic.snapshot()));
+        snapshots.sort(comparator(sort).reversed());
+        return snapshots.size() > limit ? new ArrayList<>(snapshots.subList(0, Math.max(limit, 0))) : snapshots;
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        long executions = 0;
+        long errors = 0;
+        for (SqlStatistic statistic : statistics.values()) {
+            executions += statistic.getCount();
+            errors += statistic.getErrors();
+        }
+        out.append("# HELP boilerplate_sql_executions_total JDBC statement executions\n");
+        out.append("# TYPE boilerplate_sql_executions_total counter\n");
+        out.append("boilerplate_sql_executions_total ").append(executions).append('\n');
+        out.append("# HELP boilerplate_sql_errors_total JDBC statement executions that threw\n");
+        out.append("# TYPE boilerplate_sql_errors_total counter\n");
+        out.append("boilerplate_sql_errors_total ").append(errors).append('\n');
+        out.append("# HELP boilerplate_sql_slow_queries_total JDBC statement executions over the slow query threshold\n");
+        out.append("# TYPE boilerplate_sql_slow_queries_total counter\n");
+        out.append("boilerplate_sql_slow_queries_total ").append(slowQueries.sum()).append('\n');
+        out.append("# HELP boilerplate_sql_statements Distinct normalized statements tracked\n");
+        out.append("# TYPE boilerplate_sql_statements gauge\n");
+        out.append("boilerplate_sql_statements ").append(statistics.size()).append('\n');
+    }
+
+    private SqlStatistic statisticOf(String normalized) {
+        SqlStatistic statistic = statistics.get(normalized);
+        if (statistic != null) {
+            return statistic;
+        }
+        // 정규화 SQL 수 상한 초과 시 <other> 로 합산 (메모리 상한)
+        String key = statistics.size() < properties.getMaxStatements() ? normalized : OVERFLOW_SQL;
+        return statistics.computeIfAbsent(key, sql -> new SqlStatistic(sql,
+                TimeUnit.MILLISECONDS.toMicros(properties.getHighestTrackableMillis()), properties.getSignificantDigits()));
+    }
+
+    private static Comparator<SqlStatementSnapshot> comparator(String sort) {
+        return switch (sort == null ? "total" : sort.toLowerCase()) {
+            case "count" -> Comparator.comparingLong(SqlStatementSnapshot::getCount);
+            case "mean" -> Comparator.comparingDouble(SqlStatementSnapshot::getMean);
+            case "p99" -> Comparator.comparingDouble(SqlStatementSnapshot::getP99);
+            case "max" -> Comparator.comparingDouble(SqlStatementSnapshot::getMax);
+            case "errors" -> Comparator.comparingLong(SqlStatementSnapshot::getErrors);
+            case "rows" -> Comparator.comparingLong(SqlStatementSnapshot::getRows);
+            default -> Comparator.comparingDouble(SqlStatementSnapshot::getTotalMillis);
+        };
+    }
+}
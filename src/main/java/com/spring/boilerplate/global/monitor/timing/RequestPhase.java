@@ -0,0 +1,28 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import lombok.Getter;
+
+/**
+ * [Monitor]
+ * 요청 처리 구간 (Server-Timing metric 이름)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public enum RequestPhase {
+    FILTER("filter"),           // Servlet Filter / Security / Handler Mapping (응답 출력 이후 Filter 복귀 포함)
+    BIND("bind"),               // HandlerInterceptor 이후 ~ Controller 호출 전 (Argument Resolver, Validation)
+    HANDLER("handler"),         // Controller 메소드 (LoggingAspect 등 Aspect 포함)
+    DISPATCH("dispatch"),       // Controller 반환 이후 ~ 응답 출력 전 (반환 값 처리, Content Negotiation)
+    ERROR("error"),             // GlobalApiExceptionHandler
+    SERIALIZE("serialize"),     // ApiResponse JSON 직렬화
+    WRITE("write"),             // 압축 / ETag / Socket 출력
+    ;
+
+    private final String metricName;
+
+    RequestPhase(String metricName) {
+        this.metricName = metricName;
+    }
+}
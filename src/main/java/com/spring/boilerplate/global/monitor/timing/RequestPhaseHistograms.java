@@ -0,0 +1,76 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import com.spring.boilerplate.global.monitor.latency.LatencyHistogram;
+import com.spring.boilerplate.global.monitor.latency.LatencyProperties;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Monitor]
+ * 요청 구간 별 Latency Histogram (전체 요청 합산)
+ * Route 별 분포는 RouteLatencyHistograms 가 담당하고, 여기서는 어느 구간이 꼬리 지연을 만드는지 확인하는 용도로 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+public class RequestPhaseHistograms implements MetricsExporter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String TOTAL = "total";
+
+    private final Map<RequestPhase, LatencyHistogram> phases = new EnumMap<>(RequestPhase.class);
+    private final LatencyHistogram total;
+
+    public RequestPhaseHistograms(LatencyProperties properties) {
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases.put(phase, create(properties));
+        }
+        this.total = create(properties);
+    }
+
+    /**
+     * 요청 1건의 구간 별 시간 기록 (해당 요청에서 거치지 않은 구간은 제외)
+     * @param timer 측정이 끝난 RequestTimer
+     */
+    void record(RequestTimer timer) {
+        phases.forEach((phase, histogram) -> {
+            long nanos = timer.getPhaseNanos(phase);
+            if (nanos > 0) {
+                histogram.record(nanos);
+            }
+        });
+        total.record(timer.getTotalNanos());
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_request_phase_seconds Request processing time by phase (cumulative)\n");
+        out.append("# TYPE boilerplate_request_phase_seconds summary\n");
+        phases.forEach((phase, histogram) -> appendSummary(out, phase.getMetricName(), histogram.cumulative()));
+        appendSummary(out, TOTAL, total.cumulative());
+    }
+
+    private static void appendSummary(StringBuilder out, String phase, Histogram histogram) {
+        for (double quantile : QUANTILES) {
+            out.append("boilerplate_request_phase_seconds{phase=\"").append(phase)
+                    .append("\",quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.getValueAtPercentile(quantile * 100) / 1e9).append('\n');
+        }
+        out.append("boilerplate_request_phase_seconds_count{phase=\"").append(phase).append("\"} ")
+                .append(histogram.getTotalCount()).append('\n');
+        out.append("boilerplate_request_phase_seconds_sum{phase=\"").append(phase).append("\"} ")
+                .append(histogram.getMean() * histogram.getTotalCount() / 1e9).append('\n');
+    }
+
+    private static LatencyHistogram create(LatencyProperties properties) {
+        return new LatencyHistogram(
+                TimeUnit.MILLISECONDS.toNanos(properties.getHighestTrackableMillis()),
+                properties.getSignificantDigits(),
+                properties.getStripes());
+    }
+}
@@ -0,0 +1,179 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.server.ServletServerHttpResponse;
+
+import java.util.Arrays;
+
+/**
+ * [Monitor]
+ * 요청 1건의 구간 별 처리 시간
+ * 구간 전환 시점 (Filter, Interceptor, Aspect, Exception Advice, MessageConverter) 에서 직전 구간의 시간을 누적한다.
+ * RequestTimingFilter 가 Pool 에서 꺼내 요청 스레드의 CURRENT 에 설정하므로 (thread-confined) 동기화가 필요 없고,
+ * 측정 중에는 객체를 생성하지 않는다. (Server-Timing 문자열 1개 제외)
+ * 요청 스레드가 아닌 곳 (비동기 처리, /batch 병렬 하위 요청) 에서는 CURRENT 가 없어 측정하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public final class RequestTimer {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    static final String MDC_CORRELATION_ID = "correlationId";
+    static final String MDC_TIMING = "timing";
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+    private static final ThreadLocal<RequestTimer> CURRENT = new ThreadLocal<>();
+
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final StringBuilder text = new StringBuilder(160);
+    private HttpServletResponse response;
+    private boolean serverTimingHeader;
+    private boolean headerWritten;
+    private RequestPhase phase;
+    private long phaseStart;
+    private long start;
+    private long end;
+
+    /**
+     * 현재 스레드의 요청 구간 전환 (측정 중이 아니면 무시)
+     * @param phase 시작 할 구간
+     */
+    public static void enter(RequestPhase phase) {
+        RequestTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.switchTo(phase, System.nanoTime());
+        }
+    }
+
+    /**
+     * 응답 본문 출력 직전 호출 : 직렬화까지의 구간으로 Server-Timing Header 를 추가하고 출력 구간으로 전환
+     * Header 는 본문 출력 전에만 추가할 수 있으므로 출력 시간 자체는 Header 에 포함되지 않는다. (Histogram 에는 포함)
+     * @param outputMessage 출력 대상
+     */
+    public static void beforeWrite(HttpOutputMessage outputMessage) {
+        RequestTimer timer = CURRENT.get();
+        if (timer == null) {
+            return;
+        }
+        // /batch 하위 요청 등 다른 Response 로의 출력은 제외
+        if (!(outputMessage instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse() != timer.response) {
+            return;
+        }
+        long now = System.nanoTime();
+        timer.switchTo(RequestPhase.WRITE, now);
+        if (!timer.headerWritten) {
+            String value = timer.format(now);
+            if (timer.serverTimingHeader) {
+                outputMessage.getHeaders().add(SERVER_TIMING_HEADER, value);
+            }
+            MDC.put(MDC_TIMING, value);
+            timer.headerWritten = true;
+        }
+    }
+
+    /**
+     * 현재 스레드의 측정을 잠시 중단 (같은 스레드에서 실행되는 중첩 요청이 구간을 덮어쓰지 않도록)
+     * @return 중단 된 RequestTimer (없으면 null)
+     */
+    public static RequestTimer suspend() {
+        RequestTimer timer = CURRENT.get();
+        if (timer != null) {
+            CURRENT.set(null);
+        }
+        return timer;
+    }
+
+    /**
+     * suspend 로 중단한 측정 재개
+     * @param timer suspend 반환 값
+     */
+    public static void resume(RequestTimer timer) {
+        if (timer != null) {
+            CURRENT.set(timer);
+        }
+    }
+
+    void start(HttpServletResponse response, boolean serverTimingHeader) {
+        this.response = response;
+        this.serverTimingHeader = serverTimingHeader;
+        this.headerWritten = false;
+        this.start = System.nanoTime();
+        this.phaseStart = start;
+        this.phase = RequestPhase.FILTER;
+        this.end = 0;
+        CURRENT.set(this);
+    }
+
+    /**
+     * 측정 종료 (마지막 구간은 Filter 복귀 시간으로 누적)
+     */
+    void stop() {
+        long now = System.nanoTime();
+        switchTo(RequestPhase.FILTER, now);
+        end = now;
+        // remove 대신 null 설정 : ThreadLocalMap Entry 를 재사용하여 요청 마다 Entry 를 만들지 않음
+        CURRENT.set(null);
+    }
+
+    void reset() {
+        Arrays.fill(phaseNanos, 0);
+        response = null;
+    }
+
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    long getPhaseNanos(RequestPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    long getTotalNanos() {
+        return end - start;
+    }
+
+    /**
+     * Server-Timing 형식 (ex. filter;dur=0.120, handler;dur=1.532, total;dur=1.801)
+     * @param now 기준 시각
+     * @return String
+     */
+    String format(long now) {
+        text.setLength(0);
+        for (RequestPhase candidate : PHASES) {
+            long nanos = phaseNanos[candidate.ordinal()];
+            if (nanos > 0) {
+                appendMetric(candidate.getMetricName(), nanos);
+            }
+        }
+        appendMetric("total", now - start);
+        return text.toString();
+    }
+
+    String format() {
+        return format(end);
+    }
+
+    private void switchTo(RequestPhase next, long now) {
+        phaseNanos[phase.ordinal()] += now - phaseStart;
+        phase = next;
+        phaseStart = now;
+    }
+
+    private void appendMetric(String name, long nanos) {
+        if (text.length() > 0) {
+            text.append(", ");
+        }
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        text.append(name).append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            text.append('0');
+        }
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+}
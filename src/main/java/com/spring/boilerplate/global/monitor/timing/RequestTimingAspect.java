@@ -0,0 +1,30 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * [Monitor]
+ * Controller 메소드 구간 측정 (다른 Aspect 보다 바깥에서 실행하여 LoggingAspect, SingleFlight 시간을 HANDLER 에 포함)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingAspect {
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) "
+            + "|| @within(org.springframework.stereotype.Controller)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimer.enter(RequestPhase.HANDLER);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimer.enter(RequestPhase.DISPATCH);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Monitor]
+ * 요청 구간 측정 및 Correlation ID 설정 Filter (가장 먼저 실행)
+ * Correlation ID 는 MDC 에 설정하여 요청 처리 중의 모든 로그에 포함되고, 응답 Header 로 반환한다.
+ * 응답 본문이 없는 경우 (204, 리다이렉트, Filter 거부 응답 등) 에는 요청 종료 시점에 Server-Timing Header 를 추가한다.
+ * 비동기 요청 (Callable, DeferredResult) 은 비동기 처리 시작 시점까지만 측정한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+    private static final int MAX_CORRELATION_ID_LENGTH = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final RequestTimingProperties properties;
+    private final RequestPhaseHistograms histograms;
+    private final ArrayBlockingQueue<RequestTimer> pool;
+    private final long slowRequestNanos;
+
+    public RequestTimingFilter(RequestTimingProperties properties, RequestPhaseHistograms histograms) {
+        this.properties = properties;
+        this.histograms = histograms;
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, properties.getPoolSize()));
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowRequestMillis());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String correlationId = resolveCorrelationId(request.getHeader(properties.getCorrelationHeader()));
+        MDC.put(RequestTimer.MDC_CORRELATION_ID, correlationId);
+        response.setHeader(properties.getCorrelationHeader(), correlationId);
+
+        RequestTimer timer = acquire();
+        timer.start(response, properties.isServerTimingHeader());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timer.stop();
+            String timing = timer.isHeaderWritten() ? MDC.get(RequestTimer.MDC_TIMING) : timer.format();
+            if (properties.isServerTimingHeader() && !timer.isHeaderWritten() && !response.isCommitted()) {
+                response.addHeader(RequestTimer.SERVER_TIMING_HEADER, timing);
+            }
+            histograms.record(timer);
+            if (slowRequestNanos > 0 && timer.getTotalNanos() > slowRequestNanos) {
+                MDC.put(RequestTimer.MDC_TIMING, timing);
+                log.warn("Slow request : [{}] {} ({})", request.getMethod(), request.getRequestURI(), timing);
+            }
+            MDC.remove(RequestTimer.MDC_TIMING);
+            MDC.remove(RequestTimer.MDC_CORRELATION_ID);
+            release(timer);
+        }
+    }
+
+    private RequestTimer acquire() {
+        RequestTimer timer = pool.poll();
+        return timer != null ? timer : new RequestTimer();
+    }
+
+    private void release(RequestTimer timer) {
+        timer.reset();
+        pool.offer(timer);
+    }
+
+    /**
+     * 요청 Header 의 Correlation ID 는 로그 위조 방지를 위해 길이 / 문자 검사 후 사용하고, 없거나 잘못된 경우 새로 생성
+     * @param candidate 요청 Header 값
+     * @return String
+     */
+    private static String resolveCorrelationId(String candidate) {
+        if (candidate != null && !candidate.isEmpty() && candidate.length() <= MAX_CORRELATION_ID_LENGTH && isSafe(candidate)) {
+            return candidate;
+        }
+        long random = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = HEX[(int) (random & 0xF)];
+            random >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    private static boolean isSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * [Monitor]
+ * Handler Mapping 이후 ~ Controller 호출 전 구간 (Argument Resolver, Validation) 시작 지점
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimer.enter(RequestPhase.BIND);
+        return true;
+    }
+}
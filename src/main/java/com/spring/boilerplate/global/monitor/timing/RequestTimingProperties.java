@@ -0,0 +1,23 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [Monitor]
+ * 요청 구간 별 시간 측정 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.timing")
+public class RequestTimingProperties {
+    private boolean enabled = true;                         // 구간 측정 / Correlation ID 사용 여부
+    private boolean serverTimingHeader = false;             // Server-Timing 응답 Header 출력 (내부 구간 노출 방지를 위해 dev / test 프로필에서만 true)
+    private String correlationHeader = "X-Correlation-Id";  // 요청에 있으면 그대로 사용, 없으면 생성하여 응답 Header 로 반환
+    private long slowRequestMillis = 1_000;                 // 초과 시 구간 정보와 함께 WARN 로그 (0 : 사용 안 함)
+    private int poolSize = 256;                             // RequestTimer Pool 크기
+}
@@ -0,0 +1,148 @@
+package com.spring.boilerplate.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.spring.boilerplate.global.exception.AuthException;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Security]
+ * Access Token 검증 + 검증 결과 Cache
+ * 검증에 성공한 토큰은 SHA-256 Hash 를 Key 로 토큰 만료 시각까지 보관하여,
+ * 같은 토큰의 이후 요청은 서명 검증 / Claim 해석 없이 Hash 계산 1회로 처리한다.
+ * 실패한 토큰은 캐싱하지 않는다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class AccessTokenVerifier implements MetricsExporter {
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<TokenKey, VerifiedToken> cache;     // 비활성화 시 null
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public AccessTokenVerifier(JwtTokenProvider tokenProvider, AuthProperties.VerifiedCache properties) {
+        this.tokenProvider = tokenProvider;
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
+    }
+
+    /**
+     * Access Token 검증
+     * @param token Access Token
+     * @return VerifiedToken
+     * @throws AuthException 검증 실패
+     */
+    public VerifiedToken verify(String token) {
+        if (cache == null) {
+            misses.increment();
+            return parse(token);
+        }
+        TokenKey key = TokenKey.of(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified != null && !verified.isExpired(System.currentTimeMillis())) {
+            hits.increment();
+            return verified;
+        }
+        misses.increment();
+        verified = parse(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# HELP boilerplate_auth_token_verifications_total Access token verifications by result\n");
+        out.append("# TYPE boilerplate_auth_token_verifications_total counter\n");
+        out.append("boilerplate_auth_token_verifications_total{result=\"cache_hit\"} ").append(hits.sum()).append('\n');
+        out.append("boilerplate_auth_token_verifications_total{result=\"verified\"} ").append(misses.sum() - failures.sum()).append('\n');
+        out.append("boilerplate_auth_token_verifications_total{result=\"rejected\"} ").append(failures.sum()).append('\n');
+        if (cache != null) {
+            out.append("# HELP boilerplate_auth_verified_tokens Verified access tokens cached\n");
+            out.append("# TYPE boilerplate_auth_verified_tokens gauge\n");
+            out.append("boilerplate_auth_verified_tokens ").append(cache.estimatedSize()).append('\n');
+        }
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims;
+        try {
+            claims = tokenProvider.parse(token, TokenType.ACCESS);
+        } catch (AuthException e) {
+            failures.increment();
+            throw e;
+        }
+        List<String> roles = roles(claims.get(JwtTokenProvider.ROLES_CLAIM));
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+        }
+        AuthenticatedUser user = new AuthenticatedUser(claims.getSubject(),
+                claims.get(JwtTokenProvider.SESSION_CLAIM, String.class), roles);
+        return new VerifiedToken(user, claims.getExpiration().getTime(),
+                UsernamePasswordAuthenticationToken.authenticated(user, null, authorities));
+    }
+
+    private static List<String> roles(Object claim) {
+        if (!(claim instanceof List<?> values)) {
+            return List.of();
+        }
+        List<String> roles = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                roles.add(value.toString());
+            }
+        }
+        return List.copyOf(roles);
+    }
+
+    /**
+     * SHA-256 Hash 를 4개의 long 으로 보관하는 Cache Key (원본 토큰 미보관)
+     */
+    private record TokenKey(long h0, long h1, long h2, long h3) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(TokenDigest.sha256(token));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+    /**
+     * 토큰 만료 시각에 Cache 에서 제거
+     */
+    private static final class UntilTokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
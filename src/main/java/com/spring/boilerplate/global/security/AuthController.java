@@ -0,0 +1,48 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.AuthException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * [Security]
+ * 토큰 재발급 / 로그아웃 API
+ * 1. /auth/refresh : Refresh Header ("Bearer {refreshToken}") 로 Access / Refresh Token 재발급 (permitPaths 에 포함)
+ * 2. /auth/logout  : 인증된 사용자의 현재 세션 종료
+ * 로그인은 계정 확인 방식이 애플리케이션마다 다르므로 TokenService.login 을 직접 호출한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class AuthController {
+    private final TokenService tokenService;
+    private final AuthProperties properties;
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenPair>> refresh(HttpServletRequest request) {
+        String header = request.getHeader(properties.getRefreshHeader());
+        if (header == null) {
+            throw new AuthException(ErrorConstant.TOKEN_NUll);
+        }
+        return ResponseEntity.ok(ApiResponse.success(tokenService.refresh(JwtAuthenticationFilter.token(header))));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<?>> logout(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            throw new AuthException(ErrorConstant.UNAUTHORIZED);
+        }
+        tokenService.logout(user);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+}
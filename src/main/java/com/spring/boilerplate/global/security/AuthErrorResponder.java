@@ -0,0 +1,71 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.exception.handler.ErrorMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.access.AccessDeniedHandler;
+
+import java.io.IOException;
+
+/**
+ * [Security]
+ * 인증 / 인가 실패 응답
+ * Filter 단계의 실패는 GlobalApiExceptionHandler 를 거치지 않으므로 같은 형식의 ApiResponse.fail 바이트를
+ * ApiResponseBodyCache 에서 가져와 직접 출력한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class AuthErrorResponder implements AuthenticationEntryPoint, AccessDeniedHandler {
+
+    private final ApiResponseBodyCache bodyCache;
+    private final ErrorMetrics errorMetrics;
+    private final String accessHeader;
+
+    public AuthErrorResponder(ApiResponseBodyCache bodyCache, ErrorMetrics errorMetrics, String accessHeader) {
+        this.bodyCache = bodyCache;
+        this.errorMetrics = errorMetrics;
+        this.accessHeader = accessHeader;
+    }
+
+    /**
+     * 인증이 필요한 경로에 인증 정보 없이 접근한 경우
+     */
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
+            throws IOException {
+        reject(response, request.getHeader(accessHeader) == null ? ErrorConstant.TOKEN_NUll : ErrorConstant.UNAUTHORIZED);
+    }
+
+    /**
+     * 권한이 부족한 경우
+     */
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException)
+            throws IOException {
+        reject(response, ErrorConstant.TOKEN_NOT_ALLOWED);
+    }
+
+    /**
+     * ErrorConstant 의 fail 응답 출력
+     * @param response HttpServletResponse
+     * @param errorConstant ErrorConstant
+     */
+    public void reject(HttpServletResponse response, ErrorConstant errorConstant) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        errorMetrics.increment(errorConstant);
+        byte[] body = bodyCache.getBody(errorConstant);
+        response.setStatus(errorConstant.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
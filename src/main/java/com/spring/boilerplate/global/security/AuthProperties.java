@@ -0,0 +1,54 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.security.session.DuplicateLoginPolicy;
+import com.spring.boilerplate.global.security.session.SessionStoreType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [Security]
+ * JWT 인증 / 세션 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.auth")
+public class AuthProperties {
+    private boolean enabled = true;                                 // false 인 경우 모든 요청 허용 (토큰은 있으면 해석)
+    private String secret;                                          // HS256 서명 키 (Base64, 256 bit 이상)
+    private String issuer = "boilerplate";
+    private Duration accessTokenTtl = Duration.ofMinutes(30);
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+    private String accessHeader = "Authorization";                  // SwaggerConfig AccessToken Header
+    private String refreshHeader = "Authorization-Refresh";         // SwaggerConfig RefreshToken Header
+    private List<String> permitPaths = new ArrayList<>(List.of(
+            "/error", "/response/**", "/ws/**", "/webjars/**", "/batch", "/auth/refresh",
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**"));  // 인증 없이 허용 할 경로
+    private List<String> internalPaths = new ArrayList<>(List.of("/internal/**"));  // 지표 / 관리 경로 (Loopback 또는 internalRole 만 허용)
+    private String internalRole = "ADMIN";                          // Loopback 외의 주소에서 internalPaths 접근에 필요한 Role
+    private VerifiedCache verifiedCache = new VerifiedCache();
+    private Session session = new Session();
+
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+        private boolean enabled = true;         // 검증 된 토큰 캐싱 여부 (false 인 경우 매 요청 서명 검증)
+        private long maximumSize = 100_000;     // 최대 보관 토큰 수 (만료 시각에 자동 제거)
+    }
+
+    @Getter
+    @Setter
+    public static class Session {
+        private SessionStoreType store = SessionStoreType.MEMORY;
+        private DuplicateLoginPolicy duplicateLogin = DuplicateLoginPolicy.EXPIRE_PREVIOUS;
+        private String keyPrefix = "boilerplate:session:";     // store=redis 인 경우 Key prefix
+        private Duration localCacheTtl = Duration.ofSeconds(1); // store=redis 인 경우 세션 조회 결과 로컬 캐싱 시간
+    }
+}
@@ -0,0 +1,17 @@
+package com.spring.boilerplate.global.security;
+
+import java.util.List;
+
+/**
+ * [Security]
+ * 인증 된 사용자 (SecurityContext Principal)
+ * 검증 된 토큰과 함께 캐싱되어 같은 토큰의 요청에서 재사용 된다.
+ * @param subject 계정 식별자 (토큰 sub)
+ * @param sessionId 세션 식별자 (토큰 sid)
+ * @param roles 권한 목록
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record AuthenticatedUser(String subject, String sessionId, List<String> roles) {
+}
@@ -0,0 +1,89 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.AuthException;
+import com.spring.boilerplate.global.security.session.SessionInfo;
+import com.spring.boilerplate.global.security.session.SessionRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * [Security]
+ * Stateless JWT 인증 Filter
+ * 1. Access Header 의 Bearer 토큰 검증 (AccessTokenVerifier : 검증 결과 Cache)
+ * 2. 토큰의 세션이 계정의 현재 세션인지 확인 (다르면 LOGIN_DUPLICATED, 없으면 UNAUTHORIZED)
+ * 3. 미리 만들어 둔 Authentication 을 SecurityContext 에 설정
+ * 토큰이 없으면 그대로 통과시키고 인가 단계 (AuthErrorResponder) 에서 처리한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final String accessHeader;
+    private final AccessTokenVerifier tokenVerifier;
+    private final SessionRegistry sessionRegistry;
+    private final AuthErrorResponder errorResponder;
+
+    public JwtAuthenticationFilter(String accessHeader, AccessTokenVerifier tokenVerifier,
+                                   SessionRegistry sessionRegistry, AuthErrorResponder errorResponder) {
+        this.accessHeader = accessHeader;
+        this.tokenVerifier = tokenVerifier;
+        this.sessionRegistry = sessionRegistry;
+        this.errorResponder = errorResponder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(accessHeader);
+        if (header == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            VerifiedToken verified = tokenVerifier.verify(token(header));
+            AuthenticatedUser user = verified.user();
+            SessionInfo session = sessionRegistry.find(user.subject());
+            if (session == null) {
+                throw new AuthException(ErrorConstant.UNAUTHORIZED);
+            }
+            if (!session.sessionId().equals(user.sessionId())) {
+                throw new AuthException(ErrorConstant.LOGIN_DUPLICATED);
+            }
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(verified.authentication());
+            SecurityContextHolder.setContext(context);
+        } catch (AuthException e) {
+            SecurityContextHolder.clearContext();
+            errorResponder.reject(response, e.getErrorConstant());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * "Bearer {token}" Header 에서 토큰 추출
+     * @param header Authorization Header 값
+     * @return String
+     * @throws AuthException TOKEN_PARSING, TOKEN_NUll
+     */
+    static String token(String header) {
+        if (!header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw new AuthException(ErrorConstant.TOKEN_PARSING);
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        if (token.isEmpty()) {
+            throw new AuthException(ErrorConstant.TOKEN_NUll);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,130 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.AuthException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.InvalidClaimException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * [Security]
+ * JWT 발급 / 검증 (HS256)
+ * 검증 실패는 원인 별 ErrorConstant 의 AuthException 으로 변환한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+public class JwtTokenProvider {
+    static final String SESSION_CLAIM = "sid";
+    static final String TYPE_CLAIM = "typ";
+    static final String ROLES_CLAIM = "roles";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final byte[] key;
+    private final String issuer;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public JwtTokenProvider(AuthProperties properties) {
+        this.key = signingKey(properties.getSecret());
+        this.issuer = properties.getIssuer();
+        this.accessTokenTtl = properties.getAccessTokenTtl();
+        this.refreshTokenTtl = properties.getRefreshTokenTtl();
+    }
+
+    /**
+     * 토큰 발급
+     * @param type 토큰 종류
+     * @param subject 계정 식별자
+     * @param sessionId 세션 식별자
+     * @param roles 권한 목록
+     * @param now 발급 시각
+     * @return String
+     */
+    public String createToken(TokenType type, String subject, String sessionId, Collection<String> roles, Instant now) {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setIssuer(issuer)
+                .setSubject(subject)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(getTtl(type))))
+                .claim(TYPE_CLAIM, type.getClaim())
+                .claim(SESSION_CLAIM, sessionId)
+                .claim(ROLES_CLAIM, List.copyOf(roles))
+                .signWith(SignatureAlgorithm.HS256, key)
+                .compact();
+    }
+
+    /**
+     * 토큰 검증 및 Claim 해석
+     * @param token 토큰
+     * @param expectedType 기대하는 토큰 종류
+     * @return Claims
+     */
+    public Claims parse(String token, TokenType expectedType) {
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .setSigningKey(key)
+                    .requireIssuer(issuer)
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (ExpiredJwtException e) {
+            throw new AuthException(ErrorConstant.TOKEN_EXPIRED);
+        } catch (SignatureException | InvalidClaimException e) {
+            throw new AuthException(ErrorConstant.TOKEN_NOT_ALLOWED);
+        } catch (MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
+            throw new AuthException(ErrorConstant.TOKEN_PARSING);
+        } catch (JwtException e) {
+            throw new AuthException(ErrorConstant.OTHER_TOKEN_ERROR);
+        }
+        if (!expectedType.getClaim().equals(claims.get(TYPE_CLAIM))) {
+            throw new AuthException(expectedType.getMismatchError());
+        }
+        if (!StringUtils.hasText(claims.getSubject()) || !StringUtils.hasText(claims.get(SESSION_CLAIM, String.class))) {
+            throw new AuthException(ErrorConstant.NOT_EXIST_AUTH_IN_TOKEN);
+        }
+        // 만료 시각이 없는 토큰은 영구히 유효하고 검증 Cache 기간도 정할 수 없으므로 거부
+        if (claims.getExpiration() == null) {
+            throw new AuthException(ErrorConstant.OTHER_TOKEN_ERROR);
+        }
+        return claims;
+    }
+
+    public Duration getTtl(TokenType type) {
+        return type == TokenType.ACCESS ? accessTokenTtl : refreshTokenTtl;
+    }
+
+    private static byte[] signingKey(String secret) {
+        if (!StringUtils.hasText(secret)) {
+            // 로컬 실행 편의용 : 재기동 / 다중 노드 간 토큰이 호환되지 않으므로 운영에서는 반드시 설정
+            log.warn("boilerplate.auth.secret is not set. Using a random signing key.");
+            byte[] random = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret);
+        if (decoded.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("boilerplate.auth.secret must be at least 256 bits (Base64)");
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,32 @@
+package com.spring.boilerplate.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * [Security]
+ * 토큰 SHA-256 Hash (원본 토큰을 Cache Key / 세션 저장소에 보관하지 않기 위해 사용)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    static byte[] sha256(String token) {
+        try {
+            // JWT 는 Base64url + '.' 로만 구성 되므로 ASCII 로 인코딩
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+}
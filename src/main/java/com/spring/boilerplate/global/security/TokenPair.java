@@ -0,0 +1,13 @@
+package com.spring.boilerplate.global.security;
+
+/**
+ * [Security]
+ * 발급 된 Access / Refresh Token
+ * @param accessToken Access Token (Authorization Header)
+ * @param refreshToken Refresh Token (Authorization-Refresh Header)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+}
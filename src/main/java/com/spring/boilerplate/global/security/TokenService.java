@@ -0,0 +1,128 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.AuthException;
+import com.spring.boilerplate.global.security.session.DuplicateLoginPolicy;
+import com.spring.boilerplate.global.security.session.SessionInfo;
+import com.spring.boilerplate.global.security.session.SessionRegistry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * [Security]
+ * 로그인 (토큰 발급), 토큰 재발급, 로그아웃
+ * 계정 당 세션은 1개이며 중복 로그인은 DuplicateLoginPolicy 에 따라 처리한다.
+ * Refresh Token 은 재발급 시 함께 교체되고 (rotation), 세션에는 Hash 만 보관한다.
+ * 재발급 / 로그아웃은 AuthController 로 노출되며, 로그인은 계정 저장소가 없으므로
+ * 애플리케이션의 자격 증명 확인 로직에서 login(subject, roles) 을 호출하여 사용한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class TokenService {
+    private static final int MAX_RETRIES = 3;
+
+    private final JwtTokenProvider tokenProvider;
+    private final SessionRegistry sessionRegistry;
+    private final DuplicateLoginPolicy duplicateLoginPolicy;
+
+    public TokenService(JwtTokenProvider tokenProvider, SessionRegistry sessionRegistry, DuplicateLoginPolicy duplicateLoginPolicy) {
+        this.tokenProvider = tokenProvider;
+        this.sessionRegistry = sessionRegistry;
+        this.duplicateLoginPolicy = duplicateLoginPolicy;
+    }
+
+    /**
+     * 인증 된 계정의 세션 생성 및 토큰 발급
+     * @param subject 계정 식별자
+     * @param roles 권한 목록
+     * @return TokenPair
+     * @throws AuthException LOGIN_DUPLICATED (REJECT_NEW 정책에서 유효한 세션이 있는 경우)
+     */
+    public TokenPair login(String subject, Collection<String> roles) {
+        String sessionId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        TokenPair tokens = issue(subject, sessionId, roles, now);
+        SessionInfo session = session(subject, sessionId, tokens, now);
+
+        if (duplicateLoginPolicy == DuplicateLoginPolicy.REJECT_NEW) {
+            if (!sessionRegistry.registerIfAbsent(session)) {
+                throw new AuthException(ErrorConstant.LOGIN_DUPLICATED);
+            }
+            return tokens;
+        }
+        // EXPIRE_PREVIOUS : 기존 세션을 교체 (동시 로그인 경합 시 재시도)
+        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
+            SessionInfo existing = sessionRegistry.find(subject);
+            if (existing == null ? sessionRegistry.registerIfAbsent(session) : sessionRegistry.replace(existing, session)) {
+                return tokens;
+            }
+        }
+        throw new AuthException(ErrorConstant.LOGIN_DUPLICATED);
+    }
+
+    /**
+     * Refresh Token 으로 토큰 재발급
+     * @param refreshToken Refresh Token
+     * @return TokenPair
+     * @throws AuthException NOT_REFRESH_TOKEN, NOT_MATCHED_REFRESH, LOGIN_DUPLICATED, 토큰 검증 실패
+     */
+    public TokenPair refresh(String refreshToken) {
+        Claims claims = tokenProvider.parse(refreshToken, TokenType.REFRESH);
+        String subject = claims.getSubject();
+        String sessionId = claims.get(JwtTokenProvider.SESSION_CLAIM, String.class);
+
+        SessionInfo session = sessionRegistry.find(subject);
+        if (session == null) {
+            throw new AuthException(ErrorConstant.NOT_MATCHED_REFRESH);
+        }
+        if (!session.sessionId().equals(sessionId)) {
+            throw new AuthException(ErrorConstant.LOGIN_DUPLICATED);
+        }
+        if (!MessageDigest.isEqual(session.refreshTokenHash().getBytes(StandardCharsets.US_ASCII),
+                TokenDigest.sha256Hex(refreshToken).getBytes(StandardCharsets.US_ASCII))) {
+            throw new AuthException(ErrorConstant.NOT_MATCHED_REFRESH);
+        }
+
+        Instant now = Instant.now();
+        TokenPair tokens = issue(subject, sessionId, roles(claims), now);
+        // 같은 Refresh Token 으로 동시에 재발급 요청 시 하나만 성공
+        if (!sessionRegistry.replace(session, session(subject, sessionId, tokens, now))) {
+            throw new AuthException(ErrorConstant.NOT_MATCHED_REFRESH);
+        }
+        return tokens;
+    }
+
+    /**
+     * 로그아웃 (세션 제거, 이후 해당 세션의 토큰은 거부)
+     * @param user 인증 된 사용자
+     */
+    public void logout(AuthenticatedUser user) {
+        sessionRegistry.remove(user.subject(), user.sessionId());
+    }
+
+    private TokenPair issue(String subject, String sessionId, Collection<String> roles, Instant now) {
+        return new TokenPair(
+                tokenProvider.createToken(TokenType.ACCESS, subject, sessionId, roles, now),
+                tokenProvider.createToken(TokenType.REFRESH, subject, sessionId, roles, now));
+    }
+
+    private SessionInfo session(String subject, String sessionId, TokenPair tokens, Instant now) {
+        return new SessionInfo(subject, sessionId, TokenDigest.sha256Hex(tokens.refreshToken()),
+                now.plus(tokenProvider.getTtl(TokenType.REFRESH)).toEpochMilli());
+    }
+
+    private static List<String> roles(Claims claims) {
+        Object roles = claims.get(JwtTokenProvider.ROLES_CLAIM);
+        if (!(roles instanceof List<?> values)) {
+            return List.of();
+        }
+        return values.stream().map(String::valueOf).toList();
+    }
+}
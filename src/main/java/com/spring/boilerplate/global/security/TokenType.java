@@ -0,0 +1,26 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import lombok.Getter;
+
+/**
+ * [Security]
+ * JWT 종류 (typ Claim)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public enum TokenType {
+    ACCESS("access", ErrorConstant.NOT_ACCESS_TOKEN),
+    REFRESH("refresh", ErrorConstant.NOT_REFRESH_TOKEN),
+    ;
+
+    private final String claim;                 // typ Claim 값
+    private final ErrorConstant mismatchError;  // 다른 종류의 토큰이 전달 된 경우의 에러
+
+    TokenType(String claim, ErrorConstant mismatchError) {
+        this.claim = claim;
+        this.mismatchError = mismatchError;
+    }
+}
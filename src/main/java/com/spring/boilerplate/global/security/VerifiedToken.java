@@ -0,0 +1,21 @@
+package com.spring.boilerplate.global.security;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * [Security]
+ * 서명 / Claim 검증을 통과한 Access Token (불변 객체)
+ * 해석 된 Claim 과 SecurityContext 에 넣을 Authentication 을 미리 만들어 두어 Cache 적중 시 그대로 사용한다.
+ * @param user 인증 된 사용자
+ * @param expiresAtMillis 토큰 만료 시각
+ * @param authentication 인증 완료 상태의 Authentication
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record VerifiedToken(AuthenticatedUser user, long expiresAtMillis, Authentication authentication) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
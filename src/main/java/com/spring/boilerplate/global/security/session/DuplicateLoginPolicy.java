@@ -0,0 +1,13 @@
+package com.spring.boilerplate.global.security.session;
+
+/**
+ * [Security]
+ * 같은 계정의 중복 로그인 처리 정책
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public enum DuplicateLoginPolicy {
+    EXPIRE_PREVIOUS,    // 새 로그인 허용, 기존 세션의 토큰은 LOGIN_DUPLICATED 로 거부
+    REJECT_NEW,         // 기존 세션이 유효한 동안 새 로그인을 LOGIN_DUPLICATED 로 거부
+}
@@ -0,0 +1,58 @@
+package com.spring.boilerplate.global.security.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [Security]
+ * 애플리케이션 메모리 세션 저장소 (단일 노드)
+ * ConcurrentHashMap 의 putIfAbsent / replace / remove (값 비교) 만 사용하여 조회 경로에 lock 이 없다.
+ * 만료 된 세션은 조회 시 제거하고, 일정 등록 건수마다 전체를 정리한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class InMemorySessionRegistry implements SessionRegistry {
+    private static final int SWEEP_EVERY_REGISTRATIONS = 1024;
+
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    @Override
+    public SessionInfo find(String subject) {
+        SessionInfo session = sessions.get(subject);
+        if (session != null && session.isExpired(System.currentTimeMillis())) {
+            sessions.remove(subject, session);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public boolean registerIfAbsent(SessionInfo session) {
+        if ((registrations.incrementAndGet() & (SWEEP_EVERY_REGISTRATIONS - 1)) == 0) {
+            long now = System.currentTimeMillis();
+            sessions.values().removeIf(existing -> existing.isExpired(now));
+        }
+        SessionInfo existing = sessions.putIfAbsent(session.subject(), session);
+        if (existing == null) {
+            return true;
+        }
+        // 만료 된 세션은 없는 것으로 간주
+        return existing.isExpired(System.currentTimeMillis()) && sessions.replace(session.subject(), existing, session);
+    }
+
+    @Override
+    public boolean replace(SessionInfo expected, SessionInfo updated) {
+        return sessions.replace(expected.subject(), expected, updated);
+    }
+
+    @Override
+    public void remove(String subject, String sessionId) {
+        SessionInfo session = sessions.get(subject);
+        if (session != null && session.sessionId().equals(sessionId)) {
+            sessions.remove(subject, session);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.spring.boilerplate.global.security.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [Security]
+ * Redis 세션 저장소 (다중 노드 공유)
+ * 값은 "sessionId|refreshTokenHash|expiresAtMillis" 문자열이며 세션 만료 시각을 TTL 로 사용한다.
+ * 교체 / 제거는 Lua script 로 비교 후 변경하고, 매 요청의 세션 조회는 짧은 시간 로컬 캐싱하여
+ * Redis 왕복을 줄인다. (다른 노드에서의 중복 로그인 반영은 최대 local-cache-ttl 만큼 지연)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public class RedisSessionRegistry implements SessionRegistry {
+    private static final RedisScript<Long> REPLACE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0", Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of(
+            "local value = redis.call('GET', KEYS[1]) "
+                    + "if value and string.sub(value, 1, string.len(ARGV[1])) == ARGV[1] then "
+                    + "return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Cache<String, Optional<SessionInfo>> localCache;
+
+    public RedisSessionRegistry(StringRedisTemplate redisTemplate, String keyPrefix, Duration localCacheTtl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(localCacheTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public SessionInfo find(String subject) {
+        Optional<SessionInfo> session = localCache.get(subject,
+                key -> Optional.ofNullable(decode(key, redisTemplate.opsForValue().get(keyPrefix + key))));
+        return session.filter(value -> !value.isExpired(System.currentTimeMillis())).orElse(null);
+    }
+
+    @Override
+    public boolean registerIfAbsent(SessionInfo session) {
+        Duration ttl = ttl(session);
+        if (ttl == null) {
+            return false;
+        }
+        boolean registered = Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(keyPrefix + session.subject(), encode(session), ttl));
+        localCache.invalidate(session.subject());
+        return registered;
+    }
+
+    @Override
+    public boolean replace(SessionInfo expected, SessionInfo updated) {
+        Duration ttl = ttl(updated);
+        if (ttl == null) {
+            return false;
+        }
+        Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(keyPrefix + expected.subject()),
+                encode(expected), encode(updated), Long.toString(ttl.toMillis()));
+        localCache.invalidate(expected.subject());
+        return replaced != null && replaced == 1L;
+    }
+
+    @Override
+    public void remove(String subject, String sessionId) {
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(keyPrefix + subject), sessionId + SEPARATOR);
+        localCache.invalidate(subject);
+    }
+
+    private static Duration ttl(SessionInfo session) {
+        long millis = session.expiresAtMillis() - System.currentTimeMillis();
+        return millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    private static String encode(SessionInfo session) {
+        return session.sessionId() + SEPARATOR + session.refreshTokenHash() + SEPARATOR + session.expiresAtMillis();
+    }
+
+    private static SessionInfo decode(String subject, String value) {
+        if (value == null) {
+            return null;
+        }
+        int first = value.indexOf(SEPARATOR);
+        int second = value.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            return null;
+        }
+        return new SessionInfo(subject, value.substring(0, first), value.substring(first + 1, second),
+                Long.parseLong(value.substring(second + 1)));
+    }
+}
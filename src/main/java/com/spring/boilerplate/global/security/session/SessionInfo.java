@@ -0,0 +1,19 @@
+package com.spring.boilerplate.global.security.session;
+
+/**
+ * [Security]
+ * 계정 별 현재 로그인 세션 (불변 객체)
+ * @param subject 계정 식별자 (토큰 sub)
+ * @param sessionId 세션 식별자 (토큰 sid)
+ * @param refreshTokenHash 발급 된 Refresh Token 의 SHA-256 (Hex)
+ * @param expiresAtMillis 세션 만료 시각 (Refresh Token 만료 시각)
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public record SessionInfo(String subject, String sessionId, String refreshTokenHash, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
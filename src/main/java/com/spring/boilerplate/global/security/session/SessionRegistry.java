@@ -0,0 +1,41 @@
+package com.spring.boilerplate.global.security.session;
+
+/**
+ * [Security]
+ * 계정 별 로그인 세션 저장소 (계정 당 세션 1개)
+ * 모든 변경은 compare-and-set 으로 수행하여 동시 로그인 / 토큰 재발급 경합 시 하나만 성공한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public interface SessionRegistry {
+
+    /**
+     * 현재 세션 조회 (만료 된 세션은 null)
+     * @param subject 계정 식별자
+     * @return SessionInfo
+     */
+    SessionInfo find(String subject);
+
+    /**
+     * 기존 세션이 없는 경우에만 등록
+     * @param session 신규 세션
+     * @return 등록 된 경우 true
+     */
+    boolean registerIfAbsent(SessionInfo session);
+
+    /**
+     * 기존 세션이 expected 와 같은 경우에만 updated 로 교체
+     * @param expected 기존 세션
+     * @param updated 신규 세션
+     * @return 교체 된 경우 true
+     */
+    boolean replace(SessionInfo expected, SessionInfo updated);
+
+    /**
+     * 세션 식별자가 일치하는 경우에만 제거
+     * @param subject 계정 식별자
+     * @param sessionId 세션 식별자
+     */
+    void remove(String subject, String sessionId);
+}
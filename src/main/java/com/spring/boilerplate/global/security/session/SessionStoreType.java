@@ -0,0 +1,13 @@
+package com.spring.boilerplate.global.security.session;
+
+/**
+ * [Security]
+ * 로그인 세션 저장소 종류
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+public enum SessionStoreType {
+    MEMORY,     // 애플리케이션 메모리 (단일 노드)
+    REDIS,      // Redis (다중 노드 공유, spring.data.redis.* 연결 설정 필요)
+}
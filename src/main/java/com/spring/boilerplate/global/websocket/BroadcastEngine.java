@@ -0,0 +1,216 @@
+package com.spring.boilerplate.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.config.async.MdcTaskDecorator;
+import com.spring.boilerplate.global.monitor.MetricsExporter;
+import com.spring.boilerplate.global.monitor.latency.LatencyHistogram;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.NativeWebSocketSession;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [WebSocket]
+ * 다수의 세션에 메시지를 전파하는 Broadcast Engine
+ * 메시지는 1번만 직렬화 되어 모든 세션이 같은 Frame 을 공유하며,
+ * 세션 별 bounded Queue 에 적재 후 세션 별 전송 작업이 비동기로 전송한다.
+ * 지연(lag) 이 임계치를 넘는 느린 소비자는 연결을 종료하여 다른 세션에 영향을 주지 않도록 한다.
+ * 세션은 ConcurrentWebSocketSessionDecorator 로 감싸고 Container 의 blocking send 에도 시간 제한을 두어,
+ * 응답하지 않는 클라이언트가 전송 스레드를 무기한 점유하지 못하도록 한다.
+ * spring.threads.virtual.enabled=true 인 경우 세션 별 전송 작업을 Virtual Thread 로 실행한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BroadcastEngine implements MetricsExporter, DisposableBean {
+    // Tomcat WsRemoteEndpoint 의 blocking send 제한 시간 (Session user property, 기본 값 20초)
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final ObjectMapper objectMapper;
+    private final BroadcastProperties properties;
+    private final Executor executor;
+    private final Map<String, SessionOutbound> sessions = new ConcurrentHashMap<>();
+    private final LatencyHistogram fanOutLatency = new LatencyHistogram(TimeUnit.MINUTES.toNanos(1), 2, 8);
+    private final LongAdder broadcasts = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder coalescedFrames = new LongAdder();
+    private final LongAdder evictedSessions = new LongAdder();
+
+    public BroadcastEngine(ObjectMapper objectMapper, BroadcastProperties properties, Environment environment) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = createExecutor(Threading.VIRTUAL.isActive(environment));
+    }
+
+    private static Executor createExecutor(boolean virtual) {
+        if (virtual) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-broadcast-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new MdcTaskDecorator());
+            return executor;
+        }
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("ws-broadcast-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.shutdown();
+        }
+    }
+
+    void register(WebSocketSession session) {
+        limitBlockingSend(session);
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, properties.getSendTimeLimitMillis(),
+                properties.getSendBufferSizeLimit(), ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        sessions.put(session.getId(), new SessionOutbound(decorated, properties, this, executor));
+    }
+
+    /**
+     * Container 의 blocking send 제한 시간 설정 (초과 시 sendMessage 가 IOException 으로 끝나 세션이 정리 된다)
+     * SockJS 등 jakarta.websocket Session 이 아닌 경우에는 Decorator 의 제한만 적용
+     */
+    private void limitBlockingSend(WebSocketSession session) {
+        if (session instanceof NativeWebSocketSession nativeSession
+                && nativeSession.getNativeSession(Session.class) instanceof Session container) {
+            container.getUserProperties().put(BLOCKING_SEND_TIMEOUT, (long) properties.getSendTimeLimitMillis());
+        }
+    }
+
+    void unregister(WebSocketSession session) {
+        SessionOutbound outbound = sessions.remove(session.getId());
+        if (outbound != null) {
+            outbound.discard();
+        }
+    }
+
+    /**
+     * 전체 세션에 메시지 전파
+     * @param message 전송 할 객체 (JSON 직렬화)
+     */
+    public void broadcast(Object message) {
+        broadcast(null, message);
+    }
+
+    /**
+     * 전체 세션에 메시지 전파 (같은 key 의 미전송 메시지는 마지막 메시지만 전송)
+     * @param coalesceKey 병합 key
+     * @param message 전송 할 객체 (JSON 직렬화)
+     */
+    public void broadcast(String coalesceKey, Object message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Broadcast message serialization failed", e);
+        }
+        BroadcastFrame frame = new BroadcastFrame(coalesceKey, payload);
+        broadcasts.increment();
+        for (SessionOutbound outbound : sessions.values()) {
+            switch (outbound.offer(frame)) {
+                case DROPPED -> droppedFrames.increment();
+                case LAGGING -> evict(outbound, "slow consumer (queued " + outbound.depth() + ")");
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * 연결 된 세션 수
+     * @return int
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 전체 세션의 송신 대기 Frame 수
+     * @return long
+     */
+    public long getQueueDepth() {
+        long depth = 0;
+        for (SessionOutbound outbound : sessions.values()) {
+            depth += outbound.depth();
+        }
+        return depth;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions.sum();
+    }
+
+    void evict(SessionOutbound outbound, String reason) {
+        WebSocketSession session = outbound.getSession();
+        if (sessions.remove(session.getId(), outbound)) {
+            evictedSessions.increment();
+            outbound.discard();
+            log.warn("WebSocket session evicted : {} ({})", session.getId(), reason);
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket session close failed : {}", session.getId(), e);
+            }
+        }
+    }
+
+    void recordFanOutLatency(long nanos) {
+        fanOutLatency.record(nanos);
+    }
+
+    void recordCoalesced() {
+        coalescedFrames.increment();
+    }
+
+    @Override
+    public void export(StringBuilder out) {
+        out.append("# TYPE boilerplate_websocket_sessions gauge\n")
+                .append("boilerplate_websocket_sessions ").append(getSessionCount()).append('\n');
+        out.append("# TYPE boilerplate_websocket_queue_depth gauge\n")
+                .append("boilerplate_websocket_queue_depth ").append(getQueueDepth()).append('\n');
+        out.append("# TYPE boilerplate_websocket_broadcasts_total counter\n")
+                .append("boilerplate_websocket_broadcasts_total ").append(broadcasts.sum()).append('\n');
+        out.append("# TYPE boilerplate_websocket_dropped_frames_total counter\n")
+                .append("boilerplate_websocket_dropped_frames_total ").append(droppedFrames.sum()).append('\n');
+        out.append("# TYPE boilerplate_websocket_coalesced_frames_total counter\n")
+                .append("boilerplate_websocket_coalesced_frames_total ").append(coalescedFrames.sum()).append('\n');
+        out.append("# TYPE boilerplate_websocket_evicted_sessions_total counter\n")
+                .append("boilerplate_websocket_evicted_sessions_total ").append(evictedSessions.sum()).append('\n');
+        Histogram histogram = fanOutLatency.cumulative();
+        out.append("# TYPE boilerplate_websocket_fanout_latency_seconds summary\n");
+        for (double quantile : new double[]{0.5, 0.99, 0.999}) {
+            out.append("boilerplate_websocket_fanout_latency_seconds{quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.getValueAtPercentile(quantile * 100) / 1e9).append('\n');
+        }
+        out.append("boilerplate_websocket_fanout_latency_seconds_count ").append(histogram.getTotalCount()).append('\n');
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.boilerplate.global.websocket;
+
+import lombok.Getter;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * [WebSocket]
+ * 1번만 직렬화 되어 모든 세션이 공유하는 불변 Frame
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+public final class BroadcastFrame {
+    private final String coalesceKey;       // 같은 key 의 미전송 Frame 은 마지막 Frame 만 전송 (null 이면 병합하지 않음)
+    private final String payload;           // 직렬화 된 JSON
+    private final TextMessage message;      // 세션 간 공유되는 WebSocket 메시지
+    private final long createdNanos;        // Broadcast 요청 시각
+
+    BroadcastFrame(String coalesceKey, String payload) {
+        this.coalesceKey = coalesceKey;
+        this.payload = payload;
+        this.message = new TextMessage(payload);
+        this.createdNanos = System.nanoTime();
+    }
+}
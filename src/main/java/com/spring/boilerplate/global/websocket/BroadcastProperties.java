@@ -0,0 +1,27 @@
+package com.spring.boilerplate.global.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [WebSocket]
+ * Broadcast 설정
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boilerplate.websocket.broadcast")
+public class BroadcastProperties {
+    private String endpoint = "/ws/broadcast";          // WebSocket endpoint
+    private String sockJsEndpoint = "/ws/sockjs/broadcast"; // SockJS endpoint
+    private String[] allowedOriginPatterns = {};        // 허용 Origin 패턴 (비어 있으면 Same-Origin 만 허용, 배포 환경에서 명시)
+    private int queueCapacity = 1024;                   // 세션 별 송신 대기 Frame 최대 수 (초과 시 폐기)
+    private int lagThreshold = 512;                     // 대기 Frame 수가 이 값을 넘으면 느린 소비자로 판단하여 연결 종료
+    private long maxLagMillis = 5_000;                  // 가장 오래된 대기 Frame 의 지연 시간 상한
+    private int maxBatchFrames = 64;                    // 한 번에 묶어서 전송 할 최대 Frame 수
+    private int sendTimeLimitMillis = 5_000;            // 1회 전송 (blocking send) 최대 시간 (초과 시 연결 종료)
+    private int sendBufferSizeLimit = 512 * 1024;       // 전송 중 추가로 쌓일 수 있는 세션 별 버퍼 크기 (bytes, 초과 시 연결 종료)
+}
@@ -0,0 +1,37 @@
+package com.spring.boilerplate.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * [WebSocket]
+ * Broadcast 수신 전용 WebSocket Handler
+ * 연결 / 종료 시 BroadcastEngine 에 세션을 등록 / 해제 한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BroadcastWebSocketHandler extends TextWebSocketHandler {
+
+    private final BroadcastEngine broadcastEngine;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        broadcastEngine.register(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        broadcastEngine.unregister(session);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        broadcastEngine.unregister(session);
+    }
+}
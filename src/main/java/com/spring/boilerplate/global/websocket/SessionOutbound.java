@@ -0,0 +1,163 @@
+package com.spring.boilerplate.global.websocket;
+
+import lombok.Getter;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [WebSocket]
+ * 세션 별 bounded 송신 Queue
+ * 적재(offer) 는 여러 스레드에서 lock 없이 수행하고, 전송(drain) 은 세션 당 하나의 작업만 실행 되도록 보장한다.
+ * 전송 시 같은 coalesceKey 의 Frame 은 마지막 Frame 만 남기고, 여러 Frame 은 JSON 배열 1개로 묶어 전송한다.
+ * @author Jayden
+ * @since 2026-10-18
+ * @version 1.0
+ */
+final class SessionOutbound {
+
+    enum OfferResult { QUEUED, DROPPED, LAGGING }
+
+    @Getter
+    private final WebSocketSession session;
+    private final BroadcastProperties properties;
+    private final BroadcastEngine engine;
+    private final Executor executor;
+    private final Queue<BroadcastFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Runnable drainTask = this::drain;
+
+    SessionOutbound(WebSocketSession session, BroadcastProperties properties, BroadcastEngine engine, Executor executor) {
+        this.session = session;
+        this.properties = properties;
+        this.engine = engine;
+        this.executor = executor;
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    /**
+     * Frame 적재
+     * @param frame BroadcastFrame
+     * @return QUEUED, DROPPED (Queue 초과), LAGGING (느린 소비자)
+     */
+    OfferResult offer(BroadcastFrame frame) {
+        int queued = depth.incrementAndGet();
+        if (queued > properties.getQueueCapacity()) {
+            depth.decrementAndGet();
+            return OfferResult.DROPPED;
+        }
+        queue.offer(frame);
+        if (queued > properties.getLagThreshold() || isOldestFrameLate(frame.getCreatedNanos())) {
+            return OfferResult.LAGGING;
+        }
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(drainTask);
+        }
+        return OfferResult.QUEUED;
+    }
+
+    private boolean isOldestFrameLate(long now) {
+        BroadcastFrame oldest = queue.peek();
+        return oldest != null && now - oldest.getCreatedNanos() > properties.getMaxLagMillis() * 1_000_000L;
+    }
+
+    private void drain() {
+        List<BroadcastFrame> batch = new ArrayList<>(Math.min(properties.getMaxBatchFrames(), 16));
+        do {
+            try {
+                while (session.isOpen()) {
+                    batch.clear();
+                    BroadcastFrame frame;
+                    while (batch.size() < properties.getMaxBatchFrames() && (frame = queue.poll()) != null) {
+                        depth.decrementAndGet();
+                        batch.add(frame);
+                    }
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    send(coalesce(batch));
+                }
+            } catch (IOException | RuntimeException e) {
+                engine.evict(this, "send failed : " + e.getMessage());
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 종료 직전에 적재 된 Frame 이 있으면 다시 전송
+        } while (!queue.isEmpty() && session.isOpen() && draining.compareAndSet(false, true));
+    }
+
+    private void send(List<BroadcastFrame> frames) throws IOException {
+        if (frames.size() == 1) {
+            session.sendMessage(frames.get(0).getMessage());
+        } else {
+            int length = 2;
+            for (BroadcastFrame frame : frames) {
+                length += frame.getPayload().length() + 1;
+            }
+            StringBuilder payload = new StringBuilder(length).append('[');
+            for (int i = 0; i < frames.size(); i++) {
+                if (i > 0) {
+                    payload.append(',');
+                }
+                payload.append(frames.get(i).getPayload());
+            }
+            session.sendMessage(new TextMessage(payload.append(']')));
+        }
+        long now = System.nanoTime();
+        for (BroadcastFrame frame : frames) {
+            engine.recordFanOutLatency(now - frame.getCreatedNanos());
+        }
+    }
+
+    /**
+     * 같은 coalesceKey 를 가진 Frame 은 마지막 Frame 만 유지 (순서 유지)
+     */
+    private List<BroadcastFrame> coalesce(List<BroadcastFrame> batch) {
+        boolean keyed = false;
+        for (BroadcastFrame frame : batch) {
+            if (frame.getCoalesceKey() != null) {
+                keyed = true;
+                break;
+            }
+        }
+        if (!keyed || batch.size() == 1) {
+            return batch;
+        }
+        Set<String> seen = new HashSet<>();
+        List<BroadcastFrame> coalesced = new ArrayList<>(batch.size());
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            BroadcastFrame frame = batch.get(i);
+            if (frame.getCoalesceKey() == null || seen.add(frame.getCoalesceKey())) {
+                coalesced.add(frame);
+            } else {
+                engine.recordCoalesced();
+            }
+        }
+        Collections.reverse(coalesced);
+        return coalesced;
+    }
+
+    void discard() {
+        int remaining = 0;
+        while (queue.poll() != null) {
+            remaining++;
+        }
+        depth.addAndGet(-remaining);
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.boilerplate.global.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GcraRateLimiterTests {
+
+    // 10 permits/s -> 요청 1건 당 100ms
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryDelay() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 100, 60_000);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", now)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("client", now)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOnePermitPerEmissionInterval() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 100, 60_000);
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("client", now);
+        }
+
+        assertThat(limiter.tryAcquire("client", now + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+        assertThat(limiter.tryAcquire("client", now + INTERVAL)).isZero();
+        assertThat(limiter.tryAcquire("client", now + INTERVAL)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void restoresFullBurstAfterIdle() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 100, 60_000);
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("client", now);
+        }
+
+        long later = now + INTERVAL * 50;
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("client", later)).isPositive();
+    }
+
+    @Test
+    void tracksClientsIndependently() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 1, 100, 60_000);
+        long now = System.nanoTime();
+
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+        assertThat(limiter.tryAcquire("a", now)).isPositive();
+        assertThat(limiter.tryAcquire("b", now)).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sharesOverflowBucketWhenKeyLimitReached() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 1, 60_000);
+        long now = System.nanoTime();
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(i % 2 == 0 ? "b" : "c", now)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("d", now)).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void sweepsFullBucketsToMakeRoomForNewKeys() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5, 1, 60_000);
+        long now = System.nanoTime();
+        limiter.tryAcquire("a", now);
+
+        long later = now + INTERVAL * 10;
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("b", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("b", later)).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new GcraRateLimiter(0, 1, 100, 60_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GcraRateLimiter(10, 0, 100, 60_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.spring.boilerplate.global.api.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.api.serializer.ApiResponseModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BinaryApiResponseHttpMessageConverterTests {
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().registerModule(new ApiResponseModule());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).registerModule(new ApiResponseModule());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).registerModule(new ApiResponseModule());
+    private final MockMvc mockMvc;
+
+    BinaryApiResponseHttpMessageConverterTests() throws Exception {
+        // WebConfig 와 같은 순서 : JSON -> CBOR -> Smile
+        mockMvc = MockMvcBuilders.standaloneSetup(new SampleController())
+                .setMessageConverters(
+                        new ApiResponseHttpMessageConverter(jsonMapper, new ApiResponseBodyCache(jsonMapper),
+                                new ResponseBodyWriter(new ResponseBodyProperties())),
+                        new BinaryApiResponseHttpMessageConverter(cborMapper, MediaType.APPLICATION_CBOR),
+                        new BinaryApiResponseHttpMessageConverter(smileMapper, BinaryApiResponseHttpMessageConverter.APPLICATION_SMILE))
+                .build();
+    }
+
+    @Test
+    void writesCborWhenAccepted() throws Exception {
+        JsonNode body = cborMapper.readTree(perform("/sample", MediaType.APPLICATION_CBOR));
+
+        assertThat(body.get("status").asText()).isEqualTo("success");
+        assertThat(body.get("data").get("name").asText()).isEqualTo("testA");
+    }
+
+    @Test
+    void writesSmileConstantBodyWhenAccepted() throws Exception {
+        JsonNode body = smileMapper.readTree(perform("/sample/fail", BinaryApiResponseHttpMessageConverter.APPLICATION_SMILE));
+
+        assertThat(body.get("status").asText()).isEqualTo("fail");
+        assertThat(body.get("data").get("errorCode").asText()).isEqualTo(ErrorConstant.BAD_REQUEST.getErrorCode());
+    }
+
+    @Test
+    void keepsJsonForWildcardAccept() throws Exception {
+        JsonNode body = jsonMapper.readTree(perform("/sample", MediaType.ALL));
+
+        assertThat(body.get("data").get("name").asText()).isEqualTo("testA");
+    }
+
+    private byte[] perform(String path, MediaType accept) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).accept(accept))
+                .andExpect(status().isOk())
+                .andReturn();
+        MediaType expected = accept.isWildcardType() ? MediaType.APPLICATION_JSON : accept;
+        assertThat(MediaType.parseMediaType(result.getResponse().getContentType()).isCompatibleWith(expected)).isTrue();
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    @RestController
+    static class SampleController {
+
+        @GetMapping("/sample")
+        public ApiResponse<Map<String, Object>> sample() {
+            return ApiResponse.success(Map.of("name", "testA"));
+        }
+
+        @GetMapping("/sample/fail")
+        public ApiResponse<?> fail() {
+            return ApiResponse.fail(ErrorConstant.BAD_REQUEST);
+        }
+    }
+}
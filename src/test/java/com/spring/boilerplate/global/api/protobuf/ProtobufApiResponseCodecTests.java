@@ -0,0 +1,159 @@
+package com.spring.boilerplate.global.api.protobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.ErrorData;
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProtobufApiResponseCodecTests {
+
+    private static final Descriptors.Descriptor API_RESPONSE = apiResponseDescriptor();
+
+    private final ProtobufApiResponseCodec codec = new ProtobufApiResponseCodec(new ObjectMapper(), List.of(new GreetingMapper()));
+
+    @Test
+    void descriptorMatchesSchemaFile() throws IOException {
+        String schema = new ClassPathResource("proto/api_response.proto").getContentAsString(StandardCharsets.UTF_8);
+
+        for (Descriptors.Descriptor message : List.of(API_RESPONSE, API_RESPONSE.getFile().findMessageTypeByName("ErrorData"))) {
+            for (Descriptors.FieldDescriptor field : message.getFields()) {
+                assertThat(schema).contains(field.getName() + " = " + field.getNumber() + ";");
+            }
+        }
+    }
+
+    @Test
+    void failResponseRoundTrip() throws IOException {
+        byte[] bytes = encode(ApiResponse.fail(ErrorConstant.BAD_REQUEST));
+
+        DynamicMessage message = DynamicMessage.parseFrom(API_RESPONSE, bytes);
+        assertThat(message.getField(field("status"))).isEqualTo("fail");
+        assertThat(message.getField(field("status_code"))).isEqualTo(400);
+        Message error = (Message) message.getField(field("error"));
+        assertThat(error.getField(error.getDescriptorForType().findFieldByName("error_code"))).isEqualTo("ERR_CLIENT_003");
+
+        ApiResponse<?> decoded = codec.decode(bytes);
+        assertThat(decoded.getStatus()).isEqualTo("fail");
+        assertThat(decoded.getStatusCode()).isEqualTo(400);
+        assertThat(((ErrorData) decoded.getData()).getErrorCode()).isEqualTo("ERR_CLIENT_003");
+        assertThat(((ErrorData) decoded.getData()).getErrorMessage()).isEqualTo(ErrorConstant.BAD_REQUEST.getErrorMessage());
+    }
+
+    @Test
+    void unmappedDataRoundTripsAsJson() throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "testA");
+        data.put("age", 30);
+        byte[] bytes = encode(ApiResponse.success(data));
+
+        DynamicMessage message = DynamicMessage.parseFrom(API_RESPONSE, bytes);
+        assertThat(message.getOneofFieldDescriptor(API_RESPONSE.getOneofs().get(0)).getName()).isEqualTo("json");
+
+        ApiResponse<?> decoded = codec.decode(bytes);
+        assertThat(decoded.getStatus()).isEqualTo("success");
+        assertThat(decoded.getStatusCode()).isEqualTo(200);
+        JsonNode json = (JsonNode) decoded.getData();
+        assertThat(json.get("name").asText()).isEqualTo("testA");
+        assertThat(json.get("age").asInt()).isEqualTo(30);
+    }
+
+    @Test
+    void messageAndMappedDataRoundTripAsAny() throws IOException {
+        ApiResponse<?> message = codec.decode(encode(ApiResponse.success(StringValue.of("hello"))));
+        ApiResponse<?> mapped = codec.decode(encode(ApiResponse.success(new Greeting("hi"))));
+
+        assertThat(((Any) message.getData()).unpack(StringValue.class).getValue()).isEqualTo("hello");
+        assertThat(((Any) mapped.getData()).unpack(StringValue.class).getValue()).isEqualTo("hi");
+    }
+
+    @Test
+    void emptySuccessUsesConstantBody() throws IOException {
+        ApiResponse<?> empty = ApiResponse.success();
+
+        assertThat(encode(empty)).isEqualTo(codec.getConstantBody(empty));
+        assertThat(codec.decode(codec.getConstantBody(empty)).getData()).isNull();
+    }
+
+    private byte[] encode(ApiResponse<?> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(response, out);
+        return out.toByteArray();
+    }
+
+    private static Descriptors.FieldDescriptor field(String name) {
+        return API_RESPONSE.findFieldByName(name);
+    }
+
+    /**
+     * src/main/resources/proto/api_response.proto 와 같은 구조의 Descriptor (코드 생성 없이 DynamicMessage 로 검증)
+     */
+    private static Descriptors.Descriptor apiResponseDescriptor() {
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("api_response.proto")
+                .setPackage("boilerplate.api")
+                .setSyntax("proto3")
+                .addDependency("google/protobuf/any.proto")
+                .addMessageType(DescriptorProto.newBuilder().setName("ApiResponse")
+                        .addOneofDecl(OneofDescriptorProto.newBuilder().setName("data"))
+                        .addField(field("status", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("status_code", 2, FieldDescriptorProto.Type.TYPE_INT32))
+                        .addField(field("error", 3, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                .setTypeName(".boilerplate.api.ErrorData").setOneofIndex(0))
+                        .addField(field("payload", 4, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                .setTypeName(".google.protobuf.Any").setOneofIndex(0))
+                        .addField(field("json", 5, FieldDescriptorProto.Type.TYPE_BYTES).setOneofIndex(0)))
+                .addMessageType(DescriptorProto.newBuilder().setName("ErrorData")
+                        .addField(field("error_code", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("error_message", 2, FieldDescriptorProto.Type.TYPE_STRING)))
+                .build();
+        try {
+            return Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[]{AnyProto.getDescriptor()})
+                    .findMessageTypeByName("ApiResponse");
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    record Greeting(String text) {
+    }
+
+    static class GreetingMapper implements ProtobufPayloadMapper<Greeting> {
+
+        @Override
+        public Class<Greeting> getPayloadType() {
+            return Greeting.class;
+        }
+
+        @Override
+        public Message toMessage(Greeting payload) {
+            return StringValue.of(payload.text());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.spring.boilerplate.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.cache.remote.InMemoryRemoteCacheStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTests {
+
+    private static final int WAITERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void coalescesConcurrentMissesIntoOneLoad() throws Exception {
+        TwoTierCache cache = localCache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "value";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(executor.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        awaitCoalesced(cache, WAITERS);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        for (Future<String> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getLoadSuccessCount()).isEqualTo(1);
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void propagatesLoaderFailureToLeaderAndWaitersWithoutCaching() throws Exception {
+        TwoTierCache cache = localCache();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+            loading.countDown();
+            release.await();
+            throw new IllegalStateException("origin down");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = executor.submit(() -> cache.get("key", () -> "other"));
+        awaitCoalesced(cache, 1);
+        release.countDown();
+
+        for (Future<String> future : List.of(leader, waiter)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("origin down");
+        }
+        assertThat(cache.getLoadFailureCount()).isEqualTo(1);
+        assertThat(cache.get("key")).isNull();
+
+        // 실패는 캐싱 되지 않으므로 다음 요청은 다시 로딩
+        assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void propagatesLoaderErrorToWaitersUnwrapped() throws Exception {
+        TwoTierCache cache = localCache();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+            loading.countDown();
+            release.await();
+            throw new LinkageError("origin error");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = executor.submit(() -> cache.get("key", () -> "other"));
+        awaitCoalesced(cache, 1);
+        release.countDown();
+
+        for (Future<String> future : List.of(leader, waiter)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .cause().isInstanceOf(LinkageError.class).hasMessage("origin error");
+        }
+    }
+
+    @Test
+    void cachesNullResultWhenAllowed() {
+        TwoTierCache cache = localCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("key", () -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "value";
+        })).isNull();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void promotesRemoteHitToLocalCache() {
+        InMemoryRemoteCacheStore remote = new InMemoryRemoteCacheStore();
+        TwoTierCacheProperties.Spec spec = new TwoTierCacheProperties.Spec();
+        CacheValueCodec codec = new CacheValueCodec(new ObjectMapper(), List.of("java.lang."));
+        TwoTierCache writer = new TwoTierCache("members", spec, "test:", remote, null, codec, "node-a");
+        TwoTierCache reader = new TwoTierCache("members", spec, "test:", remote, null, codec, "node-b");
+        writer.put("key", "value");
+
+        assertThat(reader.get("key", () -> "loaded")).isEqualTo("value");
+        assertThat(reader.getRemoteHitCount()).isEqualTo(1);
+        assertThat(reader.getLoadSuccessCount()).isZero();
+
+        reader.get("key");
+        assertThat(reader.getRemoteHitCount()).isEqualTo(1);
+    }
+
+    private static TwoTierCache localCache() {
+        TwoTierCacheProperties.Spec spec = new TwoTierCacheProperties.Spec();
+        spec.setRemoteEnabled(false);
+        return new TwoTierCache("members", spec, "test:", null, null, null, "node-a");
+    }
+
+    private static void awaitCoalesced(TwoTierCache cache, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.getCoalescedCount() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("coalesced " + cache.getCoalescedCount() + " < " + expected);
+            }
+            Thread.sleep(1);
+        }
+    }
+}
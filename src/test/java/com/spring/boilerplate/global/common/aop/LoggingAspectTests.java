@@ -0,0 +1,38 @@
+package com.spring.boilerplate.global.common.aop;
+
+import com.spring.boilerplate.domain.TestController;
+import com.spring.boilerplate.global.batch.BatchController;
+import com.spring.boilerplate.global.config.swagger.StaticOpenApiController;
+import com.spring.boilerplate.global.exception.handler.GlobalApiExceptionHandler;
+import com.spring.boilerplate.global.monitor.MetricsController;
+import com.spring.boilerplate.global.monitor.latency.LatencyController;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.AopUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingAspectTests {
+
+    private final AspectJExpressionPointcut pointcut = pointcut();
+
+    @Test
+    void coversApplicationControllers() {
+        assertThat(AopUtils.canApply(pointcut, TestController.class)).isTrue();
+        assertThat(AopUtils.canApply(pointcut, BatchController.class)).isTrue();
+        assertThat(AopUtils.canApply(pointcut, StaticOpenApiController.class)).isTrue();
+    }
+
+    @Test
+    void excludesMonitoringEndpointsAndAdvice() {
+        assertThat(AopUtils.canApply(pointcut, MetricsController.class)).isFalse();
+        assertThat(AopUtils.canApply(pointcut, LatencyController.class)).isFalse();
+        assertThat(AopUtils.canApply(pointcut, GlobalApiExceptionHandler.class)).isFalse();
+    }
+
+    private static AspectJExpressionPointcut pointcut() {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut(LoggingAspect.class, new String[0], new Class<?>[0]);
+        pointcut.setExpression("com.spring.boilerplate.global.common.aop.LoggingAspect.pointCut()");
+        return pointcut;
+    }
+}
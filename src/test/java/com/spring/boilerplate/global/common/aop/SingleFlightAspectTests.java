@@ -0,0 +1,194 @@
+package com.spring.boilerplate.global.common.aop;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.common.route.RouteRegistry;
+import com.spring.boilerplate.global.exception.AuthException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightAspectTests {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private SingleFlightAspect aspect;
+    private ItemService service;
+    private ItemService proxy;
+
+    @BeforeEach
+    void setUp() {
+        RouteRegistry routeRegistry = new RouteRegistry(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+        aspect = new SingleFlightAspect(new SingleFlightProperties(), routeRegistry);
+        service = new ItemService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(service);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sharesLeaderFailureWithWaitersAndDoesNotReuseIt() throws Exception {
+        Future<String> leader = submit(proxy::failing);
+        assertThat(service.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = submit(proxy::failing);
+        awaitMetric("boilerplate_single_flight_waiters 1");
+        service.release.countDown();
+
+        Throwable leaderFailure = failureOf(leader);
+        Throwable waiterFailure = failureOf(waiter);
+        assertThat(leaderFailure).isInstanceOf(IllegalStateException.class).hasMessage("origin down");
+        assertThat(waiterFailure).isInstanceOf(SharedFailureException.class).isNotSameAs(leaderFailure).hasCause(leaderFailure);
+        assertThat(service.calls).hasValue(1);
+        assertThat(metrics()).contains("outcome=\"shared_failure\"} 1");
+
+        // 실패 결과는 재사용하지 않으므로 다음 요청은 다시 실행
+        assertThatThrownBy(() -> inRequest(proxy::failing)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.calls).hasValue(2);
+    }
+
+    @Test
+    void copiesBusinessFailurePerWaiter() throws Exception {
+        Future<String> leader = submit(proxy::rejected);
+        assertThat(service.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = submit(proxy::rejected);
+        awaitMetric("boilerplate_single_flight_waiters 1");
+        service.release.countDown();
+
+        Throwable leaderFailure = failureOf(leader);
+        Throwable waiterFailure = failureOf(waiter);
+        assertThat(waiterFailure).isInstanceOf(AuthException.class).isNotSameAs(leaderFailure);
+        assertThat(((AuthException) waiterFailure).getErrorConstant()).isEqualTo(ErrorConstant.TOKEN_EXPIRED);
+        assertThat(service.calls).hasValue(1);
+    }
+
+    @Test
+    void waiterExecutesItselfAfterTimeout() throws Exception {
+        Future<String> leader = submit(proxy::slow);
+        assertThat(service.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long started = System.nanoTime();
+        String waiterResult = inRequest(proxy::slow);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(waiterResult).isEqualTo("slow-2");
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50);
+        assertThat(leader.isDone()).isFalse();
+        service.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow-1");
+        assertThat(metrics()).contains("outcome=\"timeout\"} 1");
+    }
+
+    @Test
+    void reusesResultOnlyWithinReuseWindow() throws Exception {
+        String first = inRequest(proxy::reusable);
+        String reused = inRequest(proxy::reusable);
+
+        assertThat(reused).isSameAs(first);
+        assertThat(service.calls).hasValue(1);
+        assertThat(metrics()).contains("outcome=\"reused\"} 1");
+
+        Thread.sleep(150);
+        String refreshed = inRequest(proxy::reusable);
+
+        assertThat(refreshed).isEqualTo("reusable-2");
+        assertThat(service.calls).hasValue(2);
+    }
+
+    private Future<String> submit(Callable<String> call) {
+        return executor.submit(() -> inRequest(call));
+    }
+
+    private static String inRequest(Callable<String> call) throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/items")));
+        try {
+            return call.call();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static Throwable failureOf(Future<String> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("expected failure");
+    }
+
+    private String metrics() {
+        StringBuilder out = new StringBuilder();
+        aspect.export(out);
+        return out.toString();
+    }
+
+    private void awaitMetric(String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!metrics().contains(expected)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("metric not reached : " + expected);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    static class ItemService {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight
+        public String failing() throws InterruptedException {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("origin down");
+        }
+
+        @SingleFlight
+        public String rejected() throws InterruptedException {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new AuthException(ErrorConstant.TOKEN_EXPIRED);
+        }
+
+        @SingleFlight(timeoutMillis = 50)
+        public String slow() throws InterruptedException {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return "slow-" + call;
+        }
+
+        @SingleFlight(reuseMillis = 100)
+        public String reusable() {
+            return "reusable-" + calls.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.spring.boilerplate.global.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditPipelineTests {
+
+    @Test
+    void dropOldestKeepsNewestEvents() {
+        AuditPipeline pipeline = pipeline(OverflowPolicy.DROP_OLDEST, 4);
+
+        publish(pipeline, 10);
+
+        assertThat(pipeline.getPublishedCount()).isEqualTo(10);
+        assertThat(pipeline.getDroppedCount()).isEqualTo(6);
+        assertThat(pipeline.getQueuedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void sampleAdmitsOneInRateAboveHalfCapacity() {
+        AuditProperties properties = properties(OverflowPolicy.SAMPLE, 8);
+        properties.setSampleRate(2);
+        AuditPipeline pipeline = new AuditPipeline(properties, new ObjectMapper());
+
+        // 절반 (4) 까지 5건 적재, 이후 2건 중 1건 적재하여 8건에서 가득 참
+        publish(pipeline, 13);
+
+        assertThat(pipeline.getPublishedCount()).isEqualTo(8);
+        assertThat(pipeline.getDroppedCount()).isEqualTo(5);
+        assertThat(pipeline.getQueuedCount()).isEqualTo(8);
+    }
+
+    @Test
+    void blockDropsAfterTimeoutWhenBufferStaysFull() {
+        AuditProperties properties = properties(OverflowPolicy.BLOCK, 2);
+        properties.setBlockTimeoutMillis(50);
+        AuditPipeline pipeline = new AuditPipeline(properties, new ObjectMapper());
+        publish(pipeline, 2);
+
+        long started = System.nanoTime();
+        publish(pipeline, 1);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50);
+        assertThat(pipeline.getPublishedCount()).isEqualTo(2);
+        assertThat(pipeline.getDroppedCount()).isEqualTo(1);
+    }
+
+    private static AuditPipeline pipeline(OverflowPolicy policy, int capacity) {
+        return new AuditPipeline(properties(policy, capacity), new ObjectMapper());
+    }
+
+    private static AuditProperties properties(OverflowPolicy policy, int capacity) {
+        AuditProperties properties = new AuditProperties();
+        properties.setOverflowPolicy(policy);
+        properties.setCapacity(capacity);
+        return properties;
+    }
+
+    private static void publish(AuditPipeline pipeline, int count) {
+        for (int i = 0; i < count; i++) {
+            pipeline.publish(null, new Object[]{i}, null, null, 0);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.spring.boilerplate.global.common.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTests {
+
+    private static final String[] MDC_KEYS = {"correlationId"};
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new AuditRingBuffer(1, MDC_KEYS).capacity()).isEqualTo(2);
+        assertThat(new AuditRingBuffer(8, MDC_KEYS).capacity()).isEqualTo(8);
+        assertThat(new AuditRingBuffer(9, MDC_KEYS).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void rejectsClaimWhenFullAndAcceptsAfterRelease() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4, MDC_KEYS);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            buffer.publish(buffer.tryClaim());
+        }
+
+        assertThat(buffer.tryClaim()).isEqualTo(AuditRingBuffer.NONE);
+        assertThat(buffer.size()).isEqualTo(4);
+
+        long oldest = buffer.tryConsume();
+        assertThat(oldest).isZero();
+        buffer.release(oldest);
+
+        assertThat(buffer.tryClaim()).isEqualTo(4);
+    }
+
+    @Test
+    void doesNotConsumeClaimedButUnpublishedSlot() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4, MDC_KEYS);
+        assertThat(buffer.tryConsume()).isEqualTo(AuditRingBuffer.NONE);
+
+        long position = buffer.tryClaim();
+        assertThat(buffer.tryConsume()).isEqualTo(AuditRingBuffer.NONE);
+
+        buffer.publish(position);
+        assertThat(buffer.tryConsume()).isEqualTo(position);
+    }
+
+    @Test
+    void reusesSlotsAcrossManyWraparounds() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4, MDC_KEYS);
+        long expected = 0;
+        for (int lap = 0; lap < 1_000; lap++) {
+            for (int i = 0; i < 3; i++) {
+                long claimed = buffer.tryClaim();
+                assertThat(claimed).isEqualTo(expected + i);
+                buffer.get(claimed).fill(null, new Object[]{claimed}, null, null, 0);
+                buffer.publish(claimed);
+            }
+            for (int i = 0; i < 3; i++) {
+                long consumed = buffer.tryConsume();
+                assertThat(consumed).isEqualTo(expected + i);
+                assertThat(buffer.get(consumed).getArgs()).containsExactly(consumed);
+                buffer.release(consumed);
+                assertThat(buffer.get(consumed).getArgs()).isNull();
+            }
+            expected += 3;
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void deliversEveryEventOnceWithConcurrentProducers() throws InterruptedException {
+        AuditRingBuffer buffer = new AuditRingBuffer(64, MDC_KEYS);
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    long position;
+                    while ((position = buffer.tryClaim()) == AuditRingBuffer.NONE) {
+                        Thread.onSpinWait();
+                    }
+                    buffer.publish(position);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        long consumed = 0;
+        long previous = -1;
+        while (consumed < (long) producers * perProducer && System.nanoTime() < deadline) {
+            long position = buffer.tryConsume();
+            if (position == AuditRingBuffer.NONE) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertThat(position).isEqualTo(previous + 1);
+            previous = position;
+            buffer.release(position);
+            consumed++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(consumed).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.tryConsume()).isEqualTo(AuditRingBuffer.NONE);
+    }
+}
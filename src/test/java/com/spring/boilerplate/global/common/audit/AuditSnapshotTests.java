@@ -0,0 +1,66 @@
+package com.spring.boilerplate.global.common.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditSnapshotTests {
+
+    private final AuditSnapshot snapshot = new AuditSnapshot(properties());
+
+    @Test
+    void copiesDtoSoLaterMutationIsNotVisible() {
+        MemberDTO member = new MemberDTO("jayden", new ArrayList<>(List.of("a", "b")));
+
+        Object copy = snapshot.value(member);
+        member.name = "changed";
+        member.tags.add("c");
+
+        assertThat(copy).isEqualTo(Map.of("name", "jayden", "tags", List.of("a", "b")));
+    }
+
+    @Test
+    void replacesServletObjectsWithTypeName() {
+        Object[] args = snapshot.args(new Object[]{new MockHttpServletRequest(), 1L, LocalDate.of(2026, 10, 18)});
+
+        assertThat(args).containsExactly("(ServletRequest)", 1L, LocalDate.of(2026, 10, 18));
+    }
+
+    @Test
+    void boundsCollectionsAndUnwrapsResponseEntity() {
+        Object copy = snapshot.value(ResponseEntity.ok(List.of(1, 2, 3, 4, 5)));
+
+        assertThat(copy).isEqualTo(List.of(1, 2, 3, "...(+2 more)"));
+    }
+
+    @Test
+    void rendersNonApplicationObjectsWithToString() {
+        StringBuilder builder = new StringBuilder("mutable");
+
+        assertThat(snapshot.value(builder)).isEqualTo("mutable");
+        assertThat(snapshot.value(new Thread("worker"))).asString().contains("worker");
+    }
+
+    private static AuditProperties properties() {
+        AuditProperties properties = new AuditProperties();
+        properties.setMaxCollectionElements(3);
+        return properties;
+    }
+
+    static class MemberDTO {
+        String name;
+        List<String> tags;
+
+        MemberDTO(String name, List<String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+    }
+}
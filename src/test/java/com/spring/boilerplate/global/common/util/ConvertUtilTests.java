@@ -0,0 +1,135 @@
+package com.spring.boilerplate.global.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StopWatch;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConvertUtilTests {
+
+    @Test
+    void convertsNestedDtoAndSuperclassFields() {
+        MemberDTO member = new MemberDTO();
+        member.id = 1L;
+        member.name = "jayden";
+        member.address = new AddressDTO("Seoul", "04524");
+
+        Map<String, Object> map = ConvertUtil.convertObjectToMap(member);
+
+        assertThat(map).containsEntry("id", 1L).containsEntry("name", "jayden");
+        assertThat(map.get("address")).isEqualTo(Map.of("city", "Seoul", "zipCode", "04524"));
+    }
+
+    @Test
+    void convertsRecordComponents() {
+        Map<String, Object> map = ConvertUtil.convertObjectToMap(new OrderRecord("A-1", new AddressDTO("Busan", "48058")));
+
+        assertThat(map).containsOnlyKeys("orderNo", "shipping").containsEntry("orderNo", "A-1");
+        assertThat(map.get("shipping")).isEqualTo(Map.of("city", "Busan", "zipCode", "48058"));
+    }
+
+    @Test
+    void marksCycleButConvertsSharedReference() {
+        Parent parent = new Parent();
+        Child child = new Child();
+        parent.first = child;
+        parent.second = child;
+        child.parent = parent;
+
+        Map<String, Object> map = ConvertUtil.convertObjectToMap(parent);
+
+        // 같은 객체를 형제 필드에서 다시 참조하는 것은 순환이 아님
+        assertThat(map.get("first")).isEqualTo(Map.of("parent", "(cycle)"));
+        assertThat(map.get("second")).isEqualTo(Map.of("parent", "(cycle)"));
+    }
+
+    @Test
+    void rendersNestedDtoBeyondMaxDepthWithToString() {
+        Node chain = null;
+        for (int i = 10; i >= 1; i--) {
+            chain = new Node(i, chain);
+        }
+
+        Object current = ConvertUtil.convertObjectToMap(chain);
+        for (int level = 1; level <= 8; level++) {
+            assertThat(current).as("level %d", level).isInstanceOf(Map.class);
+            assertThat(((Map<?, ?>) current).get("level")).isEqualTo(level);
+            current = ((Map<?, ?>) current).get("next");
+        }
+        assertThat(current).isInstanceOf(String.class).asString().startsWith("Node[level=9");
+    }
+
+    @Test
+    void leavesNonApplicationTypesAsIs() {
+        Holder holder = new Holder();
+        holder.tags = new ArrayList<>(List.of("a", "b"));
+        holder.date = LocalDate.of(2026, 10, 18);
+        holder.stopWatch = new StopWatch("task");
+
+        Map<String, Object> map = ConvertUtil.convertObjectToMap(holder);
+
+        // JDK 타입은 같은 인스턴스 그대로, 외부 라이브러리 객체는 toString() 결과
+        assertThat(map.get("tags")).isSameAs(holder.tags);
+        assertThat(map.get("date")).isSameAs(holder.date);
+        assertThat(map.get("stopWatch")).isEqualTo(holder.stopWatch.toString());
+        assertThat(ConvertUtil.isConvertibleType(StopWatch.class)).isFalse();
+        assertThat(ConvertUtil.isConvertibleType(Holder.class)).isTrue();
+    }
+
+    @Test
+    void forEachFieldDoesNotConvertNestedValues() {
+        AddressDTO address = new AddressDTO("Seoul", "04524");
+        OrderRecord order = new OrderRecord("A-1", address);
+        List<Object> values = new ArrayList<>();
+
+        ConvertUtil.forEachField(order, (name, value) -> values.add(value));
+
+        assertThat(values).containsExactly("A-1", address);
+    }
+
+    static class BaseDTO {
+        Long id;
+    }
+
+    static class MemberDTO extends BaseDTO {
+        String name;
+        AddressDTO address;
+    }
+
+    static class AddressDTO {
+        private static final String COUNTRY = "KR";  // static 필드는 변환 대상 아님
+        final String city;
+        final String zipCode;
+
+        AddressDTO(String city, String zipCode) {
+            this.city = city;
+            this.zipCode = zipCode;
+        }
+    }
+
+    record OrderRecord(String orderNo, AddressDTO shipping) {
+    }
+
+    record Node(int level, Node next) {
+    }
+
+    static class Parent {
+        Child first;
+        Child second;
+    }
+
+    static class Child {
+        Parent parent;
+    }
+
+    static class Holder {
+        List<String> tags;
+        LocalDate date;
+        StopWatch stopWatch;
+    }
+}
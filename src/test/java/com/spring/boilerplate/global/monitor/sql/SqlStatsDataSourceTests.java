@@ -0,0 +1,96 @@
+package com.spring.boilerplate.global.monitor.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatsDataSourceTests {
+
+    private SqlStatsRegistry registry;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-stats-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        registry = new SqlStatsRegistry(new SqlStatsProperties());
+        dataSource = JdbcProxies.dataSource(h2, registry);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE member (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        }
+    }
+
+    @Test
+    void aggregatesByNormalizedSql() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO member (id, name) VALUES (?, ?)")) {
+                for (int i = 1; i <= 3; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "name-" + i);
+                    insert.executeUpdate();
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (int i = 1; i <= 3; i++) {
+                    try (ResultSet rs = statement.executeQuery("SELECT * FROM member WHERE id >= " + i + " AND name <> 'x'")) {
+                        while (rs.next()) {
+                            rs.getLong(1);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, SqlStatementSnapshot> stats = statsBySql();
+        SqlStatementSnapshot insert = stats.get("INSERT INTO member (id, name) VALUES (?)");
+        assertThat(insert.getCount()).isEqualTo(3);
+        assertThat(insert.getRows()).isEqualTo(3);
+
+        SqlStatementSnapshot select = stats.get("SELECT * FROM member WHERE id >= ? AND name <> ?");
+        assertThat(select.getCount()).isEqualTo(3);
+        assertThat(select.getRows()).isEqualTo(3 + 2 + 1);
+        assertThat(select.getErrors()).isZero();
+    }
+
+    @Test
+    void recordsErrors() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            assertThatThrownBy(() -> statement.executeQuery("SELECT missing FROM member"))
+                    .isInstanceOf(SQLException.class);
+        }
+        assertThat(statsBySql().get("SELECT missing FROM member").getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void unwrapsToTarget() throws SQLException {
+        assertThat(dataSource.isWrapperFor(JdbcDataSource.class)).isTrue();
+        assertThat(dataSource.unwrap(JdbcDataSource.class)).isInstanceOf(JdbcDataSource.class);
+        assertThat(JdbcProxies.isProxy(dataSource)).isTrue();
+    }
+
+    @Test
+    void normalizesLiteralsCommentsAndLists() {
+        assertThat(SqlNormalizer.normalize("select /* hint */ *\n  from t1 where a in (1, 2,3) and b = 'it''s' -- tail", 1024))
+                .isEqualTo("select * from t1 where a in (?) and b = ?");
+        assertThat(SqlNormalizer.normalize("insert into t (a) values (1), (2), (3)", 1024))
+                .isEqualTo("insert into t (a) values (?)");
+    }
+
+    private Map<String, SqlStatementSnapshot> statsBySql() {
+        List<SqlStatementSnapshot> top = registry.top(100, "count");
+        return top.stream().collect(Collectors.toMap(SqlStatementSnapshot::getSql, snapshot -> snapshot));
+    }
+}
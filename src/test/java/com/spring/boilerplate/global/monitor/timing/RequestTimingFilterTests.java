@@ -0,0 +1,89 @@
+package com.spring.boilerplate.global.monitor.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.boilerplate.global.api.ApiResponse;
+import com.spring.boilerplate.global.api.converter.ApiResponseBodyCache;
+import com.spring.boilerplate.global.api.converter.ApiResponseHttpMessageConverter;
+import com.spring.boilerplate.global.api.converter.ResponseBodyProperties;
+import com.spring.boilerplate.global.api.converter.ResponseBodyWriter;
+import com.spring.boilerplate.global.api.serializer.ApiResponseModule;
+import com.spring.boilerplate.global.monitor.latency.LatencyProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestTimingFilterTests {
+    private static final String CORRELATION_HEADER = "X-Correlation-Id";
+
+    private final MockMvc mockMvc;
+
+    RequestTimingFilterTests() throws Exception {
+        RequestTimingProperties properties = new RequestTimingProperties();
+        properties.setServerTimingHeader(true);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new ApiResponseModule());
+        mockMvc = MockMvcBuilders.standaloneSetup(new SampleController())
+                .setMessageConverters(new ApiResponseHttpMessageConverter(objectMapper, new ApiResponseBodyCache(objectMapper),
+                        new ResponseBodyWriter(new ResponseBodyProperties())))
+                .addInterceptors(new RequestTimingInterceptor())
+                .addFilters(new RequestTimingFilter(properties, new RequestPhaseHistograms(new LatencyProperties())))
+                .build();
+    }
+
+    @Test
+    void writesServerTimingBeforeBodyAndEchoesCorrelationId() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sample").header(CORRELATION_HEADER, "req-123_abc.1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CORRELATION_HEADER, "req-123_abc.1"))
+                .andReturn();
+
+        assertThat(result.getResponse().getHeaders(RequestTimer.SERVER_TIMING_HEADER))
+                .singleElement().asString().contains("bind;dur=").contains("total;dur=");
+    }
+
+    @Test
+    void writesServerTimingAtFilterExitWithoutBody() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sample/empty"))
+                .andExpect(status().isNoContent())
+                .andReturn();
+
+        assertThat(result.getResponse().getHeaders(RequestTimer.SERVER_TIMING_HEADER))
+                .singleElement().asString().contains("total;dur=");
+        assertThat(result.getResponse().getHeader(CORRELATION_HEADER)).matches("[0-9a-f]{16}");
+    }
+
+    @Test
+    void replacesMalformedCorrelationId() throws Exception {
+        for (String malformed : new String[]{"bad id\r\nX-Injected: 1", "a".repeat(65), "id;drop", ""}) {
+            String correlationId = mockMvc.perform(get("/sample").header(CORRELATION_HEADER, malformed))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(CORRELATION_HEADER);
+
+            assertThat(correlationId).as(malformed).matches("[0-9a-f]{16}");
+        }
+    }
+
+    @RestController
+    static class SampleController {
+
+        @GetMapping("/sample")
+        public ApiResponse<Map<String, Object>> sample() {
+            return ApiResponse.success(Map.of("name", "testA"));
+        }
+
+        @GetMapping("/sample/empty")
+        public ResponseEntity<Void> empty() {
+            return ResponseEntity.noContent().build();
+        }
+    }
+}
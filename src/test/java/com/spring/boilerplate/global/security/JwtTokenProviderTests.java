@@ -0,0 +1,48 @@
+package com.spring.boilerplate.global.security;
+
+import com.spring.boilerplate.global.api.constant.ErrorConstant;
+import com.spring.boilerplate.global.exception.AuthException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTests {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(properties());
+
+    @Test
+    void parsesIssuedToken() {
+        String token = tokenProvider.createToken(TokenType.ACCESS, "jayden", "sid-1", List.of("USER"), Instant.now());
+
+        assertThat(tokenProvider.parse(token, TokenType.ACCESS).getSubject()).isEqualTo("jayden");
+    }
+
+    @Test
+    void rejectsTokenWithoutExpiration() {
+        String token = Jwts.builder()
+                .setIssuer("boilerplate")
+                .setSubject("jayden")
+                .claim(JwtTokenProvider.TYPE_CLAIM, TokenType.ACCESS.getClaim())
+                .claim(JwtTokenProvider.SESSION_CLAIM, "sid-1")
+                .signWith(SignatureAlgorithm.HS256, KEY)
+                .compact();
+
+        assertThatThrownBy(() -> tokenProvider.parse(token, TokenType.ACCESS))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorConstant").isEqualTo(ErrorConstant.OTHER_TOKEN_ERROR);
+    }
+
+    private static AuthProperties properties() {
+        AuthProperties properties = new AuthProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(KEY));
+        return properties;
+    }
+}